@@ -0,0 +1,79 @@
+package com.taobao.hsf.app.spring.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.util.ClassUtils;
+
+import com.taobao.hsf.model.metadata.MethodSpecial;
+
+/**
+ * Stub of the HSF consumer bean, so that the benchmarks run without HSF. The consumer is a proxy doing nothing.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFSpringConsumerBean implements FactoryBean<Object> {
+
+	private String interfaceName;
+
+	private String version;
+
+	private String group;
+
+	private String target;
+
+	private MethodSpecial[] methodSpecials;
+
+	private Object consumer;
+
+	public void init() throws ClassNotFoundException {
+		Class<?> serviceInterface = ClassUtils.forName(interfaceName, ClassUtils.getDefaultClassLoader());
+		consumer = Proxy.newProxyInstance(serviceInterface.getClassLoader(), new Class<?>[] { serviceInterface },
+				new InvocationHandler() {
+
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) {
+						return null;
+					}
+				});
+	}
+
+	@Override
+	public Object getObject() {
+		return consumer;
+	}
+
+	@Override
+	public Class<?> getObjectType() {
+		return consumer != null ? consumer.getClass() : null;
+	}
+
+	@Override
+	public boolean isSingleton() {
+		return true;
+	}
+
+	public void setInterfaceName(String interfaceName) {
+		this.interfaceName = interfaceName;
+	}
+
+	public void setVersion(String version) {
+		this.version = version;
+	}
+
+	public void setGroup(String group) {
+		this.group = group;
+	}
+
+	public void setTarget(String target) {
+		this.target = target;
+	}
+
+	public void setMethodSpecials(MethodSpecial[] methodSpecials) {
+		this.methodSpecials = methodSpecials;
+	}
+}
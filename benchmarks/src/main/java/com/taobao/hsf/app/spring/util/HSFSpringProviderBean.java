@@ -0,0 +1,95 @@
+package com.taobao.hsf.app.spring.util;
+
+import com.taobao.hsf.model.metadata.MethodSpecial;
+
+/**
+ * Stub of the HSF provider bean, so that the benchmarks run without HSF. Publishing does nothing.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFSpringProviderBean {
+
+	private String serviceInterface;
+
+	private Object target;
+
+	private String serviceVersion;
+
+	private String serviceName;
+
+	private String serviceDesc;
+
+	private String serviceGroup;
+
+	private boolean supportAsynCall;
+
+	private int clientTimeout;
+
+	private int clientIdleTimeout;
+
+	private String serializeType;
+
+	private MethodSpecial[] methodSpecials;
+
+	private String methodToInjectConsumerIp;
+
+	private boolean published;
+
+	public void init() {
+		published = true;
+	}
+
+	public boolean isPublished() {
+		return published;
+	}
+
+	public void setServiceInterface(String serviceInterface) {
+		this.serviceInterface = serviceInterface;
+	}
+
+	public void setTarget(Object target) {
+		this.target = target;
+	}
+
+	public void setServiceVersion(String serviceVersion) {
+		this.serviceVersion = serviceVersion;
+	}
+
+	public void setServiceName(String serviceName) {
+		this.serviceName = serviceName;
+	}
+
+	public void setServiceDesc(String serviceDesc) {
+		this.serviceDesc = serviceDesc;
+	}
+
+	public void setServiceGroup(String serviceGroup) {
+		this.serviceGroup = serviceGroup;
+	}
+
+	public void setSupportAsynCall(boolean supportAsynCall) {
+		this.supportAsynCall = supportAsynCall;
+	}
+
+	public void setClientTimeout(int clientTimeout) {
+		this.clientTimeout = clientTimeout;
+	}
+
+	public void setClientIdleTimeout(int clientIdleTimeout) {
+		this.clientIdleTimeout = clientIdleTimeout;
+	}
+
+	public void setSerializeType(String serializeType) {
+		this.serializeType = serializeType;
+	}
+
+	public void setMethodSpecials(MethodSpecial[] methodSpecials) {
+		this.methodSpecials = methodSpecials;
+	}
+
+	public void setMethodToInjectConsumerIp(String methodToInjectConsumerIp) {
+		this.methodToInjectConsumerIp = methodToInjectConsumerIp;
+	}
+}
@@ -0,0 +1,31 @@
+package com.taobao.hsf.model.metadata;
+
+/**
+ * Stub of the HSF per method configuration, so that the benchmarks run without HSF
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class MethodSpecial {
+
+	private String methodName;
+
+	private long clientTimeout;
+
+	public String getMethodName() {
+		return methodName;
+	}
+
+	public void setMethodName(String methodName) {
+		this.methodName = methodName;
+	}
+
+	public long getClientTimeout() {
+		return clientTimeout;
+	}
+
+	public void setClientTimeout(long clientTimeout) {
+		this.clientTimeout = clientTimeout;
+	}
+}
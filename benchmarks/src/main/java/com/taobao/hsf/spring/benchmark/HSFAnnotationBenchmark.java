@@ -0,0 +1,81 @@
+package com.taobao.hsf.spring.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+
+import com.taobao.hsf.spring.benchmark.support.Consumers;
+import com.taobao.hsf.spring.config.HSFAnnotationBeanPostProcessor;
+
+/**
+ * Benchmarks {@link HSFAnnotationBeanPostProcessor#postProcessAfterInstantiation} on a class hierarchy declaring one
+ * {@link com.taobao.hsf.spring.annotation.HSF} field per level, and the creation of prototype beans of that class,
+ * which runs the post processor on every instance.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HSFAnnotationBenchmark {
+
+	private static final String CONSUMER_BEAN_NAME = "consumer";
+
+	/**
+	 * The number of levels of the class hierarchy
+	 */
+	@Param({ "1", "4", "8" })
+	private int depth;
+
+	private DefaultListableBeanFactory beanFactory;
+
+	private HSFAnnotationBeanPostProcessor processor;
+
+	private Object consumer;
+
+	@Setup
+	public void setUp() throws Exception {
+		beanFactory = new DefaultListableBeanFactory();
+		processor = new HSFAnnotationBeanPostProcessor();
+		processor.setBeanFactory(beanFactory);
+		beanFactory.addBeanPostProcessor(processor);
+
+		Class<?> consumerClass = Consumers.getConsumerClass(depth);
+		GenericBeanDefinition beanDefinition = new GenericBeanDefinition();
+		beanDefinition.setBeanClass(consumerClass);
+		beanDefinition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		beanFactory.registerBeanDefinition(CONSUMER_BEAN_NAME, beanDefinition);
+
+		// registers the consumer bean definitions and creates the consumers
+		consumer = beanFactory.getBean(CONSUMER_BEAN_NAME);
+	}
+
+	@Benchmark
+	public Object postProcessAfterInstantiation() {
+		processor.postProcessAfterInstantiation(consumer, CONSUMER_BEAN_NAME);
+		return consumer;
+	}
+
+	@Benchmark
+	public Object getPrototypeBean() {
+		return beanFactory.getBean(CONSUMER_BEAN_NAME);
+	}
+}
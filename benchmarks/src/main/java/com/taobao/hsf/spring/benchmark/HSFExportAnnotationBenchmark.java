@@ -0,0 +1,74 @@
+package com.taobao.hsf.spring.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+
+import com.taobao.hsf.spring.benchmark.support.DemoServiceImpl;
+import com.taobao.hsf.spring.benchmark.support.PlainBean;
+import com.taobao.hsf.spring.config.HSFExportAnnotationBeanFactoryPostProcessor;
+
+/**
+ * Benchmarks {@link HSFExportAnnotationBeanFactoryPostProcessor#postProcessBeanFactory} over a synthetic registry in
+ * which one bean definition out of {@link #EXPORTED_RATIO} is a {@link com.taobao.hsf.spring.annotation.HSFExport}
+ * class. The registry is rebuilt before each single shot, since the post processor registers the providers into it.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class HSFExportAnnotationBenchmark {
+
+	private static final int EXPORTED_RATIO = 20;
+
+	@Param({ "1000", "10000", "50000" })
+	private int definitions;
+
+	/**
+	 * Whether the build time index of this module is consulted
+	 */
+	@Param({ "true", "false" })
+	private boolean useIndex;
+
+	private DefaultListableBeanFactory beanFactory;
+
+	private HSFExportAnnotationBeanFactoryPostProcessor processor;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		beanFactory = new DefaultListableBeanFactory();
+		for (int i = 0; i < definitions; i++) {
+			GenericBeanDefinition beanDefinition = new GenericBeanDefinition();
+			beanDefinition.setBeanClassName(i % EXPORTED_RATIO == 0 ? DemoServiceImpl.class.getName() : PlainBean.class
+					.getName());
+			beanFactory.registerBeanDefinition("bean" + i, beanDefinition);
+		}
+		processor = new HSFExportAnnotationBeanFactoryPostProcessor();
+		processor.setUseIndex(useIndex);
+	}
+
+	@Benchmark
+	public DefaultListableBeanFactory postProcessBeanFactory() {
+		processor.postProcessBeanFactory(beanFactory);
+		return beanFactory;
+	}
+}
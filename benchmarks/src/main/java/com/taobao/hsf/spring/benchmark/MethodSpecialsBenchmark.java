@@ -0,0 +1,74 @@
+package com.taobao.hsf.spring.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import com.taobao.hsf.spring.config.HSFAnnotationBeanPostProcessor;
+
+/**
+ * Benchmarks the parsing of the <code>methodSpecials</code> attribute into MethodSpecial bean definitions. The parsing
+ * is private to the post processors, it is invoked reflectively, the baseline measures the reflective call alone.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MethodSpecialsBenchmark {
+
+	@Param({ "0", "4", "32" })
+	private int methods;
+
+	private HSFAnnotationBeanPostProcessor processor;
+
+	private Method createMethodSpecials;
+
+	private Method baseline;
+
+	private String[] methodSpecials;
+
+	@Setup
+	public void setUp() {
+		processor = new HSFAnnotationBeanPostProcessor();
+		createMethodSpecials = ReflectionUtils.findMethod(HSFAnnotationBeanPostProcessor.class,
+				"createMethodSpecials", String[].class);
+		ReflectionUtils.makeAccessible(createMethodSpecials);
+		baseline = ReflectionUtils.findMethod(MethodSpecialsBenchmark.class, "identity", String[].class);
+		methodSpecials = new String[methods];
+		for (int i = 0; i < methods; i++) {
+			methodSpecials[i] = "method" + i + ":" + (1000 + i);
+		}
+	}
+
+	@Benchmark
+	public Object createMethodSpecials() throws Exception {
+		return createMethodSpecials.invoke(processor, (Object) methodSpecials);
+	}
+
+	@Benchmark
+	public Object reflectionBaseline() throws Exception {
+		return baseline.invoke(null, (Object) methodSpecials);
+	}
+
+	public static Object identity(String[] methodSpecials) {
+		return methodSpecials;
+	}
+}
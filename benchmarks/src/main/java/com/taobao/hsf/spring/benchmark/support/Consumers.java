@@ -0,0 +1,125 @@
+package com.taobao.hsf.spring.benchmark.support;
+
+import com.taobao.hsf.spring.annotation.HSF;
+
+/**
+ * A class hierarchy declaring one {@link HSF} field and a few plain fields per level
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class Consumers {
+
+	/**
+	 * The deepest level of the hierarchy
+	 */
+	public static final int MAX_DEPTH = 8;
+
+	/**
+	 * @param depth the number of levels, from 1 to {@link #MAX_DEPTH}
+	 * @return the consumer class with the given number of levels
+	 */
+	public static Class<?> getConsumerClass(int depth) {
+		switch (depth) {
+		case 1:
+			return Level1.class;
+		case 2:
+			return Level2.class;
+		case 3:
+			return Level3.class;
+		case 4:
+			return Level4.class;
+		case 5:
+			return Level5.class;
+		case 6:
+			return Level6.class;
+		case 7:
+			return Level7.class;
+		case 8:
+			return Level8.class;
+		default:
+			throw new IllegalArgumentException("depth must be between 1 and " + MAX_DEPTH + ": " + depth);
+		}
+	}
+
+	public static class Level1 {
+
+		@HSF(version = "1.0.0")
+		private DemoService service1;
+
+		private String name1;
+
+		private int count1;
+	}
+
+	public static class Level2 extends Level1 {
+
+		@HSF(version = "1.0.0")
+		private DemoService service2;
+
+		private String name2;
+
+		private int count2;
+	}
+
+	public static class Level3 extends Level2 {
+
+		@HSF(version = "1.0.0")
+		private DemoService service3;
+
+		private String name3;
+
+		private int count3;
+	}
+
+	public static class Level4 extends Level3 {
+
+		@HSF(version = "1.0.0")
+		private DemoService service4;
+
+		private String name4;
+
+		private int count4;
+	}
+
+	public static class Level5 extends Level4 {
+
+		@HSF(version = "1.0.0")
+		private DemoService service5;
+
+		private String name5;
+
+		private int count5;
+	}
+
+	public static class Level6 extends Level5 {
+
+		@HSF(version = "1.0.0")
+		private DemoService service6;
+
+		private String name6;
+
+		private int count6;
+	}
+
+	public static class Level7 extends Level6 {
+
+		@HSF(version = "1.0.0")
+		private DemoService service7;
+
+		private String name7;
+
+		private int count7;
+	}
+
+	public static class Level8 extends Level7 {
+
+		@HSF(version = "1.0.0")
+		private DemoService service8;
+
+		private String name8;
+
+		private int count8;
+	}
+}
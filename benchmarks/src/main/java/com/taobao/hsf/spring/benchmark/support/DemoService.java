@@ -0,0 +1,13 @@
+package com.taobao.hsf.spring.benchmark.support;
+
+/**
+ * The service interface used by the benchmarks
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface DemoService {
+
+	String echo(String message);
+}
@@ -0,0 +1,19 @@
+package com.taobao.hsf.spring.benchmark.support;
+
+import com.taobao.hsf.spring.annotation.HSFExport;
+
+/**
+ * An exported service
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@HSFExport(serviceVersion = "1.0.0", clientTimeout = 1000, methodSpecials = { "echo:500" })
+public class DemoServiceImpl implements DemoService {
+
+	@Override
+	public String echo(String message) {
+		return message;
+	}
+}
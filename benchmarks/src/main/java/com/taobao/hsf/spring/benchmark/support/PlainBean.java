@@ -0,0 +1,25 @@
+package com.taobao.hsf.spring.benchmark.support;
+
+import java.io.Serializable;
+
+/**
+ * A bean neither exported nor consuming any service, like most of the beans of an application
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class PlainBean implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private String name;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+}
@@ -0,0 +1,178 @@
+package com.taobao.hsf.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+import com.taobao.hsf.spring.config.HSFConfigurationRegistrar;
+
+/**
+ * 标注在<code>&#064;Configuration</code>类上，注册{@link HSFExport}和{@link HSF}的处理器，同&lt;hsf:annotation-driven/&gt;。例如：
+ * 
+ * <pre>
+ * &#064;Configuration
+ * &#064;EnableHSF(basePackages = &quot;com.foo.service&quot;, serviceVersion = &quot;1.0.0&quot;)
+ * public class AppConfig {
+ * }
+ * </pre>
+ * 
+ * 同时使用&lt;hsf:annotation-driven/&gt;时，先注册的配置生效
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(HSFConfigurationRegistrar.class)
+public @interface EnableHSF {
+
+	/**
+	 * 同basePackages
+	 */
+	String[] value() default {};
+
+	/**
+	 * 只处理这些包及其子包中的类，其他的bean不再检查{@link HSFExport}和{@link HSF}注解；默认处理所有的bean
+	 */
+	String[] basePackages() default {};
+
+	/**
+	 * 服务的默认版本，同{@link HSFExport#serviceVersion()}
+	 */
+	String serviceVersion() default "";
+
+	/**
+	 * 服务的默认组别，同{@link HSFExport#serviceGroup()}
+	 */
+	String serviceGroup() default "";
+
+	/**
+	 * 默认客户端调用超时时间(单位ms)，同{@link HSFExport#clientTimeout()}
+	 */
+	int clientTimeout() default -1;
+
+	/**
+	 * 默认的客户端连接空闲超时时间(单位s)，同{@link HSFExport#clientIdleTimeout()}
+	 */
+	int clientIdleTimeout() default -1;
+
+	/**
+	 * 服务独立线程池的默认核心线程数，同{@link HSFExport#corePoolSize()}
+	 */
+	int providerCorePoolSize() default -1;
+
+	/**
+	 * 服务独立线程池的默认最大线程数，同{@link HSFExport#maxPoolSize()}
+	 */
+	int providerMaxPoolSize() default -1;
+
+	/**
+	 * 服务独立线程池的默认队列长度，同{@link HSFExport#queueCapacity()}
+	 */
+	int providerQueueCapacity() default -1;
+
+	/**
+	 * 事先在HSF中注册过的序列化方式，除HSF自己实现的java、hessian和hessian2外，只有列出的序列化方式才能用于
+	 * {@link HSFExport#serializer()}和{@link HSF#serializer()}。本项目不实现任何序列化方式
+	 */
+	String[] registeredSerializeTypes() default {};
+
+	/**
+	 * 是否只检查编译时索引META-INF/hsf-annotations.idx中的类，默认为true。索引在javac参数-Ahsf.index=true时生成，
+	 * 没有索引的jar中的类仍然全部检查
+	 */
+	boolean useIndex() default true;
+
+	/**
+	 * 是否并行初始化HSF bean，默认为false
+	 */
+	boolean parallelInit() default false;
+
+	/**
+	 * 同时初始化的HSF bean的最大数量，默认为16
+	 */
+	int initThreads() default -1;
+
+	/**
+	 * 等待并行初始化完成的超时时间(单位ms)，默认为60000
+	 */
+	int initTimeout() default -1;
+
+	/**
+	 * 是否延迟初始化所有的consumer，同{@link HSF#lazy()}，默认为false
+	 */
+	boolean lazyConsumer() default false;
+
+	/**
+	 * 是否在容器刷新完成时预热所有的consumer，同{@link HSF#preconnect()}，默认为false
+	 */
+	boolean consumerWarmup() default false;
+
+	/**
+	 * 容器刷新等待consumer预热的最长时间(单位ms)，默认为30000
+	 */
+	int consumerWarmupTimeout() default -1;
+
+	/**
+	 * consumer调用同一容器中发布的服务的方式：direct直接调用目标bean，copy调用时复制参数和结果，默认为空不开启，
+	 * 所有consumer都经过HSF远程调用
+	 */
+	String localCall() default "";
+
+	/**
+	 * 是否在容器刷新完成后预热并发布所有的服务，默认为false
+	 */
+	boolean publishOnRefresh() default false;
+
+	/**
+	 * 是否记录启动耗时，默认为false
+	 */
+	boolean startupReport() default false;
+
+	/**
+	 * 启动耗时报告的文件，默认输出到日志
+	 */
+	String startupReportLocation() default "";
+
+	/**
+	 * 是否记录每个方法的调用延迟，默认为false
+	 */
+	boolean latencyMonitor() default false;
+
+	/**
+	 * 延迟监控的HTTP端口，默认不启动HTTP服务
+	 */
+	int latencyMonitorPort() default -1;
+
+	/**
+	 * 对冲请求的比例上限(百分比)，默认为10
+	 */
+	int hedgeBudgetPercent() default -1;
+
+	/**
+	 * 对冲请求的最大线程数，默认为200
+	 */
+	int hedgeThreads() default -1;
+
+	/**
+	 * 是否可以在运行时修改服务和方法的超时时间，默认为false
+	 */
+	boolean dynamicTimeout() default false;
+
+	/**
+	 * 超时时间的配置文件，每行为<tt>interface[:version][#method]=ms</tt>，修改后自动生效；配置后即开启dynamicTimeout
+	 */
+	String dynamicTimeoutLocation() default "";
+
+	/**
+	 * 是否传递调用的截止时间，默认为false。消费端在每次调用时附加剩余时间，截止时间已过的调用立即失败；服务端拒绝调用方已经放弃的调用，
+	 * 丢弃在队列中过期的调用，业务代码可以通过HSFDeadline获取截止时间。本项目不提供HSFDeadlinePropagator，未注册时截止时间只在本JVM内生效
+	 */
+	boolean deadlinePropagation() default false;
+}
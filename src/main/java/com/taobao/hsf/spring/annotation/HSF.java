@@ -40,7 +40,10 @@ public @interface HSF {
 	String[] methodSpecials() default {};
 
 	/**
-	 * 暂不支持改配置
+	 * 异步调用的方法，调用时不阻塞调用线程，格式：<tt>{"methodName", "methodName:future", "methodName:callback:listenerClassName"}</tt>
+	 * 例如：asyncallMethods = {"get", "query:callback:com.foo.QueryListener"}。
+	 * future方式由HSF的响应future获取结果，callback方式由HSF将结果回调给listener；也可以使用HSF原生格式
+	 * <tt>"name:get;type:future"</tt>，或在服务接口的方法上标注{@link HSFAsync}
 	 */
 	String[] asyncallMethods() default {};
 
@@ -48,4 +51,41 @@ public @interface HSF {
 	 * 调用的服务所属的组
 	 */
 	String group() default "";
+
+	/**
+	 * 是否延迟初始化，默认为false。为true时注入服务接口的代理，第一次调用时才创建并初始化HSFSpringConsumerBean，
+	 * 只对接口类型的字段生效
+	 */
+	boolean lazy() default false;
+
+	/**
+	 * 是否在容器刷新完成时预热，默认为false。为true时即使是延迟初始化的consumer也在启动时初始化，订阅服务地址，
+	 * 并执行warmupCalls配置的预热调用，第一个真实请求不再承担建立连接、序列化和JIT的开销
+	 */
+	boolean preconnect() default false;
+
+	/**
+	 * 启动时的预热调用，格式：<tt>{"methodName", "methodName:times"}</tt>，例如：warmupCalls = {"get:20"}。
+	 * 调用的参数为默认值(null、0或false)，同名的方法调用参数最少的一个，结果和异常都被忽略；配置后即开启preconnect
+	 */
+	String[] warmupCalls() default {};
+
+	/**
+	 * 是否合并相同的并发调用，默认为false。为true时方法和参数都相同的并发调用共享同一次远程调用的结果或异常，
+	 * 只对接口类型的字段生效，返回void的方法不会被合并
+	 */
+	boolean singleFlight() default false;
+
+	/**
+	 * 对冲请求的幂等方法，格式：<tt>{"methodName1:hedgeDelayMs1","methodName2:hedgeDelayMs2"}</tt>，例如：hedgeMethods = {"get:50"}。
+	 * 调用超过对冲延迟(单位ms)仍未返回时再发送一次请求，先返回的结果生效；对冲请求的比例受annotation-driven的hedge-budget-percent限制。
+	 * 落后的请求不会被中断，执行完成后丢弃其结果。只能用于接口类型的字段，否则启动失败
+	 */
+	String[] hedgeMethods() default {};
+
+	/**
+	 * 序列化方式的名称，默认使用HSF的序列化方式。可以是java、hessian、hessian2，也可以是事先在HSF中注册并列在
+	 * annotation-driven的registered-serialize-types中的序列化方式，否则启动失败。本项目不实现任何序列化方式
+	 */
+	String serializer() default "";
 }
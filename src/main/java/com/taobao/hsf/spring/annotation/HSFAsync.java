@@ -0,0 +1,37 @@
+package com.taobao.hsf.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标注在服务接口的方法上，所有{@link HSF}注入的consumer都异步调用该方法，同{@link HSF#asyncallMethods()}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HSFAsync {
+
+	/**
+	 * 异步调用的方式，默认为future
+	 */
+	Type type() default Type.future;
+
+	/**
+	 * callback方式的回调类，必须实现HSF的回调接口，由HSF实例化
+	 */
+	Class<?> listener() default Void.class;
+
+	/**
+	 * 异步调用的方式
+	 */
+	enum Type {
+		future, callback
+	}
+}
@@ -0,0 +1,46 @@
+package com.taobao.hsf.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 与{@link HSF}一起标注在字段上，将并发的单个调用合并为一次批量调用，再将结果分发给各个调用者。例如：
+ * 
+ * <pre>
+ * &#064;HSF(version = &quot;1.0.0&quot;)
+ * &#064;HSFBatch(method = &quot;getItem&quot;, bulkMethod = &quot;getItems&quot;, maxBatch = 100, maxDelayMicros = 500)
+ * private ItemService itemService;
+ * </pre>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Target({ ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HSFBatch {
+
+	/**
+	 * 被合并的单参数方法，例如：Item getItem(Long id)
+	 */
+	String method();
+
+	/**
+	 * 批量方法，参数为List，返回与参数顺序一致的List或以参数为key的Map，例如：Map&lt;Long, Item&gt; getItems(List&lt;Long&gt; ids)
+	 */
+	String bulkMethod();
+
+	/**
+	 * 一次批量调用的最大参数个数，默认为100
+	 */
+	int maxBatch() default 100;
+
+	/**
+	 * 等待更多调用加入批量的最长时间(单位微秒)，默认为500，为0时只合并已经在等待的调用
+	 */
+	long maxDelayMicros() default 500;
+}
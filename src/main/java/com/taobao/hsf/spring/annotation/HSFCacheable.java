@@ -0,0 +1,31 @@
+package com.taobao.hsf.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标注在服务接口的方法上，{@link HSF}注入的consumer在本地缓存该方法的调用结果，相同参数的调用在ttlMs内不再发起远程调用。
+ * 参数必须正确实现equals和hashCode，异常不会被缓存
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HSFCacheable {
+
+	/**
+	 * 缓存的有效时间(单位ms)，默认为1000ms
+	 */
+	long ttlMs() default 1000;
+
+	/**
+	 * 缓存的最大条目数，超过后淘汰最近未被访问的条目，默认为1000
+	 */
+	int maxEntries() default 1000;
+}
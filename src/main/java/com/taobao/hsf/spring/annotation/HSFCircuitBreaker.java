@@ -0,0 +1,69 @@
+package com.taobao.hsf.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 与{@link HSF}一起标注在字段上，为consumer的每个方法配置熔断器：最近的调用中失败或慢调用的比例超过阈值时熔断，熔断期间的调用立即失败或由fallback处理，
+ * 等待时间过后放行少量探测调用，探测调用都成功时恢复。例如：
+ * 
+ * <pre>
+ * &#064;HSF(version = &quot;1.0.0&quot;)
+ * &#064;HSFCircuitBreaker(slowCallDurationMs = 500, fallback = &quot;itemServiceFallback&quot;)
+ * private ItemService itemService;
+ * </pre>
+ * 
+ * 服务方法声明的受检异常是业务异常，不计为失败。
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Target({ ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HSFCircuitBreaker {
+
+	/**
+	 * 熔断的失败比例(百分比)，默认为50
+	 */
+	int failureRateThreshold() default 50;
+
+	/**
+	 * 熔断的慢调用比例(百分比)，默认为100，即全部是慢调用时熔断
+	 */
+	int slowCallRateThreshold() default 100;
+
+	/**
+	 * 慢调用的时间(单位ms)，默认为1000
+	 */
+	long slowCallDurationMs() default 1000;
+
+	/**
+	 * 统计的最近调用数，默认为100
+	 */
+	int windowSize() default 100;
+
+	/**
+	 * 计算比例所需的最少调用数，默认为20
+	 */
+	int minimumCalls() default 20;
+
+	/**
+	 * 熔断后等待多久(单位ms)开始探测，默认为5000
+	 */
+	long waitDurationMs() default 5000;
+
+	/**
+	 * 探测调用数，默认为5
+	 */
+	int halfOpenCalls() default 5;
+
+	/**
+	 * fallback bean的名称，必须实现服务接口，熔断期间和调用失败时由其处理调用；为空时熔断期间的调用抛出HSFCircuitBreakerOpenException
+	 */
+	String fallback() default "";
+}
@@ -82,11 +82,49 @@ public @interface HSFExport {
 	 */
 	SerializeType serializeType() default SerializeType.java;
 
+	/**
+	 * 序列化方式的名称，配置后覆盖serializeType，可以是SerializeType的名称，也可以是事先在HSF中注册并列在
+	 * annotation-driven的registered-serialize-types中的序列化方式，否则启动失败。本项目不实现任何序列化方式
+	 */
+	String serializer() default "";
+
 	/**
 	 * 
 	 */
 	String methodToInjectConsumerIp() default "";
 
+	/**
+	 * 服务发布前在目标bean上调用的无参预热方法，仅在publish-on-refresh开启时生效，例如：warmupMethod = "warmup"
+	 */
+	String warmupMethod() default "";
+
+	/**
+	 * 预热方法的调用次数，默认调用1次
+	 */
+	int warmupIterations() default 1;
+
+	/**
+	 * 服务独立线程池的核心线程数，大于0时服务的调用在独立的线程池中执行；为0时使用HSF共享的线程池，
+	 * 默认使用annotation-driven的provider-core-pool-size。每次调用期间HSF的线程仍然阻塞等待结果，
+	 * 线程和队列都满时调用立即失败，慢服务最多占用线程数加队列长度个HSF线程
+	 */
+	int corePoolSize() default -1;
+
+	/**
+	 * 服务独立线程池的最大线程数，默认使用annotation-driven的provider-max-pool-size，不小于corePoolSize
+	 */
+	int maxPoolSize() default -1;
+
+	/**
+	 * 服务独立线程池的队列长度，为0时不排队，默认使用annotation-driven的provider-queue-capacity
+	 */
+	int queueCapacity() default -1;
+
+	/**
+	 * 是否根据服务的延迟自适应地限制并发调用数，默认为false。为true时超过限制的调用立即被拒绝，延迟升高时限制随之降低
+	 */
+	boolean adaptiveConcurrency() default false;
+
 	/**
 	 * 序列化类型
 	 */
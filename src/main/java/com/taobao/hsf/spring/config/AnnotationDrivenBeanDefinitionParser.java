@@ -1,8 +1,11 @@
 package com.taobao.hsf.spring.config;
 
+import static com.taobao.hsf.spring.util.BeanDefinitionUtils.addPropertyReference;
 import static com.taobao.hsf.spring.util.BeanDefinitionUtils.addPropertyValue;
 
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -12,7 +15,14 @@ import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.xml.BeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.util.StringUtils;
 import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import com.taobao.hsf.spring.monitor.HSFLatencyMonitor;
+import com.taobao.hsf.spring.monitor.HSFStartupRecorder;
+import com.taobao.hsf.spring.timeout.HSFTimeoutRegistry;
 
 /**
  * Parser for the 'annotation-driven' element of the 'hsf' namespace.
@@ -23,6 +33,16 @@ import org.w3c.dom.Element;
  */
 public class AnnotationDrivenBeanDefinitionParser implements BeanDefinitionParser {
 
+	/**
+	 * The base-packages xml attribute
+	 */
+	private static final String BASE_PACKAGES_XML_ATTRIBUTE = "base-packages";
+
+	/**
+	 * The registered-serialize-types xml attribute
+	 */
+	private static final String REGISTERED_SERIALIZE_TYPES_XML_ATTRIBUTE = "registered-serialize-types";
+
 	/**
 	 * The service-version xml attribute
 	 */
@@ -43,6 +63,111 @@ public class AnnotationDrivenBeanDefinitionParser implements BeanDefinitionParse
 	 */
 	private static final String CLIENT_IDLE_TIMEOUT_XML_ATTRIBUTE = "client-idle-timeout";
 
+	/**
+	 * The provider-core-pool-size xml attribute
+	 */
+	private static final String PROVIDER_CORE_POOL_SIZE_XML_ATTRIBUTE = "provider-core-pool-size";
+
+	/**
+	 * The provider-max-pool-size xml attribute
+	 */
+	private static final String PROVIDER_MAX_POOL_SIZE_XML_ATTRIBUTE = "provider-max-pool-size";
+
+	/**
+	 * The provider-queue-capacity xml attribute
+	 */
+	private static final String PROVIDER_QUEUE_CAPACITY_XML_ATTRIBUTE = "provider-queue-capacity";
+
+	/**
+	 * The use-index xml attribute
+	 */
+	private static final String USE_INDEX_XML_ATTRIBUTE = "use-index";
+
+	/**
+	 * The parallel-init xml attribute
+	 */
+	private static final String PARALLEL_INIT_XML_ATTRIBUTE = "parallel-init";
+
+	/**
+	 * The init-threads xml attribute
+	 */
+	private static final String INIT_THREADS_XML_ATTRIBUTE = "init-threads";
+
+	/**
+	 * The init-timeout xml attribute
+	 */
+	private static final String INIT_TIMEOUT_XML_ATTRIBUTE = "init-timeout";
+
+	/**
+	 * The lazy-consumer xml attribute
+	 */
+	private static final String LAZY_CONSUMER_XML_ATTRIBUTE = "lazy-consumer";
+
+	/**
+	 * The consumer-warmup xml attribute
+	 */
+	private static final String CONSUMER_WARMUP_XML_ATTRIBUTE = "consumer-warmup";
+
+	/**
+	 * The consumer-warmup-timeout xml attribute
+	 */
+	private static final String CONSUMER_WARMUP_TIMEOUT_XML_ATTRIBUTE = "consumer-warmup-timeout";
+
+	/**
+	 * The local-call xml attribute
+	 */
+	private static final String LOCAL_CALL_XML_ATTRIBUTE = "local-call";
+
+	/**
+	 * The publish-on-refresh xml attribute
+	 */
+	private static final String PUBLISH_ON_REFRESH_XML_ATTRIBUTE = "publish-on-refresh";
+
+	/**
+	 * The startup-report xml attribute
+	 */
+	private static final String STARTUP_REPORT_XML_ATTRIBUTE = "startup-report";
+
+	/**
+	 * The startup-report-location xml attribute
+	 */
+	private static final String STARTUP_REPORT_LOCATION_XML_ATTRIBUTE = "startup-report-location";
+
+	/**
+	 * The latency-monitor xml attribute
+	 */
+	private static final String LATENCY_MONITOR_XML_ATTRIBUTE = "latency-monitor";
+
+	/**
+	 * The latency-monitor-port xml attribute
+	 */
+	private static final String LATENCY_MONITOR_PORT_XML_ATTRIBUTE = "latency-monitor-port";
+
+	/**
+	 * The hedge-budget-percent xml attribute
+	 */
+	private static final String HEDGE_BUDGET_PERCENT_XML_ATTRIBUTE = "hedge-budget-percent";
+
+	/**
+	 * The hedge-threads xml attribute
+	 */
+	private static final String HEDGE_THREADS_XML_ATTRIBUTE = "hedge-threads";
+
+	/**
+	 * The dynamic-timeout xml attribute
+	 */
+	private static final String DYNAMIC_TIMEOUT_XML_ATTRIBUTE = "dynamic-timeout";
+
+	/**
+	 * The dynamic-timeout-location xml attribute
+	 */
+	private static final String DYNAMIC_TIMEOUT_LOCATION_XML_ATTRIBUTE = "dynamic-timeout-location";
+
+	/**
+	 * The deadline-propagation xml attribute
+	 */
+	private static final String DEADLINE_PROPAGATION_XML_ATTRIBUTE = "deadline-propagation";
+
 	/**
 	 * The HSFAnnotationBeanPostProcessor bean name
 	 */
@@ -53,6 +178,31 @@ public class AnnotationDrivenBeanDefinitionParser implements BeanDefinitionParse
 	 */
 	private static final String HSF_EXPORT_ANNOTATION_PROCESSOR_BEAN_NAME = "org.springframework.context.annotation.internalHSFExportAnnotationProcessor";
 
+	/**
+	 * The HSFBeanInitializer bean name
+	 */
+	private static final String HSF_BEAN_INITIALIZER_BEAN_NAME = "org.springframework.context.annotation.internalHSFBeanInitializer";
+
+	/**
+	 * The HSFConsumerWarmer bean name
+	 */
+	private static final String HSF_CONSUMER_WARMER_BEAN_NAME = "org.springframework.context.annotation.internalHSFConsumerWarmer";
+
+	/**
+	 * The HSFStartupRecorder bean name
+	 */
+	private static final String HSF_STARTUP_RECORDER_BEAN_NAME = "org.springframework.context.annotation.internalHSFStartupRecorder";
+
+	/**
+	 * The HSFLatencyMonitor bean name
+	 */
+	private static final String HSF_LATENCY_MONITOR_BEAN_NAME = "org.springframework.context.annotation.internalHSFLatencyMonitor";
+
+	/**
+	 * The HSFTimeoutRegistry bean name
+	 */
+	private static final String HSF_TIMEOUT_REGISTRY_BEAN_NAME = "org.springframework.context.annotation.internalHSFTimeoutRegistry";
+
 	@Override
 	public BeanDefinition parse(Element element, ParserContext parserContext) {
 
@@ -76,25 +226,119 @@ public class AnnotationDrivenBeanDefinitionParser implements BeanDefinitionParse
 	 *         this call
 	 */
 	public Set<BeanDefinitionHolder> registerAnnotationConfigProcessors(Element element, ParserContext parserContext) {
-		Object source = parserContext.extractSource(element);
-
-		Set<BeanDefinitionHolder> beanDefs = new LinkedHashSet<BeanDefinitionHolder>(2);
+		Map<String, String> attributes = new HashMap<String, String>();
+		NamedNodeMap nodes = element.getAttributes();
+		for (int i = 0; i < nodes.getLength(); i++) {
+			Node node = nodes.item(i);
+			attributes.put(node.getNodeName(), node.getNodeValue());
+		}
+		return registerAnnotationConfigProcessors(attributes, parserContext.getRegistry(),
+				parserContext.extractSource(element));
+	}
 
-		BeanDefinitionRegistry registry = parserContext.getRegistry();
+	/**
+	 * Register all relevant annotation post processors in the given registry, shared by the 'annotation-driven'
+	 * element and {@link com.taobao.hsf.spring.annotation.EnableHSF}.
+	 * 
+	 * @param attributes the xml attributes of the 'annotation-driven' element, the absent ones are not set
+	 * @param registry the registry to check for the existing post processors
+	 * @param source the configuration source that this registration was triggered from, may be <code>null</code>
+	 * @return a Set of BeanDefinitionHolders, containing all bean definitions that have to be registered
+	 */
+	Set<BeanDefinitionHolder> registerAnnotationConfigProcessors(Map<String, String> attributes,
+			BeanDefinitionRegistry registry, Object source) {
+		Set<BeanDefinitionHolder> beanDefs = new LinkedHashSet<BeanDefinitionHolder>(3);
 
 		if (!registry.containsBeanDefinition(HSF_EXPORT_ANNOTATION_PROCESSOR_BEAN_NAME)) {
 			BeanDefinitionBuilder builder = createRootBeanDefinition(source,
 					HSFExportAnnotationBeanFactoryPostProcessor.class);
-			addGlobalPropertyValues(builder, element);
+			addGlobalPropertyValues(builder, attributes);
+			addBasePackagesPropertyValue(builder, attributes);
+			addRegisteredSerializeTypesPropertyValue(builder, attributes);
+			addIndexPropertyValue(builder, attributes);
+			addDeferInitPropertyValue(builder, attributes);
+			addStartupRecorderReference(builder, attributes);
+			addLatencyMonitorReference(builder, attributes);
+			addTimeoutRegistryReference(builder, attributes);
+			addDeadlinePropagationPropertyValue(builder, attributes);
+			if (isPublishOnRefresh(attributes)) {
+				addPropertyValue(builder, "publishOnRefresh", true);
+			}
 			beanDefs.add(new BeanDefinitionHolder(builder.getBeanDefinition(),
 					HSF_EXPORT_ANNOTATION_PROCESSOR_BEAN_NAME));
 		}
 
 		if (!registry.containsBeanDefinition(HSF_ANNOTATION_PROCESSOR_BEAN_NAME)) {
 			BeanDefinitionBuilder builder = createRootBeanDefinition(source, HSFAnnotationBeanPostProcessor.class);
+			addBasePackagesPropertyValue(builder, attributes);
+			addRegisteredSerializeTypesPropertyValue(builder, attributes);
+			addIndexPropertyValue(builder, attributes);
+			addDeferInitPropertyValue(builder, attributes);
+			addStartupRecorderReference(builder, attributes);
+			addLatencyMonitorReference(builder, attributes);
+			addTimeoutRegistryReference(builder, attributes);
+			addDeadlinePropagationPropertyValue(builder, attributes);
+			if (attributes.containsKey(LAZY_CONSUMER_XML_ATTRIBUTE)) {
+				addPropertyValue(builder, "lazy", attributes.get(LAZY_CONSUMER_XML_ATTRIBUTE));
+			}
+			if (attributes.containsKey(CONSUMER_WARMUP_XML_ATTRIBUTE)) {
+				addPropertyValue(builder, "warmup", attributes.get(CONSUMER_WARMUP_XML_ATTRIBUTE));
+			}
+			if (attributes.containsKey(LOCAL_CALL_XML_ATTRIBUTE)) {
+				addPropertyValue(builder, "localCall", attributes.get(LOCAL_CALL_XML_ATTRIBUTE));
+			}
+			if (attributes.containsKey(HEDGE_BUDGET_PERCENT_XML_ATTRIBUTE)) {
+				addPropertyValue(builder, "hedgeBudgetPercent", attributes.get(HEDGE_BUDGET_PERCENT_XML_ATTRIBUTE));
+			}
+			if (attributes.containsKey(HEDGE_THREADS_XML_ATTRIBUTE)) {
+				addPropertyValue(builder, "hedgeThreads", attributes.get(HEDGE_THREADS_XML_ATTRIBUTE));
+			}
 			beanDefs.add(new BeanDefinitionHolder(builder.getBeanDefinition(), HSF_ANNOTATION_PROCESSOR_BEAN_NAME));
 		}
 
+		if ((isParallelInit(attributes) || isPublishOnRefresh(attributes))
+				&& !registry.containsBeanDefinition(HSF_BEAN_INITIALIZER_BEAN_NAME)) {
+			BeanDefinitionBuilder builder = createRootBeanDefinition(source, HSFBeanInitializer.class);
+			if (attributes.containsKey(INIT_THREADS_XML_ATTRIBUTE)) {
+				addPropertyValue(builder, "initThreads", attributes.get(INIT_THREADS_XML_ATTRIBUTE));
+			}
+			if (attributes.containsKey(INIT_TIMEOUT_XML_ATTRIBUTE)) {
+				addPropertyValue(builder, "initTimeout", attributes.get(INIT_TIMEOUT_XML_ATTRIBUTE));
+			}
+			addStartupRecorderReference(builder, attributes);
+			beanDefs.add(new BeanDefinitionHolder(builder.getBeanDefinition(), HSF_BEAN_INITIALIZER_BEAN_NAME));
+		}
+
+		// 注册了HSFBeanInitializer时由它在初始化和发布完成后触发预热，否则在容器刷新完成时预热consumer
+		if (!registry.containsBeanDefinition(HSF_CONSUMER_WARMER_BEAN_NAME)) {
+			BeanDefinitionBuilder builder = createRootBeanDefinition(source, HSFConsumerWarmer.class);
+			if (attributes.containsKey(CONSUMER_WARMUP_TIMEOUT_XML_ATTRIBUTE)) {
+				addPropertyValue(builder, "warmupTimeout", attributes.get(CONSUMER_WARMUP_TIMEOUT_XML_ATTRIBUTE));
+			}
+			beanDefs.add(new BeanDefinitionHolder(builder.getBeanDefinition(), HSF_CONSUMER_WARMER_BEAN_NAME));
+		}
+
+		// 在HSFBeanInitializer之后注册，容器刷新完成时先等待初始化完成再输出报告
+		if (isStartupReport(attributes) && !registry.containsBeanDefinition(HSF_STARTUP_RECORDER_BEAN_NAME)) {
+			BeanDefinitionBuilder builder = createRootBeanDefinition(source, HSFStartupRecorder.class);
+			addPropertyValue(builder, "reportLocation", attributes.get(STARTUP_REPORT_LOCATION_XML_ATTRIBUTE));
+			beanDefs.add(new BeanDefinitionHolder(builder.getBeanDefinition(), HSF_STARTUP_RECORDER_BEAN_NAME));
+		}
+
+		if (isLatencyMonitor(attributes) && !registry.containsBeanDefinition(HSF_LATENCY_MONITOR_BEAN_NAME)) {
+			BeanDefinitionBuilder builder = createRootBeanDefinition(source, HSFLatencyMonitor.class);
+			if (attributes.containsKey(LATENCY_MONITOR_PORT_XML_ATTRIBUTE)) {
+				addPropertyValue(builder, "httpPort", attributes.get(LATENCY_MONITOR_PORT_XML_ATTRIBUTE));
+			}
+			beanDefs.add(new BeanDefinitionHolder(builder.getBeanDefinition(), HSF_LATENCY_MONITOR_BEAN_NAME));
+		}
+
+		if (isDynamicTimeout(attributes) && !registry.containsBeanDefinition(HSF_TIMEOUT_REGISTRY_BEAN_NAME)) {
+			BeanDefinitionBuilder builder = createRootBeanDefinition(source, HSFTimeoutRegistry.class);
+			addPropertyValue(builder, "location", attributes.get(DYNAMIC_TIMEOUT_LOCATION_XML_ATTRIBUTE));
+			beanDefs.add(new BeanDefinitionHolder(builder.getBeanDefinition(), HSF_TIMEOUT_REGISTRY_BEAN_NAME));
+		}
+
 		return beanDefs;
 	}
 
@@ -117,20 +361,170 @@ public class AnnotationDrivenBeanDefinitionParser implements BeanDefinitionParse
 	 * Adds global property values to the builder
 	 * 
 	 * @param builder the builder for add property values to
-	 * @param element the element to operate on
+	 * @param attributes the attributes to operate on
+	 */
+	private void addGlobalPropertyValues(BeanDefinitionBuilder builder, Map<String, String> attributes) {
+		if (attributes.containsKey(SERVICE_VERSION_XML_ATTRIBUTE)) {
+			addPropertyValue(builder, "serviceVersion", attributes.get(SERVICE_VERSION_XML_ATTRIBUTE));
+		}
+		if (attributes.containsKey(SERVICE_GROUP_XML_ATTRIBUTE)) {
+			addPropertyValue(builder, "serviceGroup", attributes.get(SERVICE_GROUP_XML_ATTRIBUTE));
+		}
+		if (attributes.containsKey(CLIENT_TIMEOUT_XML_ATTRIBUTE)) {
+			addPropertyValue(builder, "clientTimeout", attributes.get(CLIENT_TIMEOUT_XML_ATTRIBUTE));
+		}
+		if (attributes.containsKey(CLIENT_IDLE_TIMEOUT_XML_ATTRIBUTE)) {
+			addPropertyValue(builder, "clientIdleTimeout", attributes.get(CLIENT_IDLE_TIMEOUT_XML_ATTRIBUTE));
+		}
+		if (attributes.containsKey(PROVIDER_CORE_POOL_SIZE_XML_ATTRIBUTE)) {
+			addPropertyValue(builder, "corePoolSize", attributes.get(PROVIDER_CORE_POOL_SIZE_XML_ATTRIBUTE));
+		}
+		if (attributes.containsKey(PROVIDER_MAX_POOL_SIZE_XML_ATTRIBUTE)) {
+			addPropertyValue(builder, "maxPoolSize", attributes.get(PROVIDER_MAX_POOL_SIZE_XML_ATTRIBUTE));
+		}
+		if (attributes.containsKey(PROVIDER_QUEUE_CAPACITY_XML_ATTRIBUTE)) {
+			addPropertyValue(builder, "queueCapacity", attributes.get(PROVIDER_QUEUE_CAPACITY_XML_ATTRIBUTE));
+		}
+	}
+
+	/**
+	 * Adds the basePackages property value to the builder, the post processors then only inspect the classes of these
+	 * packages
+	 * 
+	 * @param builder the builder for add property values to
+	 * @param attributes the attributes to operate on
+	 */
+	private void addBasePackagesPropertyValue(BeanDefinitionBuilder builder, Map<String, String> attributes) {
+		addPropertyValue(builder, "basePackages", attributes.get(BASE_PACKAGES_XML_ATTRIBUTE));
+	}
+
+	/**
+	 * Adds the registeredSerializeTypes property value to the builder, the serializers HSF can resolve besides its
+	 * own serializeTypes
+	 * 
+	 * @param builder the builder for add property values to
+	 * @param attributes the attributes to operate on
+	 */
+	private void addRegisteredSerializeTypesPropertyValue(BeanDefinitionBuilder builder,
+			Map<String, String> attributes) {
+		if (attributes.containsKey(REGISTERED_SERIALIZE_TYPES_XML_ATTRIBUTE)) {
+			addPropertyValue(builder, "registeredSerializeTypes",
+					attributes.get(REGISTERED_SERIALIZE_TYPES_XML_ATTRIBUTE));
+		}
+	}
+
+	/**
+	 * Adds the useIndex property value to the builder
+	 * 
+	 * @param builder the builder for add property values to
+	 * @param attributes the attributes to operate on
+	 */
+	private void addIndexPropertyValue(BeanDefinitionBuilder builder, Map<String, String> attributes) {
+		if (attributes.containsKey(USE_INDEX_XML_ATTRIBUTE)) {
+			addPropertyValue(builder, "useIndex", attributes.get(USE_INDEX_XML_ATTRIBUTE));
+		}
+	}
+
+	/**
+	 * Adds the deferInit property value to the builder, the HSF beans are then initialized by the
+	 * {@link HSFBeanInitializer}
+	 * 
+	 * @param builder the builder for add property values to
+	 * @param attributes the attributes to operate on
 	 */
-	private void addGlobalPropertyValues(BeanDefinitionBuilder builder, Element element) {
-		if (element.hasAttribute(SERVICE_VERSION_XML_ATTRIBUTE)) {
-			addPropertyValue(builder, "serviceVersion", element.getAttribute(SERVICE_VERSION_XML_ATTRIBUTE));
+	private void addDeferInitPropertyValue(BeanDefinitionBuilder builder, Map<String, String> attributes) {
+		if (isParallelInit(attributes)) {
+			addPropertyValue(builder, "deferInit", true);
 		}
-		if (element.hasAttribute(SERVICE_GROUP_XML_ATTRIBUTE)) {
-			addPropertyValue(builder, "serviceGroup", element.getAttribute(SERVICE_GROUP_XML_ATTRIBUTE));
+	}
+
+	/**
+	 * Adds the startupRecorder property reference to the builder if the startup report is enabled
+	 * 
+	 * @param builder the builder for add property values to
+	 * @param attributes the attributes to operate on
+	 */
+	private void addStartupRecorderReference(BeanDefinitionBuilder builder, Map<String, String> attributes) {
+		if (isStartupReport(attributes)) {
+			addPropertyReference(builder, "startupRecorder", HSF_STARTUP_RECORDER_BEAN_NAME);
 		}
-		if (element.hasAttribute(CLIENT_TIMEOUT_XML_ATTRIBUTE)) {
-			addPropertyValue(builder, "clientTimeout", element.getAttribute(CLIENT_TIMEOUT_XML_ATTRIBUTE));
+	}
+
+	/**
+	 * Adds the latencyMonitor property reference to the builder if the latency monitor is enabled
+	 * 
+	 * @param builder the builder for add property values to
+	 * @param attributes the attributes to operate on
+	 */
+	private void addLatencyMonitorReference(BeanDefinitionBuilder builder, Map<String, String> attributes) {
+		if (isLatencyMonitor(attributes)) {
+			addPropertyReference(builder, "latencyMonitor", HSF_LATENCY_MONITOR_BEAN_NAME);
 		}
-		if (element.hasAttribute(CLIENT_IDLE_TIMEOUT_XML_ATTRIBUTE)) {
-			addPropertyValue(builder, "clientIdleTimeout", element.getAttribute(CLIENT_IDLE_TIMEOUT_XML_ATTRIBUTE));
+	}
+
+	/**
+	 * Adds the timeoutRegistry property reference to the builder if the timeouts can be changed at runtime
+	 * 
+	 * @param builder the builder for add property values to
+	 * @param attributes the attributes to operate on
+	 */
+	private void addTimeoutRegistryReference(BeanDefinitionBuilder builder, Map<String, String> attributes) {
+		if (isDynamicTimeout(attributes)) {
+			addPropertyReference(builder, "timeoutRegistry", HSF_TIMEOUT_REGISTRY_BEAN_NAME);
 		}
 	}
+
+	/**
+	 * Configure the post processor to propagate the deadlines of the calls if the attribute deadline-propagation is
+	 * true
+	 * 
+	 * @param builder the builder for add property values to
+	 * @param attributes the attributes to operate on
+	 */
+	private void addDeadlinePropagationPropertyValue(BeanDefinitionBuilder builder, Map<String, String> attributes) {
+		if (Boolean.valueOf(attributes.get(DEADLINE_PROPAGATION_XML_ATTRIBUTE))) {
+			addPropertyValue(builder, "deadlinePropagation", true);
+		}
+	}
+
+	/**
+	 * @param attributes the attributes to operate on
+	 * @return <code>true</code> if the HSF beans are initialized concurrently
+	 */
+	private boolean isParallelInit(Map<String, String> attributes) {
+		return Boolean.valueOf(attributes.get(PARALLEL_INIT_XML_ATTRIBUTE));
+	}
+
+	/**
+	 * @param attributes the attributes to operate on
+	 * @return <code>true</code> if the HSF providers are published once the context is refreshed
+	 */
+	private boolean isPublishOnRefresh(Map<String, String> attributes) {
+		return Boolean.valueOf(attributes.get(PUBLISH_ON_REFRESH_XML_ATTRIBUTE));
+	}
+
+	/**
+	 * @param attributes the attributes to operate on
+	 * @return <code>true</code> if the HSF startup timings are recorded
+	 */
+	private boolean isStartupReport(Map<String, String> attributes) {
+		return Boolean.valueOf(attributes.get(STARTUP_REPORT_XML_ATTRIBUTE));
+	}
+
+	/**
+	 * @param attributes the attributes to operate on
+	 * @return <code>true</code> if the latency of the HSF calls is recorded
+	 */
+	private boolean isLatencyMonitor(Map<String, String> attributes) {
+		return Boolean.valueOf(attributes.get(LATENCY_MONITOR_XML_ATTRIBUTE));
+	}
+
+	/**
+	 * @param attributes the attributes to operate on
+	 * @return <code>true</code> if the timeouts of the HSF calls can be changed at runtime
+	 */
+	private boolean isDynamicTimeout(Map<String, String> attributes) {
+		return Boolean.valueOf(attributes.get(DYNAMIC_TIMEOUT_XML_ATTRIBUTE))
+				|| StringUtils.hasText(attributes.get(DYNAMIC_TIMEOUT_LOCATION_XML_ATTRIBUTE));
+	}
 }
@@ -6,10 +6,34 @@ import static com.taobao.hsf.spring.util.ClassNameContants.INIT_METHOD_NAME;
 import static com.taobao.hsf.spring.util.ClassNameContants.METHOD_SPECIAL_CLASS_NAME;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import javax.management.ObjectName;
+
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.LazyInitTargetSource;
+import org.springframework.aop.target.SingletonTargetSource;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessorAdapter;
@@ -19,12 +43,37 @@ import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.ManagedList;
 import org.springframework.core.Ordered;
 import org.springframework.core.PriorityOrdered;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.ReflectionUtils.FieldCallback;
 import org.springframework.util.StringUtils;
 
 import com.taobao.hsf.spring.annotation.HSF;
+import com.taobao.hsf.spring.annotation.HSFBatch;
+import com.taobao.hsf.spring.annotation.HSFCircuitBreaker;
+import com.taobao.hsf.spring.config.HSFInjectionMetadata.InjectedField;
+import com.taobao.hsf.spring.consumer.HSFBatchInterceptor;
+import com.taobao.hsf.spring.consumer.HSFCacheInterceptor;
+import com.taobao.hsf.spring.consumer.HSFCircuitBreakerInterceptor;
+import com.taobao.hsf.spring.consumer.HSFDeadlinePropagationInterceptor;
+import com.taobao.hsf.spring.consumer.HSFHedgeBudget;
+import com.taobao.hsf.spring.consumer.HSFHedgingInterceptor;
+import com.taobao.hsf.spring.consumer.HSFLocalCallInterceptor;
+import com.taobao.hsf.spring.consumer.HSFMethodCircuitBreaker;
+import com.taobao.hsf.spring.consumer.HSFResultCache;
+import com.taobao.hsf.spring.consumer.HSFSingleFlightInterceptor;
+import com.taobao.hsf.spring.consumer.HSFTimeoutInterceptor;
+import com.taobao.hsf.spring.config.HSFInjectionMetadata.ValueResolver;
+import com.taobao.hsf.spring.index.HSFAnnotationIndex;
+import com.taobao.hsf.spring.monitor.HSFLatencyMonitor;
+import com.taobao.hsf.spring.monitor.HSFStartupRecorder;
+import com.taobao.hsf.spring.timeout.HSFDeadlinePropagators;
+import com.taobao.hsf.spring.timeout.HSFServiceTimeouts;
+import com.taobao.hsf.spring.timeout.HSFTimeoutRegistry;
+import com.taobao.hsf.spring.util.JmxUtils;
+import com.taobao.hsf.spring.util.PackageUtils;
+import com.taobao.hsf.spring.util.SerializeTypeUtils;
 
 /**
  * Bean post processor for {@link HSF} annotation
@@ -34,7 +83,30 @@ import com.taobao.hsf.spring.annotation.HSF;
  * @since 2013-2-18
  */
 public class HSFAnnotationBeanPostProcessor extends InstantiationAwareBeanPostProcessorAdapter implements
-		BeanFactoryAware, PriorityOrdered {
+		BeanFactoryAware, PriorityOrdered, DisposableBean {
+
+	/**
+	 * The local call mode injecting the target bean of the local provider itself
+	 */
+	public static final String LOCAL_CALL_DIRECT = "direct";
+
+	/**
+	 * The local call mode copying the arguments and the result of each call, as a remote call would
+	 */
+	public static final String LOCAL_CALL_COPY = "copy";
+
+	/**
+	 * The HSFSpringProviderBean definition attribute holding the service coordinates of the provider, see
+	 * {@link #getServiceKey(String, String, String)}
+	 */
+	public static final String LOCAL_SERVICE_ATTRIBUTE = HSFAnnotationBeanPostProcessor.class.getName()
+			+ ".localService";
+
+	/**
+	 * The HSFSpringProviderBean definition attribute holding the name of the target bean of the provider
+	 */
+	public static final String LOCAL_TARGET_ATTRIBUTE = HSFAnnotationBeanPostProcessor.class.getName()
+			+ ".localTarget";
 
 	/**
 	 * The interfaceName property
@@ -64,119 +136,1008 @@ public class HSFAnnotationBeanPostProcessor extends InstantiationAwareBeanPostPr
 	 * The methodName property
 	 */
 	private static final String METHOD_NAME_ATTRIBUTE = "methodName";
+	/**
+	 * The asyncallMethods property
+	 */
+	private static final String ASYNCALL_METHODS_ATTRIBUTE = "asyncallMethods";
+	/**
+	 * The serializeType property
+	 */
+	private static final String SERIALIZE_TYPE_ATTRIBUTE = "serializeType";
 
 	private transient ConfigurableListableBeanFactory beanFactory;
 
 	private int order = Ordered.LOWEST_PRECEDENCE - 4;
 
+	/**
+	 * Only the classes of these packages and their sub-packages are inspected, every bean class if <code>null</code>
+	 */
+	private String[] basePackages;
+
+	/**
+	 * The serializeTypes registered in the HSF remoting beforehand, besides the ones HSF implements itself
+	 */
+	private Set<String> registeredSerializeTypes = Collections.emptySet();
+
+	/**
+	 * Whether to consult the build time {@link HSFAnnotationIndex} instead of inspecting every bean class, if present
+	 */
+	private boolean useIndex = true;
+
+	private HSFAnnotationIndex index;
+
+	/**
+	 * Whether the consumer beans are initialized by the {@link HSFBeanInitializer} instead of their init method
+	 */
+	private boolean deferInit = false;
+
+	/**
+	 * The global lazy flag, all the {@link HSF} consumers are lazy if <code>true</code>, otherwise only the ones with
+	 * {@link HSF#lazy()}
+	 */
+	private boolean lazy = false;
+
+	/**
+	 * The global warm-up flag, all the {@link HSF} consumers are warmed up by the {@link HSFConsumerWarmer} if
+	 * <code>true</code>, otherwise only the ones with {@link HSF#preconnect()} or {@link HSF#warmupCalls()}
+	 */
+	private boolean warmup = false;
+
+	/**
+	 * The local call mode, {@link #LOCAL_CALL_DIRECT} or {@link #LOCAL_CALL_COPY}, the {@link HSF} consumers of the
+	 * services exported in the same context are injected with the target beans of the providers instead of remote
+	 * consumers. The local calls are disabled if <code>null</code>
+	 */
+	private String localCall;
+
+	/**
+	 * service coordinates -> name of the target bean of the provider exported in this context, <code>null</code> if
+	 * several providers export the same coordinates, built on the first lookup and guarded by the
+	 * {@link #injectionMetadataCache} lock
+	 */
+	private Map<String, String> localServices;
+
+	/**
+	 * local consumer bean name -> name of the target bean called instead of the remote service
+	 */
+	private final Map<String, String> localTargets = new ConcurrentHashMap<String, String>();
+
+	private HSFBeanInitializer beanInitializer;
+
+	/**
+	 * Records the scan time, the definition build time and the <code>init</code> duration, might be <code>null</code>
+	 */
+	private HSFStartupRecorder startupRecorder;
+
+	/**
+	 * Records the latency of each consumer method, might be <code>null</code>
+	 */
+	private HSFLatencyMonitor latencyMonitor;
+
+	/**
+	 * The timeouts of the consumers which can be changed at runtime, might be <code>null</code>
+	 */
+	private HSFTimeoutRegistry timeoutRegistry;
+
+	/**
+	 * Send the remaining time of the calls with the {@link com.taobao.hsf.spring.timeout.HSFDeadlinePropagator} and
+	 * fail at once the calls made after the {@link com.taobao.hsf.spring.timeout.HSFDeadline} of the calling thread
+	 */
+	private boolean deadlinePropagation;
+
+	private final ValueResolver valueResolver = new ConsumerValueResolver();
+
+	/**
+	 * service coordinates -> name of the shared consumer bean, guarded by the {@link #injectionMetadataCache} lock
+	 */
+	private final Map<ConsumerKey, String> consumerBeanNames = new HashMap<ConsumerKey, String>();
+
+	/**
+	 * consumer bean name or alias -> service coordinates, guarded by the {@link #injectionMetadataCache} lock
+	 */
+	private final Map<String, ConsumerKey> consumerKeys = new HashMap<String, ConsumerKey>();
+
+	/**
+	 * consumer bean name -> the interceptors applied to the consumer, shared by all its {@link HSF} fields
+	 */
+	private final Map<String, List<Advice>> consumerAdvices = new ConcurrentHashMap<String, List<Advice>>();
+
+	/**
+	 * {@link HSF} field -> the consumer interceptors, followed by the batch interceptor of a {@link HSFBatch} field
+	 */
+	private final Map<Field, List<Advice>> fieldAdvices = new ConcurrentHashMap<Field, List<Advice>>();
+
+	/**
+	 * consumer bean name and batch configuration -> batch interceptor, shared by the fields batching the same calls so
+	 * that they are merged together, guarded by the {@link #consumerAdvices} lock
+	 */
+	private final Map<String, HSFBatchInterceptor> batchInterceptors = new HashMap<String, HSFBatchInterceptor>();
+
+	/**
+	 * consumer bean name and circuit breaker configuration -> circuit breaker interceptor, shared by the fields with
+	 * the same configuration, guarded by the {@link #consumerAdvices} lock
+	 */
+	private final Map<String, HSFCircuitBreakerInterceptor> circuitBreakers = new HashMap<String, HSFCircuitBreakerInterceptor>();
+
+	/**
+	 * consumer bean name -> single flight interceptor, shared by its {@link HSF#singleFlight()} fields, guarded by the
+	 * {@link #consumerAdvices} lock
+	 */
+	private final Map<String, HSFSingleFlightInterceptor> singleFlights = new HashMap<String, HSFSingleFlightInterceptor>();
+
+	/**
+	 * consumer bean name and hedged methods -> hedging interceptor, guarded by the {@link #consumerAdvices} lock
+	 */
+	private final Map<String, HSFHedgingInterceptor> hedgingInterceptors = new HashMap<String, HSFHedgingInterceptor>();
+
+	/**
+	 * consumer bean name -> timeout interceptor, guarded by the {@link #consumerAdvices} lock
+	 */
+	private final Map<String, HSFTimeoutInterceptor> timeoutInterceptors = new HashMap<String, HSFTimeoutInterceptor>();
+
+	/**
+	 * consumer bean name -> deadline propagation interceptor, guarded by the {@link #consumerAdvices} lock
+	 */
+	private final Map<String, HSFDeadlinePropagationInterceptor> deadlineInterceptors = new HashMap<String, HSFDeadlinePropagationInterceptor>();
+
+	/**
+	 * The maximum percentage of the calls of the hedged methods which may be hedged
+	 */
+	private int hedgeBudgetPercent = 10;
+
+	/**
+	 * The maximum number of threads running the requests of the hedged methods
+	 */
+	private int hedgeThreads = 200;
+
+	/**
+	 * Created with the first hedging interceptor, guarded by the {@link #consumerAdvices} lock
+	 */
+	private HSFHedgeBudget hedgeBudget;
+
+	/**
+	 * Created with the first hedging interceptor, guarded by the {@link #consumerAdvices} lock
+	 */
+	private ExecutorService hedgeExecutor;
+
+	/**
+	 * The registered MBeans of the consumer interceptors, guarded by the {@link #consumerAdvices} lock
+	 */
+	private final List<ObjectName> objectNames = new ArrayList<ObjectName>();
+
+	/**
+	 * The time spent building the consumer bean definitions, guarded by the {@link #injectionMetadataCache} lock
+	 */
+	private long definitionNanos;
+
+	/**
+	 * The per-class injection metadata, so that the class hierarchy is only walked once
+	 */
+	private final Map<Class<?>, HSFInjectionMetadata> injectionMetadataCache = new ConcurrentHashMap<Class<?>, HSFInjectionMetadata>(
+			64);
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) {
 		if (beanFactory instanceof ConfigurableListableBeanFactory) {
 			this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+			if (useIndex) {
+				this.index = HSFAnnotationIndex.load(this.beanFactory.getBeanClassLoader());
+			}
 		}
 	}
 
 	@Override
 	public boolean postProcessAfterInstantiation(Object bean, String beanName) throws BeansException {
-		postAnnotation(bean.getClass());
+		HSFInjectionMetadata metadata = findInjectionMetadata(bean.getClass());
+		if (!metadata.isEmpty()) {
+			metadata.inject(bean, beanName, valueResolver);
+		}
 		return true;
 	}
 
-	private void postAnnotation(Class<?> beanType) throws BeansException {
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		if (startupRecorder != null && hasInitMethod(bean, beanName)) {
+			startupRecorder.recordInitStart(beanName, HSFStartupRecorder.getType(bean));
+		}
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		if (startupRecorder != null && hasInitMethod(bean, beanName)) {
+			startupRecorder.recordInitEnd(beanName, null);
+		}
+		return bean;
+	}
+
+	/**
+	 * @return <code>true</code> if the bean is a HSF bean initialized by its init method, a failed <code>init</code>
+	 *         is then recorded as never completed
+	 */
+	private boolean hasInitMethod(Object bean, String beanName) {
+		if (HSFStartupRecorder.getType(bean) == null || !beanFactory.containsBeanDefinition(beanName)) {
+			return false;
+		}
+		BeanDefinition beanDefinition = beanFactory.getMergedBeanDefinition(beanName);
+		return beanDefinition instanceof AbstractBeanDefinition
+				&& INIT_METHOD_NAME.equals(((AbstractBeanDefinition) beanDefinition).getInitMethodName());
+	}
+
+	/**
+	 * Find the cached injection metadata of the bean class, building it on the first lookup
+	 * 
+	 * @param beanType the bean class
+	 * @return the injection metadata, {@link HSFInjectionMetadata#EMPTY} if the class has no {@link HSF} field
+	 */
+	private HSFInjectionMetadata findInjectionMetadata(Class<?> beanType) throws BeansException {
+		HSFInjectionMetadata metadata = injectionMetadataCache.get(beanType);
+		if (metadata == null) {
+			synchronized (injectionMetadataCache) {
+				metadata = injectionMetadataCache.get(beanType);
+				if (metadata == null) {
+					metadata = buildInjectionMetadata(beanType);
+					injectionMetadataCache.put(beanType, metadata);
+				}
+			}
+		}
+		return metadata;
+	}
+
+	/**
+	 * Walk the class hierarchy once, registering a HSFSpringConsumerBean definition for each {@link HSF} field
+	 * 
+	 * @param beanType the bean class
+	 * @return the injection metadata of the class
+	 */
+	private HSFInjectionMetadata buildInjectionMetadata(Class<?> beanType) throws BeansException {
+		if (!PackageUtils.isInPackages(beanType.getName(), basePackages)
+				|| (index != null && !index.hasConsumerFields(beanType))) {
+			return HSFInjectionMetadata.EMPTY;
+		}
+		long start = System.nanoTime();
+		long definitionStart = definitionNanos;
+		final List<InjectedField> injectedFields = new ArrayList<InjectedField>();
 		ReflectionUtils.doWithFields(beanType, new FieldCallback() {
 
 			@Override
 			public void doWith(Field field) throws IllegalArgumentException, IllegalAccessException {
 				HSF annotation = field.getAnnotation(HSF.class);
 				if (annotation != null) {
-					String beanName = guessBeanName(annotation, field);
-					if (!beanFactory.containsBeanDefinition(beanName)) {
-						AbstractBeanDefinition beanDefinition = createHSFSpringConsumerBeanDefinition(field,
-								annotation, beanFactory);
-						registerBeanDefinition((BeanDefinitionRegistry) beanFactory, beanName, beanDefinition);
+					String beanName = resolveConsumerBeanName(field, annotation);
+					HSFBatch batch = field.getAnnotation(HSFBatch.class);
+					if (batch != null) {
+						if (!field.getType().isInterface()) {
+							throw new IllegalArgumentException("The @HSFBatch field " + field
+									+ " must be of an interface type");
+						}
+						// 尽早校验批量方法
+						getBatchInterceptor(beanName, field.getType(), batch);
+					}
+					HSFCircuitBreaker circuitBreaker = field.getAnnotation(HSFCircuitBreaker.class);
+					if (circuitBreaker != null) {
+						if (!field.getType().isInterface()) {
+							throw new IllegalArgumentException("The @HSFCircuitBreaker field " + field
+									+ " must be of an interface type");
+						}
+						if (StringUtils.hasText(circuitBreaker.fallback())
+								&& !beanFactory.containsBean(circuitBreaker.fallback())) {
+							throw new IllegalArgumentException("No fallback bean " + circuitBreaker.fallback()
+									+ " for the @HSFCircuitBreaker field " + field);
+						}
+						// 尽早校验熔断配置
+						getCircuitBreakerInterceptor(beanName, field.getType(), circuitBreaker);
+					}
+					if (annotation.warmupCalls().length > 0) {
+						// 尽早校验预热调用
+						HSFConsumerWarmer.parseWarmupCalls(field.getType(), annotation.warmupCalls());
+					}
+					if (annotation.hedgeMethods().length > 0) {
+						if (!field.getType().isInterface()) {
+							throw new IllegalArgumentException("The @HSF field " + field
+									+ " sets hedgeMethods, it must be of an interface type");
+						}
+						// 尽早校验对冲方法
+						try {
+							getHedgingInterceptor(beanName, field.getType(), annotation.hedgeMethods());
+						} catch (IllegalArgumentException ex) {
+							throw new IllegalArgumentException("Invalid hedgeMethods of the @HSF field " + field + ": "
+									+ ex.getMessage(), ex);
+						}
+					}
+					if (!Modifier.isStatic(field.getModifiers())) {
+						ReflectionUtils.makeAccessible(field);
+						injectedFields.add(new InjectedField(field, annotation, beanName));
 					}
 				}
 			}
+		});
+		if (startupRecorder != null) {
+			startupRecorder.recordScan(System.nanoTime() - start - (definitionNanos - definitionStart));
+		}
+		return injectedFields.isEmpty() ? HSFInjectionMetadata.EMPTY : new HSFInjectionMetadata(injectedFields);
+	}
 
-			/**
-			 * @param field
-			 * @param annotation
-			 * @param beanFactory TODO
-			 * @return
-			 */
-			private AbstractBeanDefinition createHSFSpringConsumerBeanDefinition(Field field, HSF annotation,
-					ConfigurableListableBeanFactory beanFactory) {
-				BeanDefinitionBuilder builder = BeanDefinitionBuilder
-						.genericBeanDefinition(HSF_SPRING_CONSUMER_BEAN_CLASS_NAME);
-				builder.setInitMethodName(INIT_METHOD_NAME);
-				// 必须配置[String]，调用的服务的接口名称
-				addPropertyValue(builder, INTERFACE_NAME_ATTRIBUTE, field.getType().getName());
-				// 可选配置[String]，调用的服务的版本，默认为1.0.0
-				addPropertyValue(builder, VERSION_ATTRIBUTE, beanFactory.resolveEmbeddedValue(annotation.version()));
-				// 可选配置[String]，调用的服务所在的组，默认为HSF
-				addPropertyValue(builder, GROUP_ATTRIBUTE, beanFactory.resolveEmbeddedValue(annotation.group()));
-				// 可选配置[String]，调用的服务的地址和端口
-				addPropertyValue(builder, TARGET_ATTRIBUTE, beanFactory.resolveEmbeddedValue(annotation.target()));
-				// 可选配置，含义为为方法单独配置超时(单位ms)，这样接口中的方法可以采用不同的超时时间，
-				// 该配置优先级高于服务端的超时配置
-				addPropertyValue(builder, METHOD_SPECIALS_ATTRIBUTE, createMethodSpecials(annotation.methodSpecials()));
-
-				return builder.getBeanDefinition();
-			}
-
-			/**
-			 * @param methodSpecials the method specials array
-			 * @return A ManagedList<BeanDefinition>
-			 */
-			private ManagedList<BeanDefinition> createMethodSpecials(String[] methodSpecials) {
-				ManagedList<BeanDefinition> list = new ManagedList<BeanDefinition>();
-
-				if (!ObjectUtils.isEmpty(methodSpecials)) {
-					for (String method : methodSpecials) {
-						String[] method2Timeout = StringUtils.split(method, ":");
-						if (!ObjectUtils.isEmpty(method2Timeout) && method2Timeout.length == 2) {
-							list.add(createMethodSpecialBeanDefinition(method2Timeout));
-						}
+	/**
+	 * Resolve the consumer bean of the {@link HSF} field, registering its definition on the first use of its service
+	 * coordinates. The fields consuming the same coordinates share a single HSFSpringConsumerBean, their bean names are
+	 * registered as aliases of it.
+	 * 
+	 * @param field the {@link HSF} field
+	 * @param annotation the {@link HSF} annotation
+	 * @return the name of the shared consumer bean
+	 * @throws IllegalArgumentException if the bean name is already used for other service coordinates
+	 */
+	private String resolveConsumerBeanName(Field field, HSF annotation) {
+		String beanName = guessBeanName(annotation, field);
+		ConsumerKey key = new ConsumerKey(field.getType().getName(),
+				beanFactory.resolveEmbeddedValue(annotation.version()),
+				beanFactory.resolveEmbeddedValue(annotation.group()),
+				beanFactory.resolveEmbeddedValue(annotation.target()), annotation.methodSpecials(),
+				HSFAsyncallMethods.resolve(annotation.asyncallMethods(), field.getType()),
+				getSerializeType(field, annotation));
+		ConsumerKey registeredKey = consumerKeys.get(beanName);
+		if (registeredKey != null) {
+			if (!registeredKey.equals(key)) {
+				throw new IllegalArgumentException("The @HSF bean name " + beanName + " of field " + field
+						+ " is already used for another service: " + registeredKey + " and " + key);
+			}
+			String consumerBeanName = consumerBeanNames.get(key);
+			if (!localTargets.containsKey(consumerBeanName)) {
+				addWarmup(beanFactory.getBeanDefinition(consumerBeanName), field, annotation);
+			}
+			return consumerBeanName;
+		}
+		if (beanFactory.containsBeanDefinition(beanName)) {
+			// 已经存在同名的bean，例如在xml中配置的HSFSpringConsumerBean
+			return beanName;
+		}
+
+		String consumerBeanName = consumerBeanNames.get(key);
+		String localTarget = consumerBeanName == null ? findLocalTarget(field, key) : null;
+		if (localTarget != null) {
+			// 同一容器中发布的服务直接调用目标bean，不创建HSFSpringConsumerBean
+			localTargets.put(beanName, localTarget);
+			consumerBeanName = beanName;
+			consumerBeanNames.put(key, consumerBeanName);
+		} else if (consumerBeanName == null) {
+			long definitionStart = System.nanoTime();
+			AbstractBeanDefinition beanDefinition = createHSFSpringConsumerBeanDefinition(field, annotation,
+					beanFactory);
+			registerBeanDefinition((BeanDefinitionRegistry) beanFactory, beanName, beanDefinition);
+			long elapsed = System.nanoTime() - definitionStart;
+			definitionNanos += elapsed;
+			if (startupRecorder != null) {
+				startupRecorder.recordDefinition(beanName, HSFStartupRecorder.CONSUMER, key.interfaceName, elapsed);
+			}
+			consumerBeanName = beanName;
+			consumerBeanNames.put(key, consumerBeanName);
+		} else if (!localTargets.containsKey(consumerBeanName)) {
+			// 相同的服务只创建一个HSFSpringConsumerBean
+			beanFactory.registerAlias(consumerBeanName, beanName);
+			addWarmup(beanFactory.getBeanDefinition(consumerBeanName), field, annotation);
+		}
+		consumerKeys.put(beanName, key);
+		return consumerBeanName;
+	}
+
+	/**
+	 * Find the target bean of the provider exported in this context for the service coordinates of the consumer. The
+	 * consumers with a target address or asynchronous methods, and the fields of a class type, always call the remote
+	 * service.
+	 * 
+	 * @param field the {@link HSF} field
+	 * @param key the service coordinates of the consumer
+	 * @return the name of the target bean, <code>null</code> if the consumer has to call the remote service
+	 */
+	private String findLocalTarget(Field field, ConsumerKey key) {
+		if (localCall == null || !field.getType().isInterface() || key.target.length() > 0
+				|| !key.asyncallMethods.isEmpty()) {
+			return null;
+		}
+		if (localServices == null) {
+			localServices = new HashMap<String, String>();
+			for (String beanName : beanFactory.getBeanDefinitionNames()) {
+				BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+				String serviceKey = (String) beanDefinition.getAttribute(LOCAL_SERVICE_ATTRIBUTE);
+				if (serviceKey != null) {
+					// 多个provider发布相同的服务时无法确定目标bean
+					localServices.put(serviceKey, localServices.containsKey(serviceKey) ? null
+							: (String) beanDefinition.getAttribute(LOCAL_TARGET_ATTRIBUTE));
+				}
+			}
+		}
+		return localServices.get(getServiceKey(key.interfaceName, key.version, key.group));
+	}
+
+	/**
+	 * @param interfaceName the service interface name
+	 * @param version the service version, 1.0.0 if empty
+	 * @param group the service group, HSF if empty
+	 * @return the service coordinates matching the consumers and the providers of the same service
+	 */
+	static String getServiceKey(String interfaceName, String version, String group) {
+		return interfaceName + ':' + (StringUtils.hasText(version) ? version.trim() : "1.0.0") + ':'
+				+ (StringUtils.hasText(group) ? group.trim() : "HSF");
+	}
+
+	/**
+	 * @param field
+	 * @param annotation
+	 * @param beanFactory TODO
+	 * @return
+	 */
+	private AbstractBeanDefinition createHSFSpringConsumerBeanDefinition(Field field, HSF annotation,
+			ConfigurableListableBeanFactory beanFactory) {
+		BeanDefinitionBuilder builder = BeanDefinitionBuilder
+				.genericBeanDefinition(HSF_SPRING_CONSUMER_BEAN_CLASS_NAME);
+		if (deferInit) {
+			builder.getRawBeanDefinition().setAttribute(HSFBeanInitializer.DEFERRED_INIT_ATTRIBUTE, Boolean.TRUE);
+		} else {
+			builder.setInitMethodName(INIT_METHOD_NAME);
+		}
+		// 延迟初始化的HSFSpringConsumerBean在第一次调用时才创建
+		builder.setLazyInit(isLazy(annotation, field.getType()));
+		// 需要预热的HSFSpringConsumerBean在容器刷新完成时由HSFConsumerWarmer初始化并预热
+		addWarmup(builder.getRawBeanDefinition(), field, annotation);
+		// 必须配置[String]，调用的服务的接口名称
+		addPropertyValue(builder, INTERFACE_NAME_ATTRIBUTE, field.getType().getName());
+		// 可选配置[String]，调用的服务的版本，默认为1.0.0
+		addPropertyValue(builder, VERSION_ATTRIBUTE, beanFactory.resolveEmbeddedValue(annotation.version()));
+		// 可选配置[String]，调用的服务所在的组，默认为HSF
+		addPropertyValue(builder, GROUP_ATTRIBUTE, beanFactory.resolveEmbeddedValue(annotation.group()));
+		// 可选配置[String]，调用的服务的地址和端口
+		addPropertyValue(builder, TARGET_ATTRIBUTE, beanFactory.resolveEmbeddedValue(annotation.target()));
+		// 可选配置，含义为为方法单独配置超时(单位ms)，这样接口中的方法可以采用不同的超时时间，
+		// 该配置优先级高于服务端的超时配置
+		addPropertyValue(builder, METHOD_SPECIALS_ATTRIBUTE, createMethodSpecials(annotation.methodSpecials()));
+		// 可选配置，异步调用的方法，调用时不阻塞调用线程
+		addPropertyValue(builder, ASYNCALL_METHODS_ATTRIBUTE,
+				HSFAsyncallMethods.resolve(annotation.asyncallMethods(), field.getType()));
+		// 可选配置，序列化方式，默认使用HSF的序列化方式
+		addPropertyValue(builder, SERIALIZE_TYPE_ATTRIBUTE, getSerializeType(field, annotation));
+
+		return builder.getBeanDefinition();
+	}
+
+	/**
+	 * @param field the {@link HSF} field
+	 * @param annotation the {@link HSF} annotation
+	 * @return the serializer, <code>null</code> to use the serializeType of HSF
+	 * @throws IllegalArgumentException if HSF can not resolve the serializer
+	 */
+	private String getSerializeType(Field field, HSF annotation) {
+		String serializer = annotation.serializer();
+		if (!StringUtils.hasText(serializer)) {
+			return null;
+		}
+		try {
+			SerializeTypeUtils.check(serializer, registeredSerializeTypes);
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Invalid serializer of the @HSF field " + field + ": "
+					+ ex.getMessage(), ex);
+		}
+		return serializer;
+	}
+
+	/**
+	 * Mark the consumer bean definition to be warmed up by the {@link HSFConsumerWarmer}, adding the warm-up calls of
+	 * the field to the ones of the other fields sharing the consumer
+	 * 
+	 * @param beanDefinition the HSFSpringConsumerBean definition
+	 * @param field the {@link HSF} field
+	 * @param annotation the {@link HSF} annotation
+	 */
+	private void addWarmup(BeanDefinition beanDefinition, Field field, HSF annotation) {
+		if (!warmup && !annotation.preconnect() && annotation.warmupCalls().length == 0) {
+			return;
+		}
+		String[] warmupCalls = (String[]) beanDefinition.getAttribute(HSFConsumerWarmer.WARMUP_CALLS_ATTRIBUTE);
+		beanDefinition.setAttribute(HSFConsumerWarmer.WARMUP_CALLS_ATTRIBUTE, warmupCalls != null ? StringUtils
+				.mergeStringArrays(warmupCalls, annotation.warmupCalls()) : annotation.warmupCalls());
+		beanDefinition.setAttribute(HSFConsumerWarmer.WARMUP_INTERFACE_ATTRIBUTE, field.getType().getName());
+	}
+
+	/**
+	 * @param methodSpecials the method specials array
+	 * @return A ManagedList<BeanDefinition>
+	 */
+	private ManagedList<BeanDefinition> createMethodSpecials(String[] methodSpecials) {
+		ManagedList<BeanDefinition> list = new ManagedList<BeanDefinition>();
+
+		if (!ObjectUtils.isEmpty(methodSpecials)) {
+			for (String method : methodSpecials) {
+				String[] method2Timeout = StringUtils.split(method, ":");
+				if (!ObjectUtils.isEmpty(method2Timeout) && method2Timeout.length == 2) {
+					list.add(createMethodSpecialBeanDefinition(method2Timeout));
+				}
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * @param split
+	 * @return
+	 */
+	private AbstractBeanDefinition createMethodSpecialBeanDefinition(String[] split) {
+		BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(METHOD_SPECIAL_CLASS_NAME);
+		addPropertyValue(builder, METHOD_NAME_ATTRIBUTE, split[0]);
+		addPropertyValue(builder, CLIENT_TIMEOUT_ATTRIBUTE, split[1]);
+		return builder.getBeanDefinition();
+	}
+
+	/**
+	 * rigister the bean definition with the rigistry
+	 * 
+	 * @param registry the regigitry
+	 * @param beanName the bean name
+	 * @param beanDefinition
+	 */
+	private void registerBeanDefinition(BeanDefinitionRegistry registry, String beanName,
+			AbstractBeanDefinition beanDefinition) {
+		registry.registerBeanDefinition(beanName, beanDefinition);
+	}
+
+	/**
+	 * Guess the bean name
+	 * 
+	 * @param annotation HSF annotation
+	 * @param field the field to get name
+	 * @return the bean name
+	 */
+	private String guessBeanName(HSF annotation, Field field) {
+		return StringUtils.hasText(annotation.name()) ? annotation.name() : field.getName();
+	}
+
+	/**
+	 * Resolves the consumers injected into the {@link HSF} fields
+	 */
+	private class ConsumerValueResolver implements ValueResolver {
+
+		@Override
+		public Object resolveValue(InjectedField injectedField) throws BeansException {
+			String consumerBeanName = injectedField.getConsumerBeanName();
+			Class<?> fieldType = injectedField.getField().getType();
+			boolean lazy = isLazy(injectedField.getAnnotation(), fieldType);
+			List<Advice> advices = fieldType.isInterface() ? getAdvices(injectedField) : Collections
+					.<Advice> emptyList();
+			String localTarget = localTargets.get(consumerBeanName);
+			TargetSource targetSource;
+			if (localTarget != null) {
+				if (LOCAL_CALL_COPY.equals(localCall)) {
+					// 复制参数和结果，调用双方互不影响，如同远程调用
+					advices = new ArrayList<Advice>(advices);
+					advices.add(new HSFLocalCallInterceptor(fieldType));
+				}
+				if (lazy) {
+					// 第一次调用时才获取目标bean
+					LazyInitTargetSource lazyTargetSource = new LazyInitTargetSource();
+					lazyTargetSource.setTargetBeanName(localTarget);
+					lazyTargetSource.setTargetClass(fieldType);
+					lazyTargetSource.setBeanFactory(beanFactory);
+					targetSource = lazyTargetSource;
+				} else {
+					Object target = beanFactory.getBean(localTarget, fieldType);
+					if (advices.isEmpty()) {
+						return target;
 					}
+					targetSource = new SingletonTargetSource(target);
+				}
+			} else if (!deferInit && !lazy) {
+				Object consumer = beanFactory.getBean(consumerBeanName, fieldType);
+				if (advices.isEmpty()) {
+					return consumer;
+				}
+				targetSource = new SingletonTargetSource(consumer);
+			} else {
+				// 创建HSFSpringConsumerBean以尽早开始并行初始化，初始化完成之前注入代理
+				if (!lazy && beanFactory.isFactoryBean(consumerBeanName)) {
+					beanFactory.getBean(BeanFactory.FACTORY_BEAN_PREFIX + consumerBeanName);
+				}
+				HSFConsumerTargetSource consumerTargetSource = new HSFConsumerTargetSource(beanFactory,
+						consumerBeanName, fieldType, deferInit ? getBeanInitializer() : null);
+				if (!fieldType.isInterface()) {
+					return consumerTargetSource.getTarget();
 				}
-				return list;
-			}
-
-			/**
-			 * @param split
-			 * @return
-			 */
-			private AbstractBeanDefinition createMethodSpecialBeanDefinition(String[] split) {
-				BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(METHOD_SPECIAL_CLASS_NAME);
-				addPropertyValue(builder, METHOD_NAME_ATTRIBUTE, split[0]);
-				addPropertyValue(builder, CLIENT_TIMEOUT_ATTRIBUTE, split[1]);
-				return builder.getBeanDefinition();
-			}
-
-			/**
-			 * rigister the bean definition with the rigistry
-			 * 
-			 * @param registry the regigitry
-			 * @param beanName the bean name
-			 * @param beanDefinition
-			 */
-			private void registerBeanDefinition(BeanDefinitionRegistry registry, String beanName,
-					AbstractBeanDefinition beanDefinition) {
-				registry.registerBeanDefinition(beanName, beanDefinition);
-			}
-
-			/**
-			 * Guess the bean name
-			 * 
-			 * @param annotation HSF annotation
-			 * @param field the field to get name
-			 * @return the bean name
-			 */
-			private String guessBeanName(HSF annotation, Field field) {
-				return StringUtils.hasText(annotation.name()) ? annotation.name() : field.getName();
+				targetSource = consumerTargetSource;
 			}
+			ProxyFactory proxyFactory = new ProxyFactory(fieldType, targetSource);
+			for (Advice advice : advices) {
+				proxyFactory.addAdvice(advice);
+			}
+			return proxyFactory.getProxy(beanFactory.getBeanClassLoader());
+		}
 
-		});
+		@Override
+		public boolean isCacheable(InjectedField injectedField) {
+			String consumerBeanName = injectedField.getConsumerBeanName();
+			if (localTargets.containsKey(consumerBeanName)) {
+				consumerBeanName = localTargets.get(consumerBeanName);
+			}
+			if (beanFactory.containsBeanDefinition(consumerBeanName)) {
+				// 不能调用isSingleton，否则会提前创建延迟初始化的HSFSpringConsumerBean
+				return beanFactory.getMergedBeanDefinition(consumerBeanName).isSingleton();
+			}
+			return beanFactory.isSingleton(consumerBeanName);
+		}
+	}
+
+	/**
+	 * Get the interceptors of a {@link HSF} field: the interceptors of its consumer, followed by the circuit breaker
+	 * interceptor if the field is annotated with {@link HSFCircuitBreaker}, the single flight interceptor if
+	 * {@link HSF#singleFlight()} is set, the hedging interceptor if {@link HSF#hedgeMethods()} is set,
+	 * the batch interceptor if the field is annotated with {@link HSFBatch}, the deadline propagation interceptor if
+	 * <code>deadlinePropagation</code> is set, and the timeout interceptor if the {@link HSFTimeoutRegistry} is set
+	 * 
+	 * @param injectedField the field
+	 * @return the interceptors, outermost first
+	 */
+	private List<Advice> getAdvices(InjectedField injectedField) {
+		Field field = injectedField.getField();
+		String consumerBeanName = injectedField.getConsumerBeanName();
+		List<Advice> advices = fieldAdvices.get(field);
+		if (advices != null) {
+			return advices;
+		}
+		advices = getConsumerAdvices(consumerBeanName, field.getType());
+		HSF annotation = injectedField.getAnnotation();
+		HSFBatch batch = field.getAnnotation(HSFBatch.class);
+		HSFCircuitBreaker circuitBreaker = field.getAnnotation(HSFCircuitBreaker.class);
+		boolean timeout = timeoutRegistry != null && !localTargets.containsKey(consumerBeanName);
+		boolean deadline = deadlinePropagation && !localTargets.containsKey(consumerBeanName);
+		if (circuitBreaker != null || annotation.singleFlight() || annotation.hedgeMethods().length > 0
+				|| batch != null || timeout || deadline) {
+			// 熔断时立即失败；缓存命中的调用不参与合并，相同的调用合并之后只对冲一次，再进入批量
+			advices = new ArrayList<Advice>(advices);
+			if (circuitBreaker != null) {
+				advices.add(getCircuitBreakerInterceptor(consumerBeanName, field.getType(), circuitBreaker));
+			}
+			if (annotation.singleFlight()) {
+				advices.add(getSingleFlightInterceptor(consumerBeanName, field.getType()));
+			}
+			if (annotation.hedgeMethods().length > 0) {
+				advices.add(getHedgingInterceptor(consumerBeanName, field.getType(), annotation.hedgeMethods()));
+			}
+			if (batch != null) {
+				advices.add(getBatchInterceptor(consumerBeanName, field.getType(), batch));
+			}
+			if (deadline) {
+				// 剩余时间在发起远程调用的线程中附加，每一次对冲和重试都重新计算
+				try {
+					advices.add(getDeadlineInterceptor(consumerBeanName, field.getType(),
+							beanFactory.resolveEmbeddedValue(annotation.version()), annotation.methodSpecials()));
+				} catch (IllegalArgumentException ex) {
+					throw new IllegalArgumentException("Invalid methodSpecials of the @HSF field " + field + ": "
+							+ ex.getMessage(), ex);
+				}
+			}
+			if (timeout) {
+				// 超时只作用于每一次远程调用，最后设置，截止时间已过的调用不会留下超时
+				advices.add(getTimeoutInterceptor(consumerBeanName, field.getType(),
+						beanFactory.resolveEmbeddedValue(annotation.version())));
+			}
+		}
+		fieldAdvices.put(field, advices);
+		return advices;
+	}
+
+	private HSFBatchInterceptor getBatchInterceptor(String consumerBeanName, Class<?> serviceInterface,
+			HSFBatch batch) {
+		String key = consumerBeanName + '#' + batch.method() + '#' + batch.bulkMethod() + '#' + batch.maxBatch()
+				+ '#' + batch.maxDelayMicros();
+		synchronized (consumerAdvices) {
+			HSFBatchInterceptor interceptor = batchInterceptors.get(key);
+			if (interceptor == null) {
+				interceptor = new HSFBatchInterceptor(serviceInterface, batch);
+				batchInterceptors.put(key, interceptor);
+			}
+			return interceptor;
+		}
+	}
+
+	private HSFCircuitBreakerInterceptor getCircuitBreakerInterceptor(String consumerBeanName,
+			final Class<?> serviceInterface, HSFCircuitBreaker circuitBreaker) {
+		String key = consumerBeanName + '#' + circuitBreaker;
+		synchronized (consumerAdvices) {
+			HSFCircuitBreakerInterceptor interceptor = circuitBreakers.get(key);
+			if (interceptor == null) {
+				ObjectFactory<Object> fallback = null;
+				final String fallbackBeanName = circuitBreaker.fallback();
+				if (StringUtils.hasText(fallbackBeanName)) {
+					// 第一次使用fallback时才获取，避免提前初始化
+					fallback = new ObjectFactory<Object>() {
+
+						@Override
+						public Object getObject() throws BeansException {
+							return beanFactory.getBean(fallbackBeanName, serviceInterface);
+						}
+					};
+				}
+				interceptor = new HSFCircuitBreakerInterceptor(serviceInterface, circuitBreaker, fallback);
+				for (Map.Entry<Method, HSFMethodCircuitBreaker> entry : interceptor.getCircuitBreakers().entrySet()) {
+					registerMBean(entry.getValue(), "HSFCircuitBreaker", consumerBeanName, entry.getKey());
+				}
+				circuitBreakers.put(key, interceptor);
+			}
+			return interceptor;
+		}
+	}
+
+	private HSFSingleFlightInterceptor getSingleFlightInterceptor(String consumerBeanName, Class<?> serviceInterface) {
+		synchronized (consumerAdvices) {
+			HSFSingleFlightInterceptor interceptor = singleFlights.get(consumerBeanName);
+			if (interceptor == null) {
+				interceptor = new HSFSingleFlightInterceptor(serviceInterface);
+				singleFlights.put(consumerBeanName, interceptor);
+			}
+			return interceptor;
+		}
+	}
+
+	private HSFHedgingInterceptor getHedgingInterceptor(String consumerBeanName, Class<?> serviceInterface,
+			String[] hedgeMethods) {
+		String[] sortedHedgeMethods = hedgeMethods.clone();
+		Arrays.sort(sortedHedgeMethods);
+		String key = consumerBeanName + '#' + Arrays.toString(sortedHedgeMethods);
+		synchronized (consumerAdvices) {
+			HSFHedgingInterceptor interceptor = hedgingInterceptors.get(key);
+			if (interceptor == null) {
+				if (hedgeExecutor == null) {
+					hedgeBudget = new HSFHedgeBudget(hedgeBudgetPercent);
+					CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("HSF-hedge-");
+					threadFactory.setDaemon(true);
+					hedgeExecutor = new ThreadPoolExecutor(0, hedgeThreads, 60, TimeUnit.SECONDS,
+							new SynchronousQueue<Runnable>(), threadFactory);
+				}
+				interceptor = new HSFHedgingInterceptor(serviceInterface, hedgeMethods, hedgeBudget, hedgeExecutor);
+				hedgingInterceptors.put(key, interceptor);
+				ObjectName objectName = JmxUtils.register(interceptor, "HSFHedging", "consumer", consumerBeanName,
+						"hedgeMethods", Arrays.toString(sortedHedgeMethods));
+				if (objectName != null) {
+					objectNames.add(objectName);
+				}
+			}
+			return interceptor;
+		}
+	}
+
+	private HSFTimeoutInterceptor getTimeoutInterceptor(String consumerBeanName, Class<?> serviceInterface,
+			String version) {
+		synchronized (consumerAdvices) {
+			HSFTimeoutInterceptor interceptor = timeoutInterceptors.get(consumerBeanName);
+			if (interceptor == null) {
+				interceptor = new HSFTimeoutInterceptor(new HSFServiceTimeouts(timeoutRegistry,
+						serviceInterface.getName(), version));
+				timeoutInterceptors.put(consumerBeanName, interceptor);
+			}
+			return interceptor;
+		}
+	}
+
+	private HSFDeadlinePropagationInterceptor getDeadlineInterceptor(String consumerBeanName,
+			Class<?> serviceInterface, String version, String[] methodSpecials) {
+		synchronized (consumerAdvices) {
+			HSFDeadlinePropagationInterceptor interceptor = deadlineInterceptors.get(consumerBeanName);
+			if (interceptor == null) {
+				HSFServiceTimeouts timeouts = timeoutRegistry != null ? new HSFServiceTimeouts(timeoutRegistry,
+						serviceInterface.getName(), version) : null;
+				interceptor = new HSFDeadlinePropagationInterceptor(methodSpecials, timeouts,
+						HSFDeadlinePropagators.getPropagator());
+				deadlineInterceptors.put(consumerBeanName, interceptor);
+			}
+			return interceptor;
+		}
+	}
+
+	/**
+	 * Get the interceptors of the consumer, created on the first lookup
+	 * 
+	 * @param consumerBeanName the name of the consumer bean
+	 * @param serviceInterface the service interface
+	 * @return the interceptors, outermost first
+	 */
+	private List<Advice> getConsumerAdvices(String consumerBeanName, Class<?> serviceInterface) {
+		List<Advice> advices = consumerAdvices.get(consumerBeanName);
+		if (advices == null) {
+			synchronized (consumerAdvices) {
+				advices = consumerAdvices.get(consumerBeanName);
+				if (advices == null) {
+					advices = createConsumerAdvices(consumerBeanName, serviceInterface);
+					consumerAdvices.put(consumerBeanName, advices);
+				}
+			}
+		}
+		return advices;
+	}
+
+	private List<Advice> createConsumerAdvices(String consumerBeanName, Class<?> serviceInterface) {
+		List<Advice> advices = new ArrayList<Advice>();
+		// 本地缓存的结果不再经过其他拦截器
+		Map<Method, HSFResultCache> caches = HSFCacheInterceptor.createCaches(serviceInterface);
+		if (!caches.isEmpty()) {
+			for (Map.Entry<Method, HSFResultCache> entry : caches.entrySet()) {
+				registerMBean(entry.getValue(), "HSFResultCache", consumerBeanName, entry.getKey());
+			}
+			advices.add(new HSFCacheInterceptor(caches));
+		}
+		// 只记录没有命中缓存的调用
+		if (latencyMonitor != null) {
+			advices.add(latencyMonitor.createInterceptor(HSFLatencyMonitor.CONSUMER, consumerBeanName,
+					serviceInterface));
+		}
+		return advices.isEmpty() ? Collections.<Advice> emptyList() : advices;
+	}
+
+	private void registerMBean(Object mbean, String type, String consumerBeanName, Method method) {
+		StringBuilder methodName = new StringBuilder(method.getName()).append('(');
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		for (int i = 0; i < parameterTypes.length; i++) {
+			methodName.append(i > 0 ? "," : "").append(parameterTypes[i].getSimpleName());
+		}
+		ObjectName objectName = JmxUtils.register(mbean, type, "consumer", consumerBeanName, "method", methodName
+				.append(')').toString());
+		if (objectName != null) {
+			objectNames.add(objectName);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		synchronized (consumerAdvices) {
+			for (ObjectName objectName : objectNames) {
+				JmxUtils.unregister(objectName);
+			}
+			objectNames.clear();
+			if (hedgeExecutor != null) {
+				hedgeExecutor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * The service coordinates of a consumer, the {@link HSF} fields with equal coordinates share their consumer bean
+	 */
+	private static class ConsumerKey {
+
+		private final String interfaceName;
+
+		private final String version;
+
+		private final String group;
+
+		private final String target;
+
+		private final List<String> methodSpecials;
+
+		private final List<String> asyncallMethods;
+
+		private final String serializer;
+
+		ConsumerKey(String interfaceName, String version, String group, String target, String[] methodSpecials,
+				List<String> asyncallMethods, String serializer) {
+			this.interfaceName = interfaceName;
+			this.version = StringUtils.hasText(version) ? version : "";
+			this.group = StringUtils.hasText(group) ? group : "";
+			this.target = StringUtils.hasText(target) ? target : "";
+			// 方法配置的顺序不影响服务
+			String[] sorted = StringUtils.trimArrayElements(methodSpecials);
+			Arrays.sort(sorted);
+			this.methodSpecials = Arrays.asList(sorted);
+			this.asyncallMethods = new ArrayList<String>(asyncallMethods);
+			Collections.sort(this.asyncallMethods);
+			this.serializer = StringUtils.hasText(serializer) ? serializer : "";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ConsumerKey)) {
+				return false;
+			}
+			ConsumerKey other = (ConsumerKey) obj;
+			return interfaceName.equals(other.interfaceName) && version.equals(other.version)
+					&& group.equals(other.group) && target.equals(other.target)
+					&& methodSpecials.equals(other.methodSpecials) && asyncallMethods.equals(other.asyncallMethods)
+					&& serializer.equals(other.serializer);
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = interfaceName.hashCode();
+			hashCode = 31 * hashCode + version.hashCode();
+			hashCode = 31 * hashCode + group.hashCode();
+			hashCode = 31 * hashCode + target.hashCode();
+			hashCode = 31 * hashCode + methodSpecials.hashCode();
+			hashCode = 31 * hashCode + asyncallMethods.hashCode();
+			return 31 * hashCode + serializer.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return "[interface=" + interfaceName + ", version=" + version + ", group=" + group + ", target=" + target
+					+ ", methodSpecials=" + methodSpecials + ", asyncallMethods=" + asyncallMethods + ", serializer="
+					+ serializer + "]";
+		}
+	}
+
+	/**
+	 * @param annotation the {@link HSF} annotation
+	 * @param fieldType the type of the {@link HSF} field
+	 * @return <code>true</code> if the consumer is created on the first invocation
+	 */
+	private boolean isLazy(HSF annotation, Class<?> fieldType) {
+		return (lazy || annotation.lazy()) && fieldType.isInterface();
+	}
+
+	private synchronized HSFBeanInitializer getBeanInitializer() {
+		if (beanInitializer == null) {
+			beanInitializer = BeanFactoryUtils.beanOfType(beanFactory, HSFBeanInitializer.class, false, false);
+		}
+		return beanInitializer;
+	}
+
+	public void setLazy(boolean lazy) {
+		this.lazy = lazy;
+	}
+
+	/**
+	 * @param localCall {@link #LOCAL_CALL_DIRECT} or {@link #LOCAL_CALL_COPY}, the local calls are disabled if empty
+	 * @throws IllegalArgumentException if the mode is unknown
+	 */
+	public void setLocalCall(String localCall) {
+		if (StringUtils.hasText(localCall) && !LOCAL_CALL_DIRECT.equals(localCall)
+				&& !LOCAL_CALL_COPY.equals(localCall)) {
+			throw new IllegalArgumentException("Unknown local call mode " + localCall + ", expected "
+					+ LOCAL_CALL_DIRECT + " or " + LOCAL_CALL_COPY);
+		}
+		this.localCall = StringUtils.hasText(localCall) ? localCall : null;
+	}
+
+	public void setWarmup(boolean warmup) {
+		this.warmup = warmup;
+	}
+
+	public void setDeferInit(boolean deferInit) {
+		this.deferInit = deferInit;
+	}
+
+	public void setRegisteredSerializeTypes(String[] registeredSerializeTypes) {
+		this.registeredSerializeTypes = SerializeTypeUtils.normalize(registeredSerializeTypes);
+	}
+
+	public void setBasePackages(String[] basePackages) {
+		this.basePackages = PackageUtils.normalize(basePackages);
+	}
+
+	public void setUseIndex(boolean useIndex) {
+		this.useIndex = useIndex;
+	}
+
+	public void setStartupRecorder(HSFStartupRecorder startupRecorder) {
+		this.startupRecorder = startupRecorder;
+	}
+
+	public void setLatencyMonitor(HSFLatencyMonitor latencyMonitor) {
+		this.latencyMonitor = latencyMonitor;
+	}
+
+	public void setTimeoutRegistry(HSFTimeoutRegistry timeoutRegistry) {
+		this.timeoutRegistry = timeoutRegistry;
+	}
+
+	public void setDeadlinePropagation(boolean deadlinePropagation) {
+		this.deadlinePropagation = deadlinePropagation;
+	}
+
+	public void setHedgeBudgetPercent(int hedgeBudgetPercent) {
+		this.hedgeBudgetPercent = hedgeBudgetPercent;
+	}
+
+	public void setHedgeThreads(int hedgeThreads) {
+		this.hedgeThreads = hedgeThreads;
 	}
 
 	public void setOrder(int order) {
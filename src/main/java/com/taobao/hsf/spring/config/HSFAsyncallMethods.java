@@ -0,0 +1,108 @@
+package com.taobao.hsf.spring.config;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.StringUtils;
+
+import com.taobao.hsf.spring.annotation.HSF;
+import com.taobao.hsf.spring.annotation.HSFAsync;
+
+/**
+ * Translates the {@link HSF#asyncallMethods()} of a field and the {@link HSFAsync} methods of its service interface
+ * into the asyncallMethods of the HSFSpringConsumerBean, so that HSF invokes them without blocking the caller:
+ * 
+ * <pre>
+ * get                               -&gt; name:get;type:future
+ * query:callback:com.foo.Listener   -&gt; name:query;type:callback;listener:com.foo.Listener
+ * name:get;type:future              -&gt; name:get;type:future
+ * </pre>
+ * 
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class HSFAsyncallMethods {
+
+	private static final String NAME_KEY = "name:";
+
+	private static final String TYPE_KEY = "type:";
+
+	private static final String LISTENER_KEY = "listener:";
+
+	private static final String SEPARATOR = ";";
+
+	private static final String FUTURE = HSFAsync.Type.future.name();
+
+	private static final String CALLBACK = HSFAsync.Type.callback.name();
+
+	/**
+	 * @param asyncallMethods the {@link HSF#asyncallMethods()} of the field, overriding the {@link HSFAsync} methods
+	 * @param serviceInterface the service interface
+	 * @return the HSF asyncallMethods, in the order of the service interface methods then of the field configuration
+	 * @throws IllegalArgumentException if a method is not a method of the service interface or is misconfigured
+	 */
+	static List<String> resolve(String[] asyncallMethods, Class<?> serviceInterface) {
+		// method name -> HSF configuration
+		Map<String, String> methods = new LinkedHashMap<String, String>();
+		for (Method method : serviceInterface.getMethods()) {
+			HSFAsync async = method.getAnnotation(HSFAsync.class);
+			if (async != null) {
+				String listener = async.listener() != Void.class ? async.listener().getName() : null;
+				methods.put(method.getName(), toHSFConfiguration(method.getName(), async.type().name(), listener));
+			}
+		}
+		for (String asyncallMethod : asyncallMethods) {
+			if (!StringUtils.hasText(asyncallMethod)) {
+				continue;
+			}
+			String configuration = asyncallMethod.trim();
+			String methodName;
+			if (configuration.startsWith(NAME_KEY)) {
+				// HSF原生格式
+				int index = configuration.indexOf(SEPARATOR);
+				methodName = configuration.substring(NAME_KEY.length(), index == -1 ? configuration.length() : index);
+			} else {
+				String[] split = StringUtils.trimArrayElements(StringUtils.delimitedListToStringArray(configuration,
+						":"));
+				methodName = split[0];
+				configuration = toHSFConfiguration(methodName, split.length > 1 ? split[1] : FUTURE,
+						split.length > 2 ? split[2] : null);
+			}
+			methods.put(methodName.trim(), configuration);
+		}
+		for (String methodName : methods.keySet()) {
+			if (!hasMethod(serviceInterface, methodName)) {
+				throw new IllegalArgumentException("The asyncall method " + methodName + " is not a method of "
+						+ serviceInterface.getName());
+			}
+		}
+		return new ArrayList<String>(methods.values());
+	}
+
+	private static String toHSFConfiguration(String methodName, String type, String listener) {
+		if (FUTURE.equals(type)) {
+			return NAME_KEY + methodName + SEPARATOR + TYPE_KEY + FUTURE;
+		} else if (CALLBACK.equals(type)) {
+			if (!StringUtils.hasText(listener)) {
+				throw new IllegalArgumentException("The callback asyncall method " + methodName
+						+ " must set its listener class");
+			}
+			return NAME_KEY + methodName + SEPARATOR + TYPE_KEY + CALLBACK + SEPARATOR + LISTENER_KEY + listener;
+		}
+		throw new IllegalArgumentException("Unknown asyncall type " + type + " of method " + methodName
+				+ ", must be " + FUTURE + " or " + CALLBACK);
+	}
+
+	private static boolean hasMethod(Class<?> serviceInterface, String methodName) {
+		for (Method method : serviceInterface.getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
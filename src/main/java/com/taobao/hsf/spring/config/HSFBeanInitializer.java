@@ -0,0 +1,398 @@
+package com.taobao.hsf.spring.config;
+
+import static com.taobao.hsf.spring.util.ClassNameContants.HSF_SPRING_CONSUMER_BEAN_CLASS_NAME;
+import static com.taobao.hsf.spring.util.ClassNameContants.HSF_SPRING_PROVIDER_BEAN_CLASS_NAME;
+import static com.taobao.hsf.spring.util.ClassNameContants.INIT_METHOD_NAME;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import com.taobao.hsf.spring.monitor.HSFStartupRecorder;
+
+/**
+ * Invokes the <code>init</code> method of the HSFSpringConsumerBean and HSFSpringProviderBean instances concurrently
+ * on a bounded executor, instead of one after another on the refresh thread. The refresh of the context does not
+ * complete before all of them have been initialized, and fails with an aggregated report if any of them failed or did
+ * not finish within the <code>initTimeout</code>.
+ * <p>
+ * Only the bean definitions marked with {@link #DEFERRED_INIT_ATTRIBUTE} are initialized by this post processor.
+ * <p>
+ * The HSFSpringProviderBean definitions marked with {@link #PUBLISH_ON_REFRESH_ATTRIBUTE} are only published once the
+ * context is refreshed and all the pending initializations completed: the warm-up method of every target bean is
+ * invoked first, then all the providers are published together, so that no traffic is received by a half started
+ * application.
+ * <p>
+ * The {@link HSFConsumerWarmer} is triggered last, so that the warm-up calls of the consumers only start once all the
+ * HSF beans are initialized and the providers published.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFBeanInitializer implements BeanPostProcessor, BeanFactoryAware, ApplicationContextAware,
+		ApplicationListener<ContextRefreshedEvent>, DisposableBean {
+
+	/**
+	 * The bean definition attribute marking the HSF beans whose <code>init</code> method is invoked by this post
+	 * processor rather than as their init method
+	 */
+	public static final String DEFERRED_INIT_ATTRIBUTE = HSFBeanInitializer.class.getName() + ".deferredInit";
+
+	/**
+	 * The bean definition attribute marking the HSFSpringProviderBean published once the context is refreshed
+	 */
+	public static final String PUBLISH_ON_REFRESH_ATTRIBUTE = HSFBeanInitializer.class.getName() + ".publishOnRefresh";
+
+	/**
+	 * The bean definition attribute holding the name of the target bean to warm up before publishing
+	 */
+	public static final String WARMUP_TARGET_ATTRIBUTE = HSFBeanInitializer.class.getName() + ".warmupTarget";
+
+	/**
+	 * The bean definition attribute holding the name of the no-arg warm-up method of the target bean
+	 */
+	public static final String WARMUP_METHOD_ATTRIBUTE = HSFBeanInitializer.class.getName() + ".warmupMethod";
+
+	/**
+	 * The bean definition attribute holding how many times the warm-up method is invoked
+	 */
+	public static final String WARMUP_ITERATIONS_ATTRIBUTE = HSFBeanInitializer.class.getName() + ".warmupIterations";
+
+	/**
+	 * The failure description of the beans which did not complete within the <code>initTimeout</code>
+	 */
+	private static final String TIMED_OUT = "timed out";
+
+	private ConfigurableListableBeanFactory beanFactory;
+
+	private ApplicationContext applicationContext;
+
+	/**
+	 * The max number of HSF beans initialized at the same time
+	 */
+	private int initThreads = 16;
+
+	/**
+	 * The max time in ms to wait for the pending initializations once the context is refreshed
+	 */
+	private long initTimeout = 60000;
+
+	private ThreadPoolExecutor executor;
+
+	/**
+	 * Records the <code>init</code> duration and failure of the HSF beans, might be <code>null</code>
+	 */
+	private HSFStartupRecorder startupRecorder;
+
+	/**
+	 * bean name -> pending or finished initialization, in submission order
+	 */
+	private final Map<String, Future<?>> initializations = Collections
+			.synchronizedMap(new LinkedHashMap<String, Future<?>>());
+
+	/**
+	 * bean name -> HSFSpringProviderBean to publish once the context is refreshed, in creation order
+	 */
+	private final Map<String, Object> providersToPublish = Collections
+			.synchronizedMap(new LinkedHashMap<String, Object>());
+
+	public void setInitThreads(int initThreads) {
+		this.initThreads = initThreads;
+	}
+
+	public void setInitTimeout(long initTimeout) {
+		this.initTimeout = initTimeout;
+	}
+
+	public void setStartupRecorder(HSFStartupRecorder startupRecorder) {
+		this.startupRecorder = startupRecorder;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		if (beanFactory instanceof ConfigurableListableBeanFactory) {
+			this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+		}
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(final Object bean, final String beanName) throws BeansException {
+		BeanDefinition beanDefinition = getHSFBeanDefinition(bean, beanName);
+		if (beanDefinition == null) {
+			return bean;
+		}
+		if (Boolean.TRUE.equals(beanDefinition.getAttribute(DEFERRED_INIT_ATTRIBUTE))) {
+			initializations.put(beanName, submitInitMethod(beanName, bean));
+		} else if (Boolean.TRUE.equals(beanDefinition.getAttribute(PUBLISH_ON_REFRESH_ATTRIBUTE))) {
+			providersToPublish.put(beanName, bean);
+		}
+		return bean;
+	}
+
+	/**
+	 * Wait until the HSF bean has been initialized
+	 *
+	 * @param beanName the name of the HSF bean
+	 * @throws BeansException if the initialization failed or timed out
+	 */
+	public void awaitInitialization(String beanName) throws BeansException {
+		Future<?> future = initializations.get(beanName);
+		if (future != null) {
+			String failure = await(future, initTimeout);
+			if (failure != null) {
+				throw new BeanCreationException(beanName, "Initialization of HSF bean failed: " + failure,
+						getCause(future));
+			}
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		if (event.getApplicationContext() != applicationContext) {
+			return;
+		}
+		Map<String, Future<?>> pending;
+		synchronized (initializations) {
+			pending = new LinkedHashMap<String, Future<?>>(initializations);
+		}
+		awaitAll(pending, "initialize");
+
+		Map<String, Object> providers;
+		synchronized (providersToPublish) {
+			providers = new LinkedHashMap<String, Object>(providersToPublish);
+			providersToPublish.clear();
+		}
+		if (!providers.isEmpty()) {
+			publish(providers);
+		}
+
+		// Spring按Ordered而不是注册的顺序通知ApplicationListener，由这里在发布完成后触发consumer的预热
+		if (beanFactory != null) {
+			for (HSFConsumerWarmer consumerWarmer : beanFactory.getBeansOfType(HSFConsumerWarmer.class, false, false)
+					.values()) {
+				consumerWarmer.warmUp();
+			}
+		}
+	}
+
+	/**
+	 * Warm up the targets of the providers, then publish all of them
+	 */
+	private void publish(Map<String, Object> providers) {
+		Map<String, Future<?>> warmups = new LinkedHashMap<String, Future<?>>();
+		for (String beanName : providers.keySet()) {
+			BeanDefinition beanDefinition = beanFactory.getMergedBeanDefinition(beanName);
+			String warmupMethod = (String) beanDefinition.getAttribute(WARMUP_METHOD_ATTRIBUTE);
+			String target = (String) beanDefinition.getAttribute(WARMUP_TARGET_ATTRIBUTE);
+			if (StringUtils.hasText(warmupMethod) && !warmups.containsKey(target)) {
+				Integer iterations = (Integer) beanDefinition.getAttribute(WARMUP_ITERATIONS_ATTRIBUTE);
+				warmups.put(target, submitWarmupMethod(beanFactory.getBean(target), warmupMethod,
+						iterations != null ? iterations : 1));
+			}
+		}
+		awaitAll(warmups, "warm up");
+
+		Map<String, Future<?>> publications = new LinkedHashMap<String, Future<?>>();
+		for (Map.Entry<String, Object> entry : providers.entrySet()) {
+			publications.put(entry.getKey(), submitInitMethod(entry.getKey(), entry.getValue()));
+		}
+		awaitAll(publications, "publish");
+	}
+
+	/**
+	 * Wait for all the futures, sharing a single <code>initTimeout</code>
+	 *
+	 * @param futures bean name -> future
+	 * @param action the action of the futures, for the report
+	 * @throws HSFInitializationException if any of them failed or timed out, caused by the first failure
+	 */
+	private void awaitAll(Map<String, Future<?>> futures, String action) throws HSFInitializationException {
+		long deadline = System.currentTimeMillis() + initTimeout;
+		StringBuilder report = new StringBuilder();
+		Throwable cause = null;
+		int failures = 0;
+		int timeouts = 0;
+		for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+			String failure = await(entry.getValue(), Math.max(0, deadline - System.currentTimeMillis()));
+			if (failure != null) {
+				report.append("\n\t").append(entry.getKey()).append(": ").append(failure);
+				if (TIMED_OUT.equals(failure)) {
+					timeouts++;
+				} else {
+					cause = cause != null ? cause : getCause(entry.getValue());
+					failures++;
+				}
+			}
+		}
+		if (failures > 0 || timeouts > 0) {
+			StringBuilder message = new StringBuilder();
+			if (failures > 0) {
+				message.append(failures).append(" of ").append(futures.size()).append(" HSF beans failed to ")
+						.append(action);
+			}
+			if (timeouts > 0) {
+				message.append(failures > 0 ? ", " : "").append(timeouts).append(" of ").append(futures.size())
+						.append(" HSF beans timed out trying to ").append(action).append(" after the initTimeout of ")
+						.append(initTimeout).append("ms");
+			}
+			throw new HSFInitializationException(message.append(':').append(report).toString(), cause);
+		}
+	}
+
+	/**
+	 * @return the failure description, <code>null</code> if the initialization succeeded
+	 */
+	private String await(Future<?> future, long timeout) {
+		try {
+			future.get(timeout, TimeUnit.MILLISECONDS);
+			return null;
+		} catch (TimeoutException ex) {
+			future.cancel(true);
+			return TIMED_OUT;
+		} catch (ExecutionException ex) {
+			return String.valueOf(ex.getCause());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return "interrupted";
+		} catch (RuntimeException ex) {
+			// cancelled
+			return String.valueOf(ex);
+		}
+	}
+
+	private Throwable getCause(Future<?> future) {
+		if (!future.isDone() || future.isCancelled()) {
+			return null;
+		}
+		try {
+			future.get();
+			return null;
+		} catch (ExecutionException ex) {
+			return ex.getCause();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return ex;
+		}
+	}
+
+	/**
+	 * @return the merged bean definition of the HSF bean, <code>null</code> if it is not a HSF bean
+	 */
+	private BeanDefinition getHSFBeanDefinition(Object bean, String beanName) {
+		String className = bean.getClass().getName();
+		if (!HSF_SPRING_CONSUMER_BEAN_CLASS_NAME.equals(className)
+				&& !HSF_SPRING_PROVIDER_BEAN_CLASS_NAME.equals(className)) {
+			return null;
+		}
+		if (beanFactory == null || !beanFactory.containsBeanDefinition(beanName)) {
+			return null;
+		}
+		return beanFactory.getMergedBeanDefinition(beanName);
+	}
+
+	private Future<?> submitInitMethod(final String beanName, final Object bean) {
+		return getExecutor().submit(new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+				if (startupRecorder == null) {
+					invokeMethod(bean, INIT_METHOD_NAME);
+					return null;
+				}
+				startupRecorder.recordInitStart(beanName, HSFStartupRecorder.getType(bean));
+				try {
+					invokeMethod(bean, INIT_METHOD_NAME);
+				} catch (Exception ex) {
+					startupRecorder.recordInitEnd(beanName, ex);
+					throw ex;
+				}
+				startupRecorder.recordInitEnd(beanName, null);
+				return null;
+			}
+		});
+	}
+
+	private Future<?> submitWarmupMethod(final Object target, final String warmupMethod, final int iterations) {
+		return getExecutor().submit(new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+				for (int i = 0; i < iterations; i++) {
+					invokeMethod(target, warmupMethod);
+				}
+				return null;
+			}
+		});
+	}
+
+	private void invokeMethod(Object bean, String methodName) throws Exception {
+		Method method = ReflectionUtils.findMethod(bean.getClass(), methodName);
+		if (method == null) {
+			throw new IllegalStateException("No " + methodName + " method found on " + bean.getClass());
+		}
+		ReflectionUtils.makeAccessible(method);
+		try {
+			method.invoke(bean);
+		} catch (InvocationTargetException ex) {
+			Throwable target = ex.getTargetException();
+			if (target instanceof Exception) {
+				throw (Exception) target;
+			}
+			throw ex;
+		}
+	}
+
+	private synchronized ThreadPoolExecutor getExecutor() {
+		if (executor == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("HSF-init-");
+			threadFactory.setDaemon(true);
+			executor = new ThreadPoolExecutor(initThreads, initThreads, 60, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(), threadFactory);
+			executor.allowCoreThreadTimeOut(true);
+		}
+		return executor;
+	}
+
+	@Override
+	public synchronized void destroy() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.taobao.hsf.spring.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.support.BeanDefinitionReaderUtils;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import com.taobao.hsf.spring.annotation.EnableHSF;
+
+/**
+ * Registers the HSF annotation post processors of {@link EnableHSF}. The attributes of {@link EnableHSF} are named
+ * after the xml attributes of the 'annotation-driven' element, the post processors are then configured by the
+ * {@link AnnotationDrivenBeanDefinitionParser} exactly as for the element.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFConfigurationRegistrar implements ImportBeanDefinitionRegistrar {
+
+	/**
+	 * The value attribute, an alias of basePackages
+	 */
+	private static final String VALUE_ATTRIBUTE = "value";
+
+	/**
+	 * The basePackages attribute
+	 */
+	private static final String BASE_PACKAGES_ATTRIBUTE = "basePackages";
+
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+		Map<String, Object> annotationAttributes = importingClassMetadata.getAnnotationAttributes(EnableHSF.class
+				.getName());
+		Map<String, String> attributes = new HashMap<String, String>();
+		for (Map.Entry<String, Object> entry : annotationAttributes.entrySet()) {
+			String name = VALUE_ATTRIBUTE.equals(entry.getKey()) ? BASE_PACKAGES_ATTRIBUTE : entry.getKey();
+			String value = toXmlValue(entry.getValue());
+			if (value != null) {
+				String xmlName = toXmlName(name);
+				String existing = attributes.get(xmlName);
+				attributes.put(xmlName, existing != null ? existing + ',' + value : value);
+			}
+		}
+		AnnotationDrivenBeanDefinitionParser parser = new AnnotationDrivenBeanDefinitionParser();
+		for (BeanDefinitionHolder processorDefinition : parser.registerAnnotationConfigProcessors(attributes,
+				registry, importingClassMetadata.getClassName())) {
+			BeanDefinitionReaderUtils.registerBeanDefinition(processorDefinition, registry);
+		}
+	}
+
+	/**
+	 * @param name the name of an {@link EnableHSF} attribute, e.g. providerCorePoolSize
+	 * @return the name of the xml attribute, e.g. provider-core-pool-size
+	 */
+	private static String toXmlName(String name) {
+		StringBuilder xmlName = new StringBuilder(name.length() + 4);
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (Character.isUpperCase(c)) {
+				xmlName.append('-').append(Character.toLowerCase(c));
+			} else {
+				xmlName.append(c);
+			}
+		}
+		return xmlName.toString();
+	}
+
+	/**
+	 * @param value the value of an {@link EnableHSF} attribute
+	 * @return the value of the xml attribute, <code>null</code> if it is not set
+	 */
+	private static String toXmlValue(Object value) {
+		if (value instanceof String[]) {
+			String[] values = (String[]) value;
+			return ObjectUtils.isEmpty(values) ? null : StringUtils.arrayToCommaDelimitedString(values);
+		} else if (value instanceof Integer) {
+			return ((Integer) value) < 0 ? null : value.toString();
+		} else if (value instanceof String) {
+			return StringUtils.hasText((String) value) ? (String) value : null;
+		}
+		return value != null ? value.toString() : null;
+	}
+}
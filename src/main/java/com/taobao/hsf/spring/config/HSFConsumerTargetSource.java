@@ -0,0 +1,104 @@
+package com.taobao.hsf.spring.config;
+
+import org.springframework.aop.TargetSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+/**
+ * {@link TargetSource} resolving the consumer proxy of a HSFSpringConsumerBean on the first invocation, once its
+ * <code>init</code> method has completed. The resolved consumer is kept in a volatile field, so the later invocations
+ * only pay a volatile read.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class HSFConsumerTargetSource implements TargetSource {
+
+	private final ConfigurableListableBeanFactory beanFactory;
+
+	private final String consumerBeanName;
+
+	private final Class<?> targetClass;
+
+	private final HSFBeanInitializer beanInitializer;
+
+	private volatile Object target;
+
+	/**
+	 * @param beanFactory the bean factory holding the consumer bean
+	 * @param consumerBeanName the name of the consumer bean
+	 * @param targetClass the service interface
+	 * @param beanInitializer the initializer to wait for, <code>null</code> if the consumer is initialized on creation
+	 */
+	HSFConsumerTargetSource(ConfigurableListableBeanFactory beanFactory, String consumerBeanName,
+			Class<?> targetClass, HSFBeanInitializer beanInitializer) {
+		this.beanFactory = beanFactory;
+		this.consumerBeanName = consumerBeanName;
+		this.targetClass = targetClass;
+		this.beanInitializer = beanInitializer;
+	}
+
+	@Override
+	public Class<?> getTargetClass() {
+		return targetClass;
+	}
+
+	@Override
+	public boolean isStatic() {
+		return false;
+	}
+
+	@Override
+	public Object getTarget() throws BeansException {
+		Object target = this.target;
+		if (target == null) {
+			synchronized (this) {
+				target = this.target;
+				if (target == null) {
+					target = resolveTarget();
+					this.target = target;
+				}
+			}
+		}
+		return target;
+	}
+
+	/**
+	 * Resolve the consumer proxy from the HSFSpringConsumerBean itself rather than through
+	 * {@link BeanFactory#getBean(String)}, which would cache a <code>null</code> object while the consumer is still
+	 * being initialized
+	 */
+	private Object resolveTarget() throws BeansException {
+		if (!beanFactory.isFactoryBean(consumerBeanName)) {
+			return beanFactory.getBean(consumerBeanName, targetClass);
+		}
+		FactoryBean<?> factoryBean = (FactoryBean<?>) beanFactory.getBean(BeanFactory.FACTORY_BEAN_PREFIX
+				+ consumerBeanName);
+		if (beanInitializer != null) {
+			beanInitializer.awaitInitialization(consumerBeanName);
+		}
+		Object target;
+		try {
+			target = factoryBean.getObject();
+		} catch (Exception ex) {
+			throw new BeanCreationException(consumerBeanName, "Consumer bean failed to create its object", ex);
+		}
+		if (target == null) {
+			throw new BeanCreationException(consumerBeanName, "Consumer bean returned no object");
+		}
+		return target;
+	}
+
+	@Override
+	public void releaseTarget(Object target) {
+	}
+
+	@Override
+	public String toString() {
+		return "HSFConsumerTargetSource for consumer bean '" + consumerBeanName + "'";
+	}
+}
@@ -0,0 +1,305 @@
+package com.taobao.hsf.spring.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Warms up the HSFSpringConsumerBeans once the context is refreshed, so that the first requests do not pay for the
+ * address subscription, the connections, the serialization and the JIT compilation of the invocation path.
+ * <p>
+ * The consumers marked with {@link #WARMUP_CALLS_ATTRIBUTE} are created and initialized, the lazy ones included, then
+ * their warm-up calls are invoked with default arguments: <code>null</code>, <code>0</code> or <code>false</code>.
+ * The warm-up is best effort: the results and the failures of the calls are ignored, and a consumer failing to
+ * initialize is only logged. The consumers are warmed up concurrently, the refresh waits for them at most
+ * <code>warmupTimeout</code> ms.
+ * <p>
+ * If a {@link HSFBeanInitializer} is registered, the warm-up is triggered by it once the deferred HSF beans are
+ * initialized and the providers published, rather than by the {@link ContextRefreshedEvent}: the order in which the
+ * listeners receive the event does not follow their registration.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFConsumerWarmer implements BeanFactoryAware, ApplicationContextAware,
+		ApplicationListener<ContextRefreshedEvent>, DisposableBean {
+
+	/**
+	 * The bean definition attribute marking the HSFSpringConsumerBean to warm up, holding its warm-up calls as
+	 * <code>methodName[:times]</code>
+	 */
+	public static final String WARMUP_CALLS_ATTRIBUTE = HSFConsumerWarmer.class.getName() + ".warmupCalls";
+
+	/**
+	 * The bean definition attribute holding the name of the service interface of the consumer to warm up
+	 */
+	public static final String WARMUP_INTERFACE_ATTRIBUTE = HSFConsumerWarmer.class.getName() + ".warmupInterface";
+
+	private static final Log logger = LogFactory.getLog(HSFConsumerWarmer.class);
+
+	private ConfigurableListableBeanFactory beanFactory;
+
+	private ApplicationContext applicationContext;
+
+	/**
+	 * The max number of consumers warmed up at the same time
+	 */
+	private int warmupThreads = 8;
+
+	/**
+	 * The max time in ms the refresh waits for the warm-up
+	 */
+	private long warmupTimeout = 30000;
+
+	private ThreadPoolExecutor executor;
+
+	public void setWarmupThreads(int warmupThreads) {
+		this.warmupThreads = warmupThreads;
+	}
+
+	public void setWarmupTimeout(long warmupTimeout) {
+		this.warmupTimeout = warmupTimeout;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		if (beanFactory instanceof ConfigurableListableBeanFactory) {
+			this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+		}
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Parse the warm-up calls of a consumer
+	 * 
+	 * @param serviceInterface the service interface
+	 * @param warmupCalls the warm-up calls as <code>methodName[:times]</code>, the overload with the fewest parameters
+	 *            is called
+	 * @return method -> times, in declaration order
+	 * @throws IllegalArgumentException if a method does not exist or a number of times is not positive
+	 */
+	static Map<Method, Integer> parseWarmupCalls(Class<?> serviceInterface, String[] warmupCalls) {
+		Map<Method, Integer> calls = new LinkedHashMap<Method, Integer>();
+		for (String warmupCall : warmupCalls) {
+			String[] nameAndTimes = StringUtils.split(warmupCall, ":");
+			String methodName = (nameAndTimes != null ? nameAndTimes[0] : warmupCall).trim();
+			int times = 1;
+			if (nameAndTimes != null) {
+				try {
+					times = Integer.parseInt(nameAndTimes[1].trim());
+				} catch (NumberFormatException ex) {
+					throw new IllegalArgumentException("Invalid number of warm-up calls " + warmupCall, ex);
+				}
+			}
+			if (times <= 0) {
+				throw new IllegalArgumentException("Invalid number of warm-up calls " + warmupCall);
+			}
+			Method method = null;
+			for (Method candidate : serviceInterface.getMethods()) {
+				if (!candidate.getName().equals(methodName)) {
+					continue;
+				}
+				if (method == null || candidate.getParameterTypes().length < method.getParameterTypes().length) {
+					method = candidate;
+				}
+			}
+			if (method == null) {
+				throw new IllegalArgumentException("No warm-up method " + methodName + " on " + serviceInterface);
+			}
+			Integer previous = calls.get(method);
+			calls.put(method, previous != null ? previous + times : times);
+		}
+		return calls;
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		if (event.getApplicationContext() != applicationContext || beanFactory == null) {
+			return;
+		}
+		// HSFBeanInitializer在初始化和发布完成后调用warmUp()
+		if (getBeanInitializer() == null) {
+			warmUp();
+		}
+	}
+
+	/**
+	 * Warm up the consumers marked with {@link #WARMUP_CALLS_ATTRIBUTE}, invoked by the {@link HSFBeanInitializer} once
+	 * the HSF beans are initialized and published
+	 */
+	void warmUp() {
+		if (beanFactory == null) {
+			return;
+		}
+		Map<String, BeanDefinition> consumers = new LinkedHashMap<String, BeanDefinition>();
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+			if (beanDefinition.getAttribute(WARMUP_CALLS_ATTRIBUTE) != null) {
+				consumers.put(beanName, beanDefinition);
+			}
+		}
+		if (!consumers.isEmpty()) {
+			warmUp(consumers);
+		}
+	}
+
+	private void warmUp(Map<String, BeanDefinition> consumers) {
+		long start = System.currentTimeMillis();
+		HSFBeanInitializer beanInitializer = getBeanInitializer();
+		Map<String, Future<Integer>> warmups = new LinkedHashMap<String, Future<Integer>>();
+		for (Map.Entry<String, BeanDefinition> entry : consumers.entrySet()) {
+			warmups.put(entry.getKey(), submitWarmup(entry.getKey(), entry.getValue(), beanInitializer));
+		}
+		long deadline = start + warmupTimeout;
+		int calls = 0;
+		int failures = 0;
+		for (Map.Entry<String, Future<Integer>> entry : warmups.entrySet()) {
+			try {
+				calls += entry.getValue().get(Math.max(0, deadline - System.currentTimeMillis()),
+						TimeUnit.MILLISECONDS);
+			} catch (TimeoutException ex) {
+				entry.getValue().cancel(true);
+				logger.warn("Warm-up of the HSF consumer " + entry.getKey() + " timed out after " + warmupTimeout
+						+ "ms");
+				failures++;
+			} catch (ExecutionException ex) {
+				logger.warn("Unable to warm up the HSF consumer " + entry.getKey(), ex.getCause());
+				failures++;
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		if (logger.isInfoEnabled()) {
+			logger.info("Warmed up " + (consumers.size() - failures) + " of " + consumers.size()
+					+ " HSF consumers with " + calls + " calls in " + (System.currentTimeMillis() - start) + "ms");
+		}
+	}
+
+	private Future<Integer> submitWarmup(final String beanName, final BeanDefinition beanDefinition,
+			final HSFBeanInitializer beanInitializer) {
+		return getExecutor().submit(new Callable<Integer>() {
+
+			@Override
+			public Integer call() throws Exception {
+				Class<?> serviceInterface = ClassUtils.forName(
+						(String) beanDefinition.getAttribute(WARMUP_INTERFACE_ATTRIBUTE),
+						beanFactory.getBeanClassLoader());
+				// 创建并初始化HSFSpringConsumerBean，包括延迟初始化的consumer
+				Object consumer = new HSFConsumerTargetSource(beanFactory, beanName, serviceInterface,
+						beanInitializer).getTarget();
+				String[] warmupCalls = (String[]) beanDefinition.getAttribute(WARMUP_CALLS_ATTRIBUTE);
+				int calls = 0;
+				for (Map.Entry<Method, Integer> entry : parseWarmupCalls(serviceInterface, warmupCalls).entrySet()) {
+					calls += invoke(beanName, consumer, entry.getKey(), entry.getValue());
+				}
+				return calls;
+			}
+		});
+	}
+
+	/**
+	 * @return the number of calls
+	 */
+	private int invoke(String beanName, Object consumer, Method method, int times) throws IllegalAccessException {
+		Object[] args = new Object[method.getParameterTypes().length];
+		for (int i = 0; i < args.length; i++) {
+			args[i] = getDefaultValue(method.getParameterTypes()[i]);
+		}
+		Throwable failure = null;
+		int failures = 0;
+		int calls = 0;
+		for (; calls < times && !Thread.currentThread().isInterrupted(); calls++) {
+			try {
+				method.invoke(consumer, args);
+			} catch (InvocationTargetException ex) {
+				failure = ex.getTargetException();
+				failures++;
+			}
+		}
+		if (failures == calls && failure != null) {
+			logger.warn("All the " + calls + " warm-up calls of " + method.getName() + " of the HSF consumer "
+					+ beanName + " failed", failure);
+		} else if (failure != null && logger.isDebugEnabled()) {
+			logger.debug(failures + " of the " + calls + " warm-up calls of " + method.getName()
+					+ " of the HSF consumer " + beanName + " failed", failure);
+		}
+		return calls;
+	}
+
+	private static Object getDefaultValue(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return null;
+		} else if (type == boolean.class) {
+			return Boolean.FALSE;
+		} else if (type == char.class) {
+			return Character.valueOf((char) 0);
+		} else if (type == byte.class) {
+			return Byte.valueOf((byte) 0);
+		} else if (type == short.class) {
+			return Short.valueOf((short) 0);
+		} else if (type == int.class) {
+			return Integer.valueOf(0);
+		} else if (type == long.class) {
+			return Long.valueOf(0);
+		} else if (type == float.class) {
+			return Float.valueOf(0);
+		}
+		return Double.valueOf(0);
+	}
+
+	/**
+	 * @return the initializer of the deferred consumers, <code>null</code> if they are initialized on creation
+	 */
+	private HSFBeanInitializer getBeanInitializer() {
+		Map<String, HSFBeanInitializer> beanInitializers = beanFactory.getBeansOfType(HSFBeanInitializer.class,
+				false, false);
+		return beanInitializers.isEmpty() ? null : beanInitializers.values().iterator().next();
+	}
+
+	private synchronized ThreadPoolExecutor getExecutor() {
+		if (executor == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("HSF-warmup-");
+			threadFactory.setDaemon(true);
+			executor = new ThreadPoolExecutor(warmupThreads, warmupThreads, 60, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(), threadFactory);
+			executor.allowCoreThreadTimeOut(true);
+		}
+		return executor;
+	}
+
+	@Override
+	public synchronized void destroy() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+}
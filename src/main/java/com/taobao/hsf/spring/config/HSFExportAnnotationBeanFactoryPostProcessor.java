@@ -1,5 +1,9 @@
 package com.taobao.hsf.spring.config;
 
+import static com.taobao.hsf.spring.util.AnnotationAttributesUtils.getBoolean;
+import static com.taobao.hsf.spring.util.AnnotationAttributesUtils.getInt;
+import static com.taobao.hsf.spring.util.AnnotationAttributesUtils.getString;
+import static com.taobao.hsf.spring.util.AnnotationAttributesUtils.getStringArray;
 import static com.taobao.hsf.spring.util.BeanDefinitionUtils.addPropertyReference;
 import static com.taobao.hsf.spring.util.BeanDefinitionUtils.addPropertyValue;
 import static com.taobao.hsf.spring.util.ClassNameContants.HSF_SPRING_PROVIDER_BEAN_CLASS_NAME;
@@ -7,6 +11,9 @@ import static com.taobao.hsf.spring.util.ClassNameContants.INIT_METHOD_NAME;
 import static com.taobao.hsf.spring.util.ClassNameContants.METHOD_SPECIAL_CLASS_NAME;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -23,6 +30,15 @@ import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 import com.taobao.hsf.spring.annotation.HSFExport;
+import com.taobao.hsf.spring.config.HSFExportMetadataReader.ExportMetadata;
+import com.taobao.hsf.spring.index.HSFAnnotationIndex;
+import com.taobao.hsf.spring.monitor.HSFLatencyMonitor;
+import com.taobao.hsf.spring.monitor.HSFStartupRecorder;
+import com.taobao.hsf.spring.provider.HSFProviderTargetFactoryBean;
+import com.taobao.hsf.spring.timeout.HSFTimeoutRegistry;
+import com.taobao.hsf.spring.util.MethodSpecialsUtils;
+import com.taobao.hsf.spring.util.PackageUtils;
+import com.taobao.hsf.spring.util.SerializeTypeUtils;
 
 /**
  * Bean factory post processor for {@link HSFExport} annotation
@@ -37,6 +53,10 @@ public class HSFExportAnnotationBeanFactoryPostProcessor implements BeanFactoryP
 	 * 
 	 */
 	private static final String TARGET = "target";
+	/**
+	 * 
+	 */
+	private static final String VALUE_ATTRIBUTE = "value";
 	/**
 	 * 
 	 */
@@ -49,6 +69,10 @@ public class HSFExportAnnotationBeanFactoryPostProcessor implements BeanFactoryP
 	 * 
 	 */
 	private static final String SERIALIZE_TYPE_ATTRIBUTE = "serializeType";
+	/**
+	 * 
+	 */
+	private static final String SERIALIZER_ATTRIBUTE = "serializer";
 	/**
 	 * 
 	 */
@@ -85,6 +109,30 @@ public class HSFExportAnnotationBeanFactoryPostProcessor implements BeanFactoryP
 	 * 
 	 */
 	private static final String METHOD_TO_INJECT_CONSUMER_IP_ATTRIBUTE = "methodToInjectConsumerIp";
+	/**
+	 * 
+	 */
+	private static final String WARMUP_METHOD_ATTRIBUTE = "warmupMethod";
+	/**
+	 * 
+	 */
+	private static final String WARMUP_ITERATIONS_ATTRIBUTE = "warmupIterations";
+	/**
+	 * 
+	 */
+	private static final String CORE_POOL_SIZE_ATTRIBUTE = "corePoolSize";
+	/**
+	 * 
+	 */
+	private static final String MAX_POOL_SIZE_ATTRIBUTE = "maxPoolSize";
+	/**
+	 * 
+	 */
+	private static final String QUEUE_CAPACITY_ATTRIBUTE = "queueCapacity";
+	/**
+	 * 
+	 */
+	private static final String ADAPTIVE_CONCURRENCY_ATTRIBUTE = "adaptiveConcurrency";
 	/**
 	 * The bean name generator
 	 */
@@ -107,6 +155,60 @@ public class HSFExportAnnotationBeanFactoryPostProcessor implements BeanFactoryP
 	 * attribute
 	 */
 	private int clientIdleTimeout = -1;
+	/**
+	 * The global core size of the dedicated thread pool of each service, might to be overriden by the
+	 * {@link HSFExport} annotation corePoolSize() attribute. The services share the HSF thread pool if not positive.
+	 */
+	private int corePoolSize = -1;
+	/**
+	 * The global maximum size of the dedicated thread pools, might to be overriden by the {@link HSFExport}
+	 * annotation maxPoolSize() attribute
+	 */
+	private int maxPoolSize = -1;
+	/**
+	 * The global queue capacity of the dedicated thread pools, might to be overriden by the {@link HSFExport}
+	 * annotation queueCapacity() attribute
+	 */
+	private int queueCapacity = -1;
+	/**
+	 * The serializeTypes registered in the HSF remoting beforehand, besides the ones HSF implements itself
+	 */
+	private Set<String> registeredSerializeTypes = Collections.emptySet();
+	/**
+	 * Only the classes of these packages and their sub-packages are inspected, every bean if <code>null</code>
+	 */
+	private String[] basePackages;
+	/**
+	 * Whether to consult the build time {@link HSFAnnotationIndex} instead of inspecting every bean, if present
+	 */
+	private boolean useIndex = true;
+	/**
+	 * Whether the provider beans are initialized by the {@link HSFBeanInitializer} instead of their init method
+	 */
+	private boolean deferInit = false;
+	/**
+	 * Whether the providers are published together by the {@link HSFBeanInitializer} once the context is refreshed,
+	 * after the warm-up of their target
+	 */
+	private boolean publishOnRefresh = false;
+	/**
+	 * Records the scan time and the definition build time, might be <code>null</code>
+	 */
+	private HSFStartupRecorder startupRecorder;
+	/**
+	 * Records the latency of each provider method, might be <code>null</code>
+	 */
+	private HSFLatencyMonitor latencyMonitor;
+
+	/**
+	 * The timeouts of the providers which can be changed at runtime, might be <code>null</code>
+	 */
+	private HSFTimeoutRegistry timeoutRegistry;
+
+	/**
+	 * Set the deadline of the calls from the remaining time sent by the consumers and the client timeout
+	 */
+	private boolean deadlinePropagation;
 
 	public void setBeanNameGenerator(BeanNameGenerator beanNameGenerator) {
 		this.beanNameGenerator = beanNameGenerator;
@@ -128,82 +230,288 @@ public class HSFExportAnnotationBeanFactoryPostProcessor implements BeanFactoryP
 		this.clientIdleTimeout = clientIdleTimeout;
 	}
 
+	public void setCorePoolSize(int corePoolSize) {
+		this.corePoolSize = corePoolSize;
+	}
+
+	public void setMaxPoolSize(int maxPoolSize) {
+		this.maxPoolSize = maxPoolSize;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public void setRegisteredSerializeTypes(String[] registeredSerializeTypes) {
+		this.registeredSerializeTypes = SerializeTypeUtils.normalize(registeredSerializeTypes);
+	}
+
+	public void setBasePackages(String[] basePackages) {
+		this.basePackages = PackageUtils.normalize(basePackages);
+	}
+
+	public void setUseIndex(boolean useIndex) {
+		this.useIndex = useIndex;
+	}
+
+	public void setDeferInit(boolean deferInit) {
+		this.deferInit = deferInit;
+	}
+
+	public void setPublishOnRefresh(boolean publishOnRefresh) {
+		this.publishOnRefresh = publishOnRefresh;
+	}
+
+	public void setStartupRecorder(HSFStartupRecorder startupRecorder) {
+		this.startupRecorder = startupRecorder;
+	}
+
+	public void setLatencyMonitor(HSFLatencyMonitor latencyMonitor) {
+		this.latencyMonitor = latencyMonitor;
+	}
+
+	public void setTimeoutRegistry(HSFTimeoutRegistry timeoutRegistry) {
+		this.timeoutRegistry = timeoutRegistry;
+	}
+
+	public void setDeadlinePropagation(boolean deadlinePropagation) {
+		this.deadlinePropagation = deadlinePropagation;
+	}
+
 	@Override
 	public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+		long start = System.nanoTime();
+		long definitionNanos = 0;
+		HSFAnnotationIndex index = useIndex ? HSFAnnotationIndex.load(beanFactory.getBeanClassLoader()) : null;
+		HSFExportMetadataReader metadataReader = new HSFExportMetadataReader(beanFactory.getBeanClassLoader());
 		String[] beanNames = beanFactory.getBeanDefinitionNames();
 		for (String beanName : beanNames) {
+			BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+			String beanClassName = definition.getBeanClassName();
+			if (beanClassName != null && !PackageUtils.isInPackages(beanClassName, basePackages)) {
+				continue;
+			}
+			if (index != null && !isIndexedCandidate(index, definition)) {
+				continue;
+			}
 
-			Class<?> clazz = beanFactory.getType(beanName);
-			if (null != clazz) {
-				HSFExport annotation = AnnotationUtils.findAnnotation(clazz, HSFExport.class);
-				if (null != annotation) {
-					AbstractBeanDefinition beanDefinition = createBeanDefinition(beanName, clazz, annotation,
-							beanFactory);
-					beanDefinition.setAutowireCandidate(false);
-
-					BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
-					String generateBeanName = generateBeanName(beanDefinition, registry);
-					registry.registerBeanDefinition(generateBeanName, beanDefinition);
+			ExportMetadata metadata = metadataReader.read(definition);
+			if (null == metadata) {
+				// 无法从class文件中读取到元数据时，才加载bean的类型
+				Class<?> beanType = beanFactory.getType(beanName);
+				if (beanType != null && !PackageUtils.isInPackages(beanType.getName(), basePackages)) {
+					continue;
 				}
+				metadata = readExportMetadata(beanType);
 			}
+			if (metadata.isExported()) {
+				long definitionStart = System.nanoTime();
+				AbstractBeanDefinition beanDefinition = createBeanDefinition(beanName, metadata, beanFactory);
+				beanDefinition.setAutowireCandidate(false);
+
+				BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
+				String generateBeanName = generateBeanName(beanDefinition, registry);
+				registry.registerBeanDefinition(generateBeanName, beanDefinition);
+
+				long elapsed = System.nanoTime() - definitionStart;
+				definitionNanos += elapsed;
+				if (startupRecorder != null) {
+					startupRecorder.recordDefinition(generateBeanName, HSFStartupRecorder.PROVIDER,
+							guessServiceInterface(beanName, metadata), elapsed);
+				}
+			}
+		}
+		if (startupRecorder != null) {
+			startupRecorder.recordScan(System.nanoTime() - start - definitionNanos);
+		}
+	}
+
+	/**
+	 * Whether the bean definition might be a {@link HSFExport} class according to the index. The definitions whose
+	 * type is only known after resolving their factory method, the FactoryBeans and the classes of the jars without an
+	 * index are always candidates.
+	 * 
+	 * @param index the build time index
+	 * @param beanDefinition the bean definition to check
+	 * @return <code>true</code> if the bean type needs to be inspected
+	 */
+	private boolean isIndexedCandidate(HSFAnnotationIndex index, BeanDefinition beanDefinition) {
+		String beanClassName = beanDefinition.getBeanClassName();
+		return beanClassName == null || beanDefinition.getFactoryMethodName() != null
+				|| index.isExported(beanClassName) || index.isFactoryBean(beanClassName)
+				|| !index.isIndexed(beanClassName);
+	}
+
+	/**
+	 * Read the {@link HSFExport} metadata from the resolved bean type
+	 * 
+	 * @param clazz the bean type, might be <code>null</code>
+	 * @return the export metadata
+	 */
+	private ExportMetadata readExportMetadata(Class<?> clazz) {
+		HSFExport annotation = null != clazz ? AnnotationUtils.findAnnotation(clazz, HSFExport.class) : null;
+		if (null == annotation) {
+			return ExportMetadata.NOT_EXPORTED;
+		}
+		Class<?>[] interfaces = clazz.getInterfaces();
+		String[] interfaceNames = new String[interfaces.length];
+		for (int i = 0; i < interfaces.length; i++) {
+			interfaceNames[i] = interfaces[i].getName();
 		}
+		Map<String, Object> attributes = AnnotationUtils.getAnnotationAttributes(annotation, true);
+		return new ExportMetadata(attributes, interfaceNames);
 	}
 
 	/**
 	 * @param beanName
-	 * @param clazz
-	 * @param annotation
+	 * @param metadata the {@link HSFExport} metadata of the bean
 	 * @param beanFactory TODO
 	 * @return
 	 */
-	private AbstractBeanDefinition createBeanDefinition(String beanName, Class<?> clazz, HSFExport annotation,
+	private AbstractBeanDefinition createBeanDefinition(String beanName, ExportMetadata metadata,
 			ConfigurableListableBeanFactory beanFactory) {
+		Map<String, Object> attributes = metadata.getAttributes();
 		BeanDefinitionBuilder builder = BeanDefinitionBuilder
 				.genericBeanDefinition(HSF_SPRING_PROVIDER_BEAN_CLASS_NAME);
-		builder.setInitMethodName(INIT_METHOD_NAME);
-
 		// 必须配置[String]，为服务对外提供的接口
-		String serviceInterface = guessServiceInterface(annotation, clazz);
+		String serviceInterface = guessServiceInterface(beanName, metadata);
 		addPropertyValue(builder, SERVICE_INTERFACE_ATTRIBUTE, serviceInterface);
 
+		String version = beanFactory.resolveEmbeddedValue(getString(attributes, HSFExport.class,
+				SERVICE_VERSION_ATTRIBUTE));
+
 		// 必须配置[ref]，为需要发布为HSF服务的spring bean id
-		String target = guessTarget(annotation, beanName);
-		addPropertyReference(builder, TARGET, target);
+		String target = guessTarget(attributes, beanName);
+		int threads = getInt(attributes, HSFExport.class, CORE_POOL_SIZE_ATTRIBUTE);
+		if ((-1 != threads ? threads : corePoolSize) > 0
+				|| getBoolean(attributes, HSFExport.class, ADAPTIVE_CONCURRENCY_ATTRIBUTE) || latencyMonitor != null
+				|| deadlinePropagation) {
+			// 服务的调用经过延迟统计和自适应限流，在独立的线程池中执行
+			builder.addPropertyValue(TARGET, createProviderTargetBeanDefinition(target, serviceInterface,
+					StringUtils.hasText(version) ? version : serviceVersion, attributes));
+		} else {
+			addPropertyReference(builder, TARGET, target);
+		}
+
+		if (publishOnRefresh) {
+			// 容器刷新完成后，预热目标bean再统一发布
+			AbstractBeanDefinition rawBeanDefinition = builder.getRawBeanDefinition();
+			rawBeanDefinition.setAttribute(HSFBeanInitializer.PUBLISH_ON_REFRESH_ATTRIBUTE, Boolean.TRUE);
+			rawBeanDefinition.setAttribute(HSFBeanInitializer.WARMUP_TARGET_ATTRIBUTE, target);
+			rawBeanDefinition.setAttribute(HSFBeanInitializer.WARMUP_METHOD_ATTRIBUTE,
+					getString(attributes, HSFExport.class, WARMUP_METHOD_ATTRIBUTE));
+			rawBeanDefinition.setAttribute(HSFBeanInitializer.WARMUP_ITERATIONS_ATTRIBUTE,
+					getInt(attributes, HSFExport.class, WARMUP_ITERATIONS_ATTRIBUTE));
+		} else if (deferInit) {
+			builder.getRawBeanDefinition().setAttribute(HSFBeanInitializer.DEFERRED_INIT_ATTRIBUTE, Boolean.TRUE);
+		} else {
+			builder.setInitMethodName(INIT_METHOD_NAME);
+		}
 
 		// 可选配置[String]，含义为服务的版本，默认为1.0.0
-		addPropertyValue(builder, SERVICE_VERSION_ATTRIBUTE,
-				beanFactory.resolveEmbeddedValue(annotation.serviceVersion()), serviceVersion);
+		addPropertyValue(builder, SERVICE_VERSION_ATTRIBUTE, version, serviceVersion);
 
 		// serviceName为推荐配置[String]，含义为服务的名称，便于管理，默认为null
-		addPropertyValue(builder, SERVICE_NAME_ATTRIBUTE, annotation.serviceName());
+		addPropertyValue(builder, SERVICE_NAME_ATTRIBUTE,
+				getString(attributes, HSFExport.class, SERVICE_NAME_ATTRIBUTE));
 
 		// serviceDesc为可选配置[String]，含义为服务的描述信息，便于管理，默认为null
-		addPropertyValue(builder, SERVICE_DESC_ATTRIBUTE, annotation.serviceDesc());
+		addPropertyValue(builder, SERVICE_DESC_ATTRIBUTE,
+				getString(attributes, HSFExport.class, SERVICE_DESC_ATTRIBUTE));
 
 		// serviceGroup为可选配置[String]，含义为服务所属的组别，以便按组别来管理服务的配置，默认为HSF
-		addPropertyValue(builder, SERVICE_GROUP_ATTRIBUTE, beanFactory.resolveEmbeddedValue(annotation.serviceGroup()),
-				serviceGroup);
+		String group = beanFactory.resolveEmbeddedValue(getString(attributes, HSFExport.class,
+				SERVICE_GROUP_ATTRIBUTE));
+		addPropertyValue(builder, SERVICE_GROUP_ATTRIBUTE, group, serviceGroup);
+
+		// 同一容器中调用该服务的@HSF consumer可以直接调用目标bean
+		builder.getRawBeanDefinition().setAttribute(HSFAnnotationBeanPostProcessor.LOCAL_SERVICE_ATTRIBUTE,
+				HSFAnnotationBeanPostProcessor.getServiceKey(serviceInterface,
+						StringUtils.hasText(version) ? version : serviceVersion,
+						StringUtils.hasText(group) ? group : serviceGroup));
+		builder.getRawBeanDefinition().setAttribute(HSFAnnotationBeanPostProcessor.LOCAL_TARGET_ATTRIBUTE, target);
 
 		// supportAsynCall为可选配置[true|false]，含义为标识此服务是否支持异步调用，默认值为false，也就是不支持异步调用
-		addPropertyValue(builder, SUPPORT_ASYN_CALL_ATTRIBUTE, annotation.supportAsynCall());
+		addPropertyValue(builder, SUPPORT_ASYN_CALL_ATTRIBUTE,
+				getBoolean(attributes, HSFExport.class, SUPPORT_ASYN_CALL_ATTRIBUTE));
 
 		// clientTimeout为可选配置[int]，含义为客户端调用此服务时的超时时间，单位为ms，默认为3000ms
 		// 该配置对接口中的所有方法生效，但是如果客户端通过MethodSpecial属性对某方法配置了超时时间，则该方法的超时时间以客户端配置为准，其他方法不受影响，还是以服务端配置为准
-		addPropertyValue(builder, CLIENT_TIMEOUT_ATTRIBUTE, annotation.clientTimeout(), clientTimeout);
+		addPropertyValue(builder, CLIENT_TIMEOUT_ATTRIBUTE,
+				getInt(attributes, HSFExport.class, CLIENT_TIMEOUT_ATTRIBUTE), clientTimeout);
 
 		// clientIdleTimeout为可选配置[int]，含义为客户端连接空闲的超时时间，单位为s，默认为60
-		addPropertyValue(builder, CLIENT_IDLE_TIMEOUT_ATTRIBUTE, annotation.clientIdleTimeout(), clientIdleTimeout);
+		addPropertyValue(builder, CLIENT_IDLE_TIMEOUT_ATTRIBUTE,
+				getInt(attributes, HSFExport.class, CLIENT_IDLE_TIMEOUT_ATTRIBUTE), clientIdleTimeout);
 
-		// serializeType
-		addPropertyValue(builder, SERIALIZE_TYPE_ATTRIBUTE, annotation.serializeType().toString());
+		// serializeType，配置了serializer时以serializer为准
+		addPropertyValue(builder, SERIALIZE_TYPE_ATTRIBUTE, guessSerializeType(beanName, attributes));
 
 		// 为可选配置，用于为方法单独配置超时(单位ms)，这样接口中的方法可以采用不同的超时时间，
 		// 该配置优先级高于上面的clientTimeout的超时配置，低于客户端的methodSpecials配置
-		addPropertyValue(builder, METHOD_SPECIALS_ATTRIBUTE, createMethodSpecials(annotation.methodSpecials()));
+		addPropertyValue(builder, METHOD_SPECIALS_ATTRIBUTE,
+				createMethodSpecials(getStringArray(attributes, HSFExport.class, METHOD_SPECIALS_ATTRIBUTE)));
 
 		// methodToInjectConsumerIp为可选配置，含义为注入调用端IP的方法，这样业务服务也可以得知是哪个IP在调用，该方法的参数必须为String,所存的变量为threadlocal
-		addPropertyValue(builder, METHOD_TO_INJECT_CONSUMER_IP_ATTRIBUTE, annotation.methodToInjectConsumerIp());
+		addPropertyValue(builder, METHOD_TO_INJECT_CONSUMER_IP_ATTRIBUTE,
+				getString(attributes, HSFExport.class, METHOD_TO_INJECT_CONSUMER_IP_ATTRIBUTE));
+
+		return builder.getBeanDefinition();
+	}
+
+	/**
+	 * Create the inner bean definition of the proxy recording the latency of the target, setting the deadline of its
+	 * calls, limiting its concurrency and running its calls in the dedicated thread pool of the service
+	 * 
+	 * @param target the name of the target bean
+	 * @param serviceInterface the service interface name
+	 * @param version the service version
+	 * @param attributes the {@link HSFExport} attributes
+	 * @return the {@link HSFProviderTargetFactoryBean} definition
+	 * @throws IllegalArgumentException if an entry of the methodSpecials is malformed
+	 */
+	private AbstractBeanDefinition createProviderTargetBeanDefinition(String target, String serviceInterface,
+			String version, Map<String, Object> attributes) {
+		BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(HSFProviderTargetFactoryBean.class);
+		addPropertyReference(builder, TARGET, target);
+		addPropertyValue(builder, SERVICE_INTERFACE_ATTRIBUTE, serviceInterface);
+		addPropertyValue(builder, SERVICE_NAME_ATTRIBUTE, target);
+		addPropertyValue(builder, SERVICE_VERSION_ATTRIBUTE, version);
+		addPropertyValue(builder, CORE_POOL_SIZE_ATTRIBUTE,
+				getInt(attributes, HSFExport.class, CORE_POOL_SIZE_ATTRIBUTE), corePoolSize);
+		addPropertyValue(builder, MAX_POOL_SIZE_ATTRIBUTE,
+				getInt(attributes, HSFExport.class, MAX_POOL_SIZE_ATTRIBUTE), maxPoolSize);
+		addPropertyValue(builder, QUEUE_CAPACITY_ATTRIBUTE,
+				getInt(attributes, HSFExport.class, QUEUE_CAPACITY_ATTRIBUTE), queueCapacity);
+		addPropertyValue(builder, METHOD_TO_INJECT_CONSUMER_IP_ATTRIBUTE,
+				getString(attributes, HSFExport.class, METHOD_TO_INJECT_CONSUMER_IP_ATTRIBUTE));
+		addPropertyValue(builder, ADAPTIVE_CONCURRENCY_ATTRIBUTE,
+				getBoolean(attributes, HSFExport.class, ADAPTIVE_CONCURRENCY_ATTRIBUTE));
+		if (latencyMonitor != null) {
+			builder.addPropertyValue("latencyMonitor", latencyMonitor);
+		}
+		if (timeoutRegistry != null) {
+			builder.addPropertyValue("timeoutRegistry", timeoutRegistry);
+		}
+		if (deadlinePropagation) {
+			builder.addPropertyValue("deadlinePropagation", Boolean.TRUE);
+		}
 
+		// HSF的线程最多等待客户端的超时时间，之后客户端已经放弃了这次调用
+		int timeout = getInt(attributes, HSFExport.class, CLIENT_TIMEOUT_ATTRIBUTE);
+		timeout = -1 != timeout ? timeout : clientTimeout;
+		Map<String, Integer> methodTimeouts;
+		try {
+			methodTimeouts = MethodSpecialsUtils.parseTimeouts(getStringArray(attributes, HSFExport.class,
+					METHOD_SPECIALS_ATTRIBUTE));
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("The bean " + target + " sets an invalid @HSFExport's methodSpecials: "
+					+ ex.getMessage(), ex);
+		}
+		for (int methodTimeout : methodTimeouts.values()) {
+			timeout = Math.max(timeout, methodTimeout);
+		}
+		addPropertyValue(builder, "timeout", timeout);
 		return builder.getBeanDefinition();
 	}
 
@@ -219,24 +527,45 @@ public class HSFExportAnnotationBeanFactoryPostProcessor implements BeanFactoryP
 	}
 
 	/**
-	 * @param clazz TODO
-	 * @return
+	 * @param beanName the name of the exported bean
+	 * @param metadata the {@link HSFExport} metadata of the bean
+	 * @return the service interface name
 	 */
-	private String guessServiceInterface(HSFExport annotation, Class<?> clazz) {
-		Class<?> serviceInterface = annotation.serviceInterface();
-		if (!Serializable.class.equals(serviceInterface)) {
-			return serviceInterface.toString().substring("interface ".length());
+	private String guessServiceInterface(String beanName, ExportMetadata metadata) {
+		String serviceInterface = getString(metadata.getAttributes(), HSFExport.class, SERVICE_INTERFACE_ATTRIBUTE);
+		if (!Serializable.class.getName().equals(serviceInterface)) {
+			return serviceInterface;
 		} else {
-			Class<?>[] interfaces = clazz.getInterfaces();
+			String[] interfaces = metadata.getInterfaceNames();
 			if (interfaces.length == 1) {
-				return interfaces[0].getName();
+				return interfaces[0];
 			} else {
-				throw new IllegalArgumentException("The class " + clazz.getName()
+				throw new IllegalArgumentException("The bean " + beanName
 						+ " must set @HSFExport's property serviceInterface or must implements one single interface!");
 			}
 		}
 	}
 
+	/**
+	 * @param beanName the name of the bean annotated with {@link HSFExport}
+	 * @param attributes the {@link HSFExport} attributes
+	 * @return the serializer if it is set, else the serializeType
+	 * @throws IllegalArgumentException if HSF can not resolve the serializer
+	 */
+	private String guessSerializeType(String beanName, Map<String, Object> attributes) {
+		String serializer = getString(attributes, HSFExport.class, SERIALIZER_ATTRIBUTE);
+		if (!StringUtils.hasText(serializer)) {
+			return getString(attributes, HSFExport.class, SERIALIZE_TYPE_ATTRIBUTE);
+		}
+		try {
+			SerializeTypeUtils.check(serializer, registeredSerializeTypes);
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("The bean " + beanName + " sets an invalid @HSFExport's serializer: "
+					+ ex.getMessage(), ex);
+		}
+		return serializer;
+	}
+
 	private ManagedList<BeanDefinition> createMethodSpecials(String[] methodSpecials) {
 		ManagedList<BeanDefinition> list = new ManagedList<BeanDefinition>();
 
@@ -254,13 +583,13 @@ public class HSFExportAnnotationBeanFactoryPostProcessor implements BeanFactoryP
 	/**
 	 * Guess the reference bean name for the target attribute
 	 * 
-	 * @param annotation the {@link HSFExport} annotation
+	 * @param attributes the {@link HSFExport} attributes
 	 * @param beanName the bean name to reference
 	 * @return the guessed target reference bean name
 	 */
-	private String guessTarget(HSFExport annotation, String beanName) {
-		String target = annotation.target();
-		String value = annotation.value();
+	private String guessTarget(Map<String, Object> attributes, String beanName) {
+		String target = getString(attributes, HSFExport.class, TARGET);
+		String value = getString(attributes, HSFExport.class, VALUE_ATTRIBUTE);
 		return StringUtils.hasText(target) ? target : StringUtils.hasText(value) ? value : beanName;
 	}
 
@@ -0,0 +1,167 @@
+package com.taobao.hsf.spring.config;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.StringUtils;
+
+import com.taobao.hsf.spring.annotation.HSFExport;
+
+/**
+ * Reads the {@link HSFExport} attributes of a bean definition from its {@link AnnotationMetadata} or, through ASM, from
+ * the class file of its bean class, so that the bean class does not need to be loaded and no
+ * {@link FactoryBean} gets instantiated to find out its type.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class HSFExportMetadataReader {
+
+	private static final String HSF_EXPORT_ANNOTATION_NAME = HSFExport.class.getName();
+
+	private static final String FACTORY_BEAN_CLASS_NAME = FactoryBean.class.getName();
+
+	private final MetadataReaderFactory metadataReaderFactory;
+
+	HSFExportMetadataReader(ClassLoader classLoader) {
+		this.metadataReaderFactory = new CachingMetadataReaderFactory(classLoader);
+	}
+
+	/**
+	 * Read the {@link HSFExport} metadata of the bean definition
+	 *
+	 * @param beanDefinition the bean definition
+	 * @return the metadata, {@link ExportMetadata#NOT_EXPORTED} if the bean class is not exported, or
+	 *         <code>null</code> if the metadata is not available and the bean type has to be resolved
+	 */
+	ExportMetadata read(BeanDefinition beanDefinition) {
+		String beanClassName = beanDefinition.getBeanClassName();
+		if (!StringUtils.hasText(beanClassName) || beanDefinition.getFactoryMethodName() != null) {
+			// the bean type is only known after resolving the factory method
+			return null;
+		}
+		try {
+			AnnotationMetadata metadata;
+			if (beanDefinition instanceof AnnotatedBeanDefinition
+					&& beanClassName.equals(((AnnotatedBeanDefinition) beanDefinition).getMetadata().getClassName())) {
+				metadata = ((AnnotatedBeanDefinition) beanDefinition).getMetadata();
+			} else {
+				metadata = getAnnotationMetadata(beanClassName);
+			}
+			return read(metadata, beanDefinition);
+		} catch (IOException ex) {
+			// class file not readable, e.g. a generated class
+			return null;
+		}
+	}
+
+	private ExportMetadata read(AnnotationMetadata metadata, BeanDefinition beanDefinition) throws IOException {
+		Lookup lookup = new Lookup();
+		lookup.walk(metadata);
+		if (lookup.factoryBean) {
+			// the object type of a FactoryBean is only known once it is instantiated, which is not done early for
+			// the lazy ones
+			return beanDefinition.isLazyInit() || !beanDefinition.isSingleton() ? ExportMetadata.NOT_EXPORTED : null;
+		}
+		if (lookup.unavailable) {
+			// meta-annotated, the attributes can not be read from the class file
+			return null;
+		}
+		if (lookup.attributes == null) {
+			return ExportMetadata.NOT_EXPORTED;
+		}
+		return new ExportMetadata(lookup.attributes, metadata.getInterfaceNames());
+	}
+
+	private AnnotationMetadata getAnnotationMetadata(String className) throws IOException {
+		return metadataReaderFactory.getMetadataReader(className).getAnnotationMetadata();
+	}
+
+	/**
+	 * Walks the class hierarchy the same way as
+	 * {@link org.springframework.core.annotation.AnnotationUtils#findAnnotation(Class, Class)} does
+	 */
+	private class Lookup {
+
+		private final Set<String> visited = new HashSet<String>();
+
+		private Map<String, Object> attributes;
+
+		private boolean factoryBean;
+
+		private boolean unavailable;
+
+		void walk(ClassMetadata classMetadata) throws IOException {
+			if (!visited.add(classMetadata.getClassName())) {
+				return;
+			}
+			if (FACTORY_BEAN_CLASS_NAME.equals(classMetadata.getClassName())) {
+				factoryBean = true;
+				return;
+			}
+			AnnotationMetadata metadata = (AnnotationMetadata) classMetadata;
+			if (attributes == null && metadata.hasAnnotation(HSF_EXPORT_ANNOTATION_NAME)) {
+				attributes = metadata.getAnnotationAttributes(HSF_EXPORT_ANNOTATION_NAME, true);
+			} else if (attributes == null && metadata.hasMetaAnnotation(HSF_EXPORT_ANNOTATION_NAME)) {
+				unavailable = true;
+			}
+			for (String interfaceName : metadata.getInterfaceNames()) {
+				walk(interfaceName);
+			}
+			if (metadata.hasSuperClass()) {
+				walk(metadata.getSuperClassName());
+			}
+		}
+
+		private void walk(String className) throws IOException {
+			if (!className.startsWith("java.")) {
+				walk(getAnnotationMetadata(className));
+			}
+		}
+	}
+
+	/**
+	 * The {@link HSFExport} metadata of a bean class
+	 */
+	static class ExportMetadata {
+
+		static final ExportMetadata NOT_EXPORTED = new ExportMetadata(null, new String[0]);
+
+		private final Map<String, Object> attributes;
+
+		private final String[] interfaceNames;
+
+		ExportMetadata(Map<String, Object> attributes, String[] interfaceNames) {
+			this.attributes = attributes;
+			this.interfaceNames = interfaceNames;
+		}
+
+		boolean isExported() {
+			return attributes != null;
+		}
+
+		/**
+		 * @return the {@link HSFExport} attributes, class values as class names
+		 */
+		Map<String, Object> getAttributes() {
+			return attributes;
+		}
+
+		/**
+		 * @return the names of the interfaces directly implemented by the bean class
+		 */
+		String[] getInterfaceNames() {
+			return interfaceNames;
+		}
+	}
+}
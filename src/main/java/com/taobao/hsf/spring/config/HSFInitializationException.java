@@ -0,0 +1,19 @@
+package com.taobao.hsf.spring.config;
+
+import org.springframework.beans.FatalBeanException;
+
+/**
+ * Thrown when HSF beans initialized by {@link HSFBeanInitializer} failed or timed out, reporting all of them at once
+ * 
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFInitializationException extends FatalBeanException {
+
+	private static final long serialVersionUID = 3581617582738425173L;
+
+	public HSFInitializationException(String msg, Throwable cause) {
+		super(msg, cause);
+	}
+}
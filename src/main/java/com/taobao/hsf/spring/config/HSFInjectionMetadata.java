@@ -0,0 +1,127 @@
+package com.taobao.hsf.spring.config;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanCreationException;
+
+import com.taobao.hsf.spring.annotation.HSF;
+
+/**
+ * The cached {@link HSF} injection metadata of a bean class, built once per class by
+ * {@link HSFAnnotationBeanPostProcessor}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class HSFInjectionMetadata {
+
+	/**
+	 * The sentinel for classes without any {@link HSF} field
+	 */
+	static final HSFInjectionMetadata EMPTY = new HSFInjectionMetadata(Collections.<InjectedField> emptyList());
+
+	private final InjectedField[] injectedFields;
+
+	HSFInjectionMetadata(List<InjectedField> injectedFields) {
+		this.injectedFields = injectedFields.toArray(new InjectedField[injectedFields.size()]);
+	}
+
+	/**
+	 * @return <code>true</code> if there is nothing to inject
+	 */
+	boolean isEmpty() {
+		return injectedFields.length == 0;
+	}
+
+	/**
+	 * Inject the consumer beans into the {@link HSF} fields of the target
+	 *
+	 * @param target the bean instance to inject into
+	 * @param beanName the name of the bean instance
+	 * @param resolver the resolver of the values to inject
+	 * @throws BeansException if the injection failed
+	 */
+	void inject(Object target, String beanName, ValueResolver resolver) throws BeansException {
+		for (InjectedField injectedField : injectedFields) {
+			injectedField.inject(target, beanName, resolver);
+		}
+	}
+
+	/**
+	 * Resolves the value injected into a {@link HSF} field
+	 */
+	interface ValueResolver {
+
+		/**
+		 * @param injectedField the field to resolve the value for
+		 * @return the value to inject
+		 * @throws BeansException if the value could not be resolved
+		 */
+		Object resolveValue(InjectedField injectedField) throws BeansException;
+
+		/**
+		 * @param injectedField the field to resolve the value for
+		 * @return <code>true</code> if the resolved value can be reused for all the instances of the class
+		 */
+		boolean isCacheable(InjectedField injectedField);
+	}
+
+	/**
+	 * A single {@link HSF} field with its resolved consumer bean name
+	 */
+	static class InjectedField {
+
+		private final Field field;
+
+		private final HSF annotation;
+
+		private final String consumerBeanName;
+
+		/**
+		 * The resolved consumer, cached when the consumer bean is a singleton
+		 */
+		private volatile Object cachedValue;
+
+		InjectedField(Field field, HSF annotation, String consumerBeanName) {
+			this.field = field;
+			this.annotation = annotation;
+			this.consumerBeanName = consumerBeanName;
+		}
+
+		Field getField() {
+			return field;
+		}
+
+		HSF getAnnotation() {
+			return annotation;
+		}
+
+		String getConsumerBeanName() {
+			return consumerBeanName;
+		}
+
+		void inject(Object target, String beanName, ValueResolver resolver) throws BeansException {
+			Object value = resolveValue(resolver);
+			try {
+				field.set(target, value);
+			} catch (IllegalAccessException ex) {
+				throw new BeanCreationException(beanName, "Injection of @HSF field " + field + " failed", ex);
+			}
+		}
+
+		private Object resolveValue(ValueResolver resolver) throws BeansException {
+			Object value = cachedValue;
+			if (value == null) {
+				value = resolver.resolveValue(this);
+				if (resolver.isCacheable(this)) {
+					cachedValue = value;
+				}
+			}
+			return value;
+		}
+	}
+}
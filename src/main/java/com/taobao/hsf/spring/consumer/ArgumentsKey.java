@@ -0,0 +1,33 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.util.Arrays;
+
+/**
+ * The arguments of a call, compared deeply
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class ArgumentsKey {
+
+	private final Object[] arguments;
+
+	private final int hashCode;
+
+	ArgumentsKey(Object[] arguments) {
+		this.arguments = arguments.clone();
+		this.hashCode = Arrays.deepHashCode(this.arguments);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return this == obj
+				|| (obj instanceof ArgumentsKey && Arrays.deepEquals(arguments, ((ArgumentsKey) obj).arguments));
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+}
@@ -0,0 +1,260 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.Assert;
+
+import com.taobao.hsf.spring.annotation.HSFBatch;
+
+/**
+ * Merges the concurrent invocations of a single key method of a consumer into one invocation of its bulk method, as
+ * configured by {@link HSFBatch}.
+ * <p>
+ * The first caller finding no batch in progress becomes the leader: it waits up to <code>maxDelayMicros</code> or
+ * until <code>maxBatch</code> keys are pending, takes them, invokes the bulk method and completes every waiting caller
+ * with its own result or with the failure of the bulk call. The other callers only wait for their result. The keys
+ * left over by a full batch are led by the first of their callers, so batches also form naturally while the previous
+ * bulk call is in flight.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFBatchInterceptor implements MethodInterceptor {
+
+	private final Method method;
+
+	private final Method bulkMethod;
+
+	/**
+	 * Whether the bulk method returns a map keyed by the keys, otherwise a list in the order of the keys
+	 */
+	private final boolean keyedResults;
+
+	private final int maxBatch;
+
+	private final long maxDelayNanos;
+
+	/**
+	 * The pending requests, in arrival order, guarded by <code>this</code>
+	 */
+	private List<Request> pending = new ArrayList<Request>();
+
+	/**
+	 * Whether a leader is collecting or executing a batch, guarded by <code>this</code>
+	 */
+	private boolean leading;
+
+	/**
+	 * @param serviceInterface the service interface
+	 * @param batch the batch configuration
+	 * @throws IllegalArgumentException if the methods do not match the service interface
+	 */
+	public HSFBatchInterceptor(Class<?> serviceInterface, HSFBatch batch) {
+		Assert.isTrue(batch.maxBatch() > 0, "maxBatch must be positive");
+		Assert.isTrue(batch.maxDelayMicros() >= 0, "maxDelayMicros must not be negative");
+		this.method = findSingleArgumentMethod(serviceInterface, batch.method());
+		this.bulkMethod = findSingleArgumentMethod(serviceInterface, batch.bulkMethod());
+		if (!bulkMethod.getParameterTypes()[0].isAssignableFrom(ArrayList.class)) {
+			throw new IllegalArgumentException("The bulk method " + bulkMethod + " must take a List");
+		}
+		Class<?> returnType = bulkMethod.getReturnType();
+		if (Map.class.isAssignableFrom(returnType)) {
+			this.keyedResults = true;
+		} else if (List.class.isAssignableFrom(returnType)) {
+			this.keyedResults = false;
+		} else {
+			throw new IllegalArgumentException("The bulk method " + bulkMethod + " must return a List or a Map");
+		}
+		this.maxBatch = batch.maxBatch();
+		this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(batch.maxDelayMicros());
+	}
+
+	private static Method findSingleArgumentMethod(Class<?> serviceInterface, String methodName) {
+		Method found = null;
+		for (Method candidate : serviceInterface.getMethods()) {
+			if (candidate.getName().equals(methodName) && candidate.getParameterTypes().length == 1) {
+				if (found != null) {
+					throw new IllegalArgumentException("The batch method " + methodName + " of "
+							+ serviceInterface.getName() + " is ambiguous");
+				}
+				found = candidate;
+			}
+		}
+		if (found == null) {
+			throw new IllegalArgumentException("No single argument method " + methodName + " in "
+					+ serviceInterface.getName());
+		}
+		return found;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		if (!method.equals(invocation.getMethod())) {
+			return invocation.proceed();
+		}
+		Request request = new Request(invocation.getArguments()[0]);
+		boolean leader;
+		synchronized (this) {
+			pending.add(request);
+			leader = !leading;
+			if (leader) {
+				leading = true;
+			} else if (pending.size() >= maxBatch) {
+				// 批量已满，唤醒正在等待的leader
+				notifyAll();
+			}
+		}
+		if (leader) {
+			lead(invocation.getThis());
+		}
+		return request.await(invocation.getThis());
+	}
+
+	/**
+	 * Collect a batch, hand the leadership of the remaining requests over, then execute the batch
+	 */
+	private void lead(Object target) {
+		List<Request> batch;
+		Request next = null;
+		synchronized (this) {
+			long deadline = System.nanoTime() + maxDelayNanos;
+			long remaining = maxDelayNanos;
+			boolean interrupted = false;
+			while (pending.size() < maxBatch && remaining > 0 && !interrupted) {
+				try {
+					TimeUnit.NANOSECONDS.timedWait(this, remaining);
+				} catch (InterruptedException ex) {
+					interrupted = true;
+					Thread.currentThread().interrupt();
+				}
+				remaining = deadline - System.nanoTime();
+			}
+			if (pending.size() <= maxBatch) {
+				batch = pending;
+				pending = new ArrayList<Request>();
+				leading = false;
+			} else {
+				batch = new ArrayList<Request>(pending.subList(0, maxBatch));
+				pending = new ArrayList<Request>(pending.subList(maxBatch, pending.size()));
+				next = pending.get(0);
+			}
+		}
+		if (next != null) {
+			next.promote();
+		}
+		execute(target, batch);
+	}
+
+	private void execute(Object target, List<Request> batch) {
+		Collection<Object> keys = keyedResults ? new LinkedHashSet<Object>() : new ArrayList<Object>(batch.size());
+		for (Request request : batch) {
+			keys.add(request.key);
+		}
+		try {
+			Object results = bulkMethod.invoke(target, keyedResults ? new ArrayList<Object>(keys) : keys);
+			if (keyedResults) {
+				Map<?, ?> resultMap = (Map<?, ?>) results;
+				for (Request request : batch) {
+					request.complete(resultMap != null ? resultMap.get(request.key) : null, null);
+				}
+			} else {
+				List<?> resultList = (List<?>) results;
+				if (resultList == null || resultList.size() != batch.size()) {
+					throw new IllegalStateException("The bulk method " + bulkMethod + " returned "
+							+ (resultList == null ? "null" : resultList.size() + " results") + " for " + batch.size()
+							+ " keys");
+				}
+				for (int i = 0; i < batch.size(); i++) {
+					batch.get(i).complete(resultList.get(i), null);
+				}
+			}
+		} catch (InvocationTargetException ex) {
+			fail(batch, ex.getTargetException());
+		} catch (Throwable ex) {
+			fail(batch, ex);
+		}
+	}
+
+	private void fail(List<Request> batch, Throwable failure) {
+		for (Request request : batch) {
+			request.complete(null, failure);
+		}
+	}
+
+	/**
+	 * A pending invocation
+	 */
+	private class Request {
+
+		private final Object key;
+
+		private Object result;
+
+		private Throwable failure;
+
+		private boolean done;
+
+		private boolean promoted;
+
+		Request(Object key) {
+			this.key = key;
+		}
+
+		synchronized void complete(Object result, Throwable failure) {
+			if (!done) {
+				this.result = result;
+				this.failure = failure;
+				this.done = true;
+				notifyAll();
+			}
+		}
+
+		synchronized void promote() {
+			promoted = true;
+			notifyAll();
+		}
+
+		/**
+		 * Wait for the result, leading the next batch if promoted meanwhile. The wait is not interruptible since the
+		 * leader always completes the request once the bulk call returned or failed.
+		 */
+		Object await(Object target) throws Throwable {
+			boolean interrupted = false;
+			try {
+				for (;;) {
+					synchronized (this) {
+						while (!done && !promoted) {
+							try {
+								wait();
+							} catch (InterruptedException ex) {
+								interrupted = true;
+							}
+						}
+						if (done) {
+							if (failure != null) {
+								throw failure;
+							}
+							return result;
+						}
+						promoted = false;
+					}
+					lead(target);
+				}
+			} finally {
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+}
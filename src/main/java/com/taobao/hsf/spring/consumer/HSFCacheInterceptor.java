@@ -0,0 +1,63 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import com.taobao.hsf.spring.annotation.HSFCacheable;
+
+/**
+ * Answers the {@link HSFCacheable} methods of a consumer from a {@link HSFResultCache} per method, keyed on the
+ * arguments of the call
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFCacheInterceptor implements MethodInterceptor {
+
+	private final Map<Method, HSFResultCache> caches;
+
+	/**
+	 * @param caches the {@link HSFCacheable} methods -> their cache
+	 */
+	public HSFCacheInterceptor(Map<Method, HSFResultCache> caches) {
+		this.caches = caches;
+	}
+
+	/**
+	 * Create the caches of the {@link HSFCacheable} methods of the service interface
+	 *
+	 * @param serviceInterface the service interface
+	 * @return the {@link HSFCacheable} methods -> their cache, empty if there is none
+	 */
+	public static Map<Method, HSFResultCache> createCaches(Class<?> serviceInterface) {
+		Map<Method, HSFResultCache> caches = new LinkedHashMap<Method, HSFResultCache>();
+		for (Method method : serviceInterface.getMethods()) {
+			HSFCacheable cacheable = method.getAnnotation(HSFCacheable.class);
+			if (cacheable != null) {
+				caches.put(method, new HSFResultCache(cacheable.ttlMs(), cacheable.maxEntries()));
+			}
+		}
+		return caches.isEmpty() ? Collections.<Method, HSFResultCache> emptyMap() : caches;
+	}
+
+	@Override
+	public Object invoke(final MethodInvocation invocation) throws Throwable {
+		HSFResultCache cache = caches.get(invocation.getMethod());
+		if (cache == null) {
+			return invocation.proceed();
+		}
+		return cache.get(new ArgumentsKey(invocation.getArguments()), new HSFResultCache.Loader() {
+
+			@Override
+			public Object load() throws Throwable {
+				return invocation.proceed();
+			}
+		});
+	}
+}
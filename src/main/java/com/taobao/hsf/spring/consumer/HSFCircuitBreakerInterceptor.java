@@ -0,0 +1,90 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.util.ReflectionUtils;
+
+import com.taobao.hsf.spring.annotation.HSFCircuitBreaker;
+
+/**
+ * Guards each method of a consumer with a {@link HSFMethodCircuitBreaker} configured by {@link HSFCircuitBreaker}. The
+ * calls rejected by an open circuit, and the failed calls, are handled by the fallback bean if there is one, otherwise
+ * the rejected calls throw a {@link HSFCircuitBreakerOpenException} without reaching the remote service.
+ * <p>
+ * A call fails if it throws an exception or an error not declared by the method, the declared exceptions are business
+ * results and count as successes.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFCircuitBreakerInterceptor implements MethodInterceptor {
+
+	/**
+	 * method -> circuit breaker
+	 */
+	private final Map<Method, HSFMethodCircuitBreaker> circuitBreakers;
+
+	/**
+	 * The fallback bean, <code>null</code> if there is none
+	 */
+	private final ObjectFactory<?> fallback;
+
+	/**
+	 * @param serviceInterface the service interface
+	 * @param config the circuit breaker configuration of each method
+	 * @param fallback the factory of the fallback bean, may be <code>null</code>
+	 * @throws IllegalArgumentException if the configuration is invalid
+	 */
+	public HSFCircuitBreakerInterceptor(Class<?> serviceInterface, HSFCircuitBreaker config,
+			ObjectFactory<?> fallback) {
+		Map<Method, HSFMethodCircuitBreaker> breakers = new HashMap<Method, HSFMethodCircuitBreaker>();
+		for (Method method : serviceInterface.getMethods()) {
+			breakers.put(method, new HSFMethodCircuitBreaker(config));
+		}
+		this.circuitBreakers = breakers;
+		this.fallback = fallback;
+	}
+
+	/**
+	 * @return the circuit breaker of each method
+	 */
+	public Map<Method, HSFMethodCircuitBreaker> getCircuitBreakers() {
+		return circuitBreakers;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Method method = invocation.getMethod();
+		HSFMethodCircuitBreaker circuitBreaker = circuitBreakers.get(method);
+		if (circuitBreaker == null) {
+			return invocation.proceed();
+		}
+		int permit = circuitBreaker.acquire();
+		if (permit == HSFMethodCircuitBreaker.REJECTED) {
+			if (fallback != null) {
+				return AopUtils.invokeJoinpointUsingReflection(fallback.getObject(), method, invocation.getArguments());
+			}
+			throw new HSFCircuitBreakerOpenException("The circuit breaker of " + method + " is open");
+		}
+		long start = System.nanoTime();
+		try {
+			Object result = invocation.proceed();
+			circuitBreaker.onResult(permit, false, System.nanoTime() - start);
+			return result;
+		} catch (Throwable ex) {
+			boolean failed = !ReflectionUtils.declaresException(method, ex.getClass());
+			circuitBreaker.onResult(permit, failed, System.nanoTime() - start);
+			if (failed && fallback != null) {
+				return AopUtils.invokeJoinpointUsingReflection(fallback.getObject(), method, invocation.getArguments());
+			}
+			throw ex;
+		}
+	}
+}
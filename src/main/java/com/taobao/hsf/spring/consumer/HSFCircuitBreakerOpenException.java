@@ -0,0 +1,17 @@
+package com.taobao.hsf.spring.consumer;
+
+/**
+ * Thrown by the calls rejected by an open {@link HSFMethodCircuitBreaker} without fallback
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFCircuitBreakerOpenException extends RuntimeException {
+
+	private static final long serialVersionUID = 2960375046281437795L;
+
+	public HSFCircuitBreakerOpenException(String message) {
+		super(message);
+	}
+}
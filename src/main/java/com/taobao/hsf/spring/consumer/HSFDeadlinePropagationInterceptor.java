@@ -0,0 +1,85 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ReflectionUtils;
+
+import com.taobao.hsf.spring.timeout.HSFDeadline;
+import com.taobao.hsf.spring.timeout.HSFDeadlineExceededException;
+import com.taobao.hsf.spring.timeout.HSFDeadlinePropagator;
+import com.taobao.hsf.spring.timeout.HSFServiceTimeouts;
+import com.taobao.hsf.spring.util.MethodSpecialsUtils;
+
+/**
+ * Sends the remaining time of each call of a consumer with the {@link HSFDeadlinePropagator}: the time left before the
+ * {@link HSFDeadline} of the calling thread, bounded by the timeout of the method if it is known here, from the
+ * {@link com.taobao.hsf.spring.timeout.HSFTimeoutRegistry} or the methodSpecials of the consumer. The calls made after
+ * the deadline of the calling thread fail at once without reaching the provider.
+ * <p>
+ * This library ships no {@link HSFDeadlinePropagator}, it does not attach anything to the HSF requests itself. Unless
+ * the application registers one, the deadlines are local only: they fail the calls made after them in this JVM and
+ * the providers only see their own timeouts.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFDeadlinePropagationInterceptor implements MethodInterceptor {
+
+	/**
+	 * method name -> timeout in ms of the methodSpecials
+	 */
+	private final Map<String, Integer> methodTimeouts;
+
+	/**
+	 * The timeouts which can be changed at runtime, might be <code>null</code>
+	 */
+	private final HSFServiceTimeouts timeouts;
+
+	/**
+	 * Might be <code>null</code>, the deadlines then only fail the calls made after them
+	 */
+	private final HSFDeadlinePropagator propagator;
+
+	/**
+	 * @param methodSpecials the methodSpecials of the consumer, as <tt>methodName:clientTimeout</tt>
+	 * @param timeouts the timeouts which can be changed at runtime, might be <code>null</code>
+	 * @param propagator the propagator, might be <code>null</code>
+	 * @throws IllegalArgumentException if an entry of the methodSpecials is malformed
+	 */
+	public HSFDeadlinePropagationInterceptor(String[] methodSpecials, HSFServiceTimeouts timeouts,
+			HSFDeadlinePropagator propagator) {
+		this.methodTimeouts = MethodSpecialsUtils.parseTimeouts(methodSpecials);
+		this.timeouts = timeouts;
+		this.propagator = propagator;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Method method = invocation.getMethod();
+		if (ReflectionUtils.isObjectMethod(method)) {
+			return invocation.proceed();
+		}
+		long remaining = HSFDeadline.getRemainingMillis();
+		if (remaining == 0) {
+			throw new HSFDeadlineExceededException("The deadline of the call " + method.getName() + " of "
+					+ method.getDeclaringClass().getName() + " has passed");
+		}
+		if (propagator != null) {
+			int timeout = timeouts != null ? timeouts.getTimeout(method) : -1;
+			if (timeout <= 0 && methodTimeouts.containsKey(method.getName())) {
+				timeout = methodTimeouts.get(method.getName());
+			}
+			if (timeout > 0) {
+				remaining = Math.min(remaining, timeout);
+			}
+			if (remaining != Long.MAX_VALUE) {
+				propagator.attach(remaining);
+			}
+		}
+		return invocation.proceed();
+	}
+}
@@ -0,0 +1,63 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds the hedged requests to a percentage of the calls of the hedged methods, shared by all the consumers. Each
+ * call earns <code>percent / 100</code> of a token and each hedged request spends a whole one, the unspent tokens are
+ * capped so that a quiet period does not allow a burst of hedged requests.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFHedgeBudget {
+
+	/**
+	 * A token in thousandths
+	 */
+	private static final long TOKEN = 1000;
+
+	private static final long MAX_TOKENS = 10 * TOKEN;
+
+	private final long deposit;
+
+	private final AtomicLong tokens = new AtomicLong();
+
+	/**
+	 * @param percent the maximum percentage of the calls which may be hedged
+	 */
+	public HSFHedgeBudget(int percent) {
+		if (percent < 0 || percent > 100) {
+			throw new IllegalArgumentException("The hedge budget must be between 0 and 100%: " + percent);
+		}
+		this.deposit = percent * TOKEN / 100;
+	}
+
+	/**
+	 * Earn the share of a call
+	 */
+	public void deposit() {
+		long current;
+		do {
+			current = tokens.get();
+			if (current >= MAX_TOKENS) {
+				return;
+			}
+		} while (!tokens.compareAndSet(current, Math.min(MAX_TOKENS, current + deposit)));
+	}
+
+	/**
+	 * @return <code>true</code> if a hedged request may be sent, its token is then spent
+	 */
+	public boolean tryWithdraw() {
+		long current;
+		do {
+			current = tokens.get();
+			if (current < TOKEN) {
+				return false;
+			}
+		} while (!tokens.compareAndSet(current, current - TOKEN));
+		return true;
+	}
+}
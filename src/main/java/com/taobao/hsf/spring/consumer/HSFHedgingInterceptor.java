@@ -0,0 +1,215 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+
+import com.taobao.hsf.spring.annotation.HSF;
+import com.taobao.hsf.spring.timeout.HSFDeadline;
+
+/**
+ * Hedges the calls of the idempotent methods listed by {@link HSF#hedgeMethods()}: if a call has not returned after
+ * the hedge delay of its method, a second request is sent and the first result wins. A failed request only wins if the
+ * other one fails too. The hedged requests are bounded by the shared {@link HSFHedgeBudget}.
+ * <p>
+ * Both requests of a hedged method run in the hedge executor while the caller waits: the caller thread must stay free
+ * to return the result of the hedged request while the first one is still blocked in HSF. The losing request is not
+ * aborted, a blocking HSF call can not be interrupted: it completes in the background, holding its executor thread
+ * until HSF returns or times out, and its result is discarded. When the executor is full the call runs in the caller
+ * thread without hedging; these calls are counted by {@link #getExecutorFullCount()} and logged at debug level. The
+ * {@link HSFDeadline} of the caller applies in the executor threads too.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFHedgingInterceptor implements MethodInterceptor, HSFHedgingInterceptorMBean {
+
+	private static final Log logger = LogFactory.getLog(HSFHedgingInterceptor.class);
+
+	/**
+	 * method -> hedge delay in ns
+	 */
+	private final Map<Method, Long> hedgeDelays;
+
+	private final HSFHedgeBudget budget;
+
+	private final ExecutorService executor;
+
+	private final AtomicLong callCount = new AtomicLong();
+
+	private final AtomicLong hedgedCount = new AtomicLong();
+
+	private final AtomicLong budgetExhaustedCount = new AtomicLong();
+
+	private final AtomicLong executorFullCount = new AtomicLong();
+
+	/**
+	 * @param serviceInterface the service interface
+	 * @param hedgeMethods the hedged methods, as <tt>methodName:hedgeDelayMs</tt>
+	 * @param budget the shared budget of the hedged requests
+	 * @param executor the executor of the requests
+	 * @throws IllegalArgumentException if an entry is malformed, a method is not declared by the service interface or
+	 *         a delay is not positive
+	 */
+	public HSFHedgingInterceptor(Class<?> serviceInterface, String[] hedgeMethods, HSFHedgeBudget budget,
+			ExecutorService executor) {
+		Map<Method, Long> delays = new HashMap<Method, Long>();
+		for (String hedgeMethod : hedgeMethods) {
+			int index = hedgeMethod.indexOf(':');
+			String methodName = index != -1 ? hedgeMethod.substring(0, index).trim() : "";
+			long delay;
+			try {
+				delay = index != -1 ? Long.parseLong(hedgeMethod.substring(index + 1).trim()) : 0;
+			} catch (NumberFormatException ex) {
+				delay = 0;
+			}
+			if (methodName.length() == 0 || delay <= 0) {
+				throw new IllegalArgumentException("Invalid hedge method '" + hedgeMethod
+						+ "', expected methodName:hedgeDelayMs with a positive delay");
+			}
+			boolean found = false;
+			for (Method method : serviceInterface.getMethods()) {
+				if (method.getName().equals(methodName)) {
+					delays.put(method, TimeUnit.MILLISECONDS.toNanos(delay));
+					found = true;
+				}
+			}
+			if (!found) {
+				throw new IllegalArgumentException("No method " + methodName + " in " + serviceInterface.getName());
+			}
+		}
+		this.hedgeDelays = delays;
+		this.budget = budget;
+		this.executor = executor;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Long hedgeDelay = hedgeDelays.get(invocation.getMethod());
+		if (hedgeDelay == null) {
+			return invocation.proceed();
+		}
+		callCount.incrementAndGet();
+		budget.deposit();
+		BlockingQueue<Future<Object>> completed = new LinkedBlockingQueue<Future<Object>>(2);
+		try {
+			submit(invocation, completed);
+		} catch (RejectedExecutionException ex) {
+			// 没有空闲的线程，在调用方线程中执行，不对冲
+			executorFullCount.incrementAndGet();
+			if (logger.isDebugEnabled()) {
+				logger.debug("The hedge executor is full, calling " + invocation.getMethod().getName()
+						+ " without hedging in the caller thread");
+			}
+			return invocation.proceed();
+		}
+		Future<Object> first = completed.poll(hedgeDelay, TimeUnit.NANOSECONDS);
+		if (first != null) {
+			return getResult(first);
+		}
+		boolean hedged = false;
+		if (budget.tryWithdraw()) {
+			try {
+				submit(invocation, completed);
+				hedged = true;
+				hedgedCount.incrementAndGet();
+			} catch (RejectedExecutionException ex) {
+				// 没有空闲的线程，不再对冲
+				executorFullCount.incrementAndGet();
+			}
+		} else {
+			budgetExhaustedCount.incrementAndGet();
+		}
+		// 落后的请求无法中断，在后台执行完成后丢弃其结果
+		first = completed.take();
+		try {
+			return getResult(first);
+		} catch (Throwable ex) {
+			if (!hedged) {
+				throw ex;
+			}
+			// 先返回的请求失败时，等待另一个请求
+			try {
+				return getResult(completed.take());
+			} catch (Throwable ignored) {
+				throw ex;
+			}
+		}
+	}
+
+	@Override
+	public long getCallCount() {
+		return callCount.get();
+	}
+
+	@Override
+	public long getHedgedCount() {
+		return hedgedCount.get();
+	}
+
+	@Override
+	public long getBudgetExhaustedCount() {
+		return budgetExhaustedCount.get();
+	}
+
+	@Override
+	public long getExecutorFullCount() {
+		return executorFullCount.get();
+	}
+
+	private void submit(MethodInvocation invocation, final BlockingQueue<Future<Object>> completed) {
+		final MethodInvocation request = ((ProxyMethodInvocation) invocation).invocableClone();
+		final Long deadline = HSFDeadline.getDeadlineNanos();
+		FutureTask<Object> task = new FutureTask<Object>(new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+				Long previous = HSFDeadline.setDeadlineNanos(deadline);
+				try {
+					return request.proceed();
+				} catch (Exception ex) {
+					throw ex;
+				} catch (Error err) {
+					throw err;
+				} catch (Throwable ex) {
+					throw new UndeclaredThrowableException(ex);
+				} finally {
+					HSFDeadline.setDeadlineNanos(previous);
+				}
+			}
+		}) {
+
+			@Override
+			protected void done() {
+				completed.offer(this);
+			}
+		};
+		executor.execute(task);
+	}
+
+	private static Object getResult(Future<Object> future) throws Throwable {
+		try {
+			return future.get();
+		} catch (ExecutionException ex) {
+			throw ex.getCause();
+		}
+	}
+}
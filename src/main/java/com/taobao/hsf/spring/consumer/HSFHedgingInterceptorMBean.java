@@ -0,0 +1,32 @@
+package com.taobao.hsf.spring.consumer;
+
+/**
+ * JMX management interface of the {@link HSFHedgingInterceptor}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface HSFHedgingInterceptorMBean {
+
+	/**
+	 * @return the number of the calls of the hedged methods
+	 */
+	long getCallCount();
+
+	/**
+	 * @return the number of the hedged requests sent
+	 */
+	long getHedgedCount();
+
+	/**
+	 * @return the number of the calls not hedged after their delay because the budget was spent
+	 */
+	long getBudgetExhaustedCount();
+
+	/**
+	 * @return the number of the calls not hedged because the hedge executor was full, including the calls run in the
+	 *         caller thread
+	 */
+	long getExecutorFullCount();
+}
@@ -0,0 +1,90 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.ConfigurableObjectInputStream;
+
+/**
+ * Gives the calls of a consumer short-circuited to a provider of the same context the isolation of a remote call: the
+ * arguments are copied before the call and the result after it, so neither side sees the changes the other makes to
+ * the objects it passed. The copies are made with the JDK serialization, the default serializeType of HSF, so the
+ * arguments and the results must be {@link java.io.Serializable} as for a remote call; the immutable values are not
+ * copied.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFLocalCallInterceptor implements MethodInterceptor {
+
+	private final ClassLoader classLoader;
+
+	/**
+	 * @param serviceInterface the service interface, its class loader resolves the classes of the copies
+	 */
+	public HSFLocalCallInterceptor(Class<?> serviceInterface) {
+		this.classLoader = serviceInterface.getClassLoader();
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Object[] arguments = invocation.getArguments();
+		if (!isImmutable(arguments)) {
+			// 一起复制，保留参数之间的引用关系
+			Object[] copies = (Object[]) copy(arguments, "arguments", invocation);
+			System.arraycopy(copies, 0, arguments, 0, arguments.length);
+		}
+		Object result = invocation.proceed();
+		return isImmutable(result) ? result : copy(result, "result", invocation);
+	}
+
+	private Object copy(Object obj, String what, MethodInvocation invocation) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+			ObjectOutputStream out = new ObjectOutputStream(bytes);
+			out.writeObject(obj);
+			out.close();
+			ObjectInputStream in = new ConfigurableObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()),
+					classLoader);
+			try {
+				return in.readObject();
+			} finally {
+				in.close();
+			}
+		} catch (ClassNotFoundException ex) {
+			throw new IllegalStateException("Unable to copy the " + what + " of the local call of "
+					+ invocation.getMethod() + ": " + ex.getMessage(), ex);
+		} catch (IOException ex) {
+			throw new IllegalStateException("Unable to copy the " + what + " of the local call of "
+					+ invocation.getMethod() + ": " + ex.getMessage(), ex);
+		}
+	}
+
+	private static boolean isImmutable(Object[] arguments) {
+		for (Object argument : arguments) {
+			if (!isImmutable(argument)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isImmutable(Object obj) {
+		if (obj == null) {
+			return true;
+		}
+		Class<?> type = obj.getClass();
+		return type == String.class || type == Integer.class || type == Long.class || type == Boolean.class
+				|| type == Double.class || type == Float.class || type == Short.class || type == Byte.class
+				|| type == Character.class || type == BigDecimal.class || type == BigInteger.class
+				|| obj instanceof Enum;
+	}
+}
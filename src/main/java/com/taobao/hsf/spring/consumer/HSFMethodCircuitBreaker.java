@@ -0,0 +1,208 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.taobao.hsf.spring.annotation.HSFCircuitBreaker;
+
+/**
+ * The circuit breaker of a consumer method, configured by {@link HSFCircuitBreaker}.
+ * <p>
+ * While closed, the outcome of each call is written in a ring of the last <code>windowSize</code> calls, and the
+ * failed and slow calls are counted as the ring is overwritten, without lock. The circuit opens when the failure or
+ * the slow call rate of the ring reaches its threshold, it then rejects the calls until <code>waitDurationMs</code>
+ * have elapsed. It then half opens and lets <code>halfOpenCalls</code> probes through: it closes with an empty ring
+ * if all of them succeed, and opens again as soon as one fails or is slow.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFMethodCircuitBreaker implements HSFMethodCircuitBreakerMBean {
+
+	/**
+	 * Returned by {@link #acquire()} when the call is rejected
+	 */
+	public static final int REJECTED = -1;
+
+	private static final int CLOSED = 0;
+
+	private static final int OPEN = 1;
+
+	private static final int HALF_OPEN = 2;
+
+	private static final String[] STATE_NAMES = { "CLOSED", "OPEN", "HALF_OPEN" };
+
+	/**
+	 * The outcome bits of a call in the ring, 0 for an empty slot
+	 */
+	private static final int RECORDED = 1;
+
+	private static final int FAILED = 2;
+
+	private static final int SLOW = 4;
+
+	private final int failureRateThreshold;
+
+	private final int slowCallRateThreshold;
+
+	private final long slowCallNanos;
+
+	private final int windowSize;
+
+	private final int minimumCalls;
+
+	private final long waitNanos;
+
+	private final int halfOpenCalls;
+
+	private final AtomicInteger state = new AtomicInteger(CLOSED);
+
+	private final AtomicIntegerArray outcomes;
+
+	private final AtomicLong recordedCalls = new AtomicLong();
+
+	private final AtomicInteger failedCalls = new AtomicInteger();
+
+	private final AtomicInteger slowCalls = new AtomicInteger();
+
+	private final AtomicInteger halfOpenPermits = new AtomicInteger();
+
+	private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	/**
+	 * The end of the open state, in {@link System#nanoTime()}
+	 */
+	private volatile long openUntil;
+
+	/**
+	 * @param config the configuration
+	 * @throws IllegalArgumentException if the configuration is invalid
+	 */
+	public HSFMethodCircuitBreaker(HSFCircuitBreaker config) {
+		if (config.windowSize() <= 0 || config.minimumCalls() <= 0 || config.halfOpenCalls() <= 0) {
+			throw new IllegalArgumentException("windowSize, minimumCalls and halfOpenCalls must be positive");
+		}
+		if (config.failureRateThreshold() <= 0 || config.failureRateThreshold() > 100
+				|| config.slowCallRateThreshold() <= 0 || config.slowCallRateThreshold() > 100) {
+			throw new IllegalArgumentException("The rate thresholds must be between 1 and 100%");
+		}
+		this.failureRateThreshold = config.failureRateThreshold();
+		this.slowCallRateThreshold = config.slowCallRateThreshold();
+		this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.slowCallDurationMs());
+		this.windowSize = config.windowSize();
+		this.minimumCalls = Math.min(config.minimumCalls(), config.windowSize());
+		this.waitNanos = TimeUnit.MILLISECONDS.toNanos(config.waitDurationMs());
+		this.halfOpenCalls = config.halfOpenCalls();
+		this.outcomes = new AtomicIntegerArray(windowSize);
+	}
+
+	/**
+	 * Acquire the permission to call
+	 * 
+	 * @return the permit to pass to {@link #onResult(int, boolean, long)}, {@link #REJECTED} if the call is rejected
+	 */
+	public int acquire() {
+		int current = state.get();
+		if (current == OPEN) {
+			if (System.nanoTime() - openUntil < 0) {
+				rejectedCount.incrementAndGet();
+				return REJECTED;
+			}
+			// 等待时间已过，由第一个调用切换到半开
+			halfOpenPermits.set(halfOpenCalls);
+			halfOpenSuccesses.set(0);
+			state.compareAndSet(OPEN, HALF_OPEN);
+			current = state.get();
+		}
+		if (current == HALF_OPEN) {
+			int permits;
+			do {
+				permits = halfOpenPermits.get();
+				if (permits <= 0) {
+					rejectedCount.incrementAndGet();
+					return REJECTED;
+				}
+			} while (!halfOpenPermits.compareAndSet(permits, permits - 1));
+		}
+		return current;
+	}
+
+	/**
+	 * Record the outcome of a permitted call
+	 * 
+	 * @param permit the permit returned by {@link #acquire()}
+	 * @param failed whether the call failed
+	 * @param nanos the duration of the call
+	 */
+	public void onResult(int permit, boolean failed, long nanos) {
+		boolean slow = nanos >= slowCallNanos;
+		if (permit == HALF_OPEN) {
+			if (failed || slow) {
+				open(HALF_OPEN);
+			} else if (halfOpenSuccesses.incrementAndGet() >= halfOpenCalls && state.get() == HALF_OPEN) {
+				close();
+			}
+			return;
+		}
+		if (state.get() != CLOSED) {
+			return;
+		}
+		int outcome = RECORDED | (failed ? FAILED : 0) | (slow ? SLOW : 0);
+		long index = recordedCalls.getAndIncrement();
+		int previous = outcomes.getAndSet((int) (index % windowSize), outcome);
+		int failures = failedCalls.addAndGet(((outcome & FAILED) - (previous & FAILED)) / FAILED);
+		int slows = slowCalls.addAndGet(((outcome & SLOW) - (previous & SLOW)) / SLOW);
+		long calls = Math.min(index + 1, windowSize);
+		if (calls >= minimumCalls
+				&& (failures * 100L >= failureRateThreshold * calls || slows * 100L >= slowCallRateThreshold * calls)) {
+			open(CLOSED);
+		}
+	}
+
+	private void open(int expected) {
+		openUntil = System.nanoTime() + waitNanos;
+		state.compareAndSet(expected, OPEN);
+	}
+
+	private void close() {
+		for (int i = 0; i < windowSize; i++) {
+			outcomes.set(i, 0);
+		}
+		recordedCalls.set(0);
+		failedCalls.set(0);
+		slowCalls.set(0);
+		state.compareAndSet(HALF_OPEN, CLOSED);
+	}
+
+	@Override
+	public String getState() {
+		return STATE_NAMES[state.get()];
+	}
+
+	@Override
+	public int getFailureRate() {
+		int calls = getWindowCalls();
+		return calls > 0 ? failedCalls.get() * 100 / calls : 0;
+	}
+
+	@Override
+	public int getSlowCallRate() {
+		int calls = getWindowCalls();
+		return calls > 0 ? slowCalls.get() * 100 / calls : 0;
+	}
+
+	@Override
+	public int getWindowCalls() {
+		return (int) Math.min(recordedCalls.get(), windowSize);
+	}
+
+	@Override
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+}
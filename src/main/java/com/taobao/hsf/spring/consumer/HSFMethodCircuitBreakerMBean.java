@@ -0,0 +1,36 @@
+package com.taobao.hsf.spring.consumer;
+
+/**
+ * JMX management interface of the {@link HSFMethodCircuitBreaker}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface HSFMethodCircuitBreakerMBean {
+
+	/**
+	 * @return CLOSED, OPEN or HALF_OPEN
+	 */
+	String getState();
+
+	/**
+	 * @return the percentage of failed calls in the window
+	 */
+	int getFailureRate();
+
+	/**
+	 * @return the percentage of slow calls in the window
+	 */
+	int getSlowCallRate();
+
+	/**
+	 * @return the number of calls in the window
+	 */
+	int getWindowCalls();
+
+	/**
+	 * @return the number of calls rejected while the circuit was open
+	 */
+	long getRejectedCount();
+}
@@ -0,0 +1,211 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * A concurrent cache of the results of a consumer method, bounded by a max number of entries and a time to live.
+ * <p>
+ * The hits only read a {@link ConcurrentHashMap} and set the referenced bit of the entry. The misses, which pay a
+ * remote call anyway, insert under a lock into a ring of <code>maxEntries</code> slots swept by a CLOCK hand: the
+ * expired entries are replaced first, the referenced ones get a second chance, the others are evicted, which
+ * approximates LRU without reordering anything on the hits.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFResultCache implements HSFResultCacheMBean {
+
+	/**
+	 * Stands for the cached <code>null</code> results
+	 */
+	private static final Object NULL = new Object();
+
+	private final long ttlNanos;
+
+	private final int maxEntries;
+
+	private final ConcurrentMap<Object, Entry> entries;
+
+	/**
+	 * The CLOCK ring, an entry is live while it is still mapped in {@link #entries}, guarded by <code>this</code>
+	 */
+	private final Entry[] ring;
+
+	/**
+	 * The CLOCK hand, guarded by <code>this</code>
+	 */
+	private int hand;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	private final AtomicLong expirations = new AtomicLong();
+
+	/**
+	 * @param ttlMs the time to live of the entries in ms
+	 * @param maxEntries the max number of the cached entries
+	 */
+	public HSFResultCache(long ttlMs, int maxEntries) {
+		Assert.isTrue(ttlMs > 0, "ttlMs must be positive");
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+		this.maxEntries = maxEntries;
+		this.entries = new ConcurrentHashMap<Object, Entry>(Math.min(maxEntries, 1024) * 4 / 3 + 1);
+		this.ring = new Entry[maxEntries];
+	}
+
+	/**
+	 * Get the cached result, or load and cache it
+	 *
+	 * @param key the key of the call, with proper equals and hashCode
+	 * @param loader invokes the consumer on a miss
+	 * @return the result
+	 * @throws Throwable the failure of the loader, which is not cached
+	 */
+	public Object get(Object key, Loader loader) throws Throwable {
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			if (!entry.isExpired(System.nanoTime())) {
+				if (!entry.referenced) {
+					entry.referenced = true;
+				}
+				hits.incrementAndGet();
+				return entry.value != NULL ? entry.value : null;
+			}
+			if (entries.remove(key, entry)) {
+				expirations.incrementAndGet();
+			}
+		}
+		misses.incrementAndGet();
+		Object value = loader.load();
+		put(key, value);
+		return value;
+	}
+
+	private synchronized void put(Object key, Object value) {
+		long now = System.nanoTime();
+		Entry entry = new Entry(key, value != null ? value : NULL, now + ttlNanos);
+		Entry previous = entries.put(key, entry);
+		if (previous != null) {
+			// 并发加载了相同的key，沿用原来的位置
+			entry.slot = previous.slot;
+		} else {
+			entry.slot = nextSlot(now);
+		}
+		ring[entry.slot] = entry;
+	}
+
+	/**
+	 * Advance the CLOCK hand up to a free slot, at most two rounds as every referenced bit is cleared on the first one
+	 */
+	private int nextSlot(long now) {
+		for (;;) {
+			int slot = hand;
+			hand = hand + 1 < ring.length ? hand + 1 : 0;
+			Entry current = ring[slot];
+			if (current == null || entries.get(current.key) != current) {
+				return slot;
+			}
+			if (current.isExpired(now)) {
+				if (entries.remove(current.key, current)) {
+					expirations.incrementAndGet();
+				}
+				return slot;
+			}
+			if (current.referenced) {
+				current.referenced = false;
+				continue;
+			}
+			if (entries.remove(current.key, current)) {
+				evictions.incrementAndGet();
+			}
+			return slot;
+		}
+	}
+
+	@Override
+	public synchronized void clear() {
+		entries.clear();
+		Arrays.fill(ring, null);
+		hand = 0;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	@Override
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	@Override
+	public long getExpirationCount() {
+		return expirations.get();
+	}
+
+	@Override
+	public int getSize() {
+		return entries.size();
+	}
+
+	@Override
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	@Override
+	public long getTtlMs() {
+		return TimeUnit.NANOSECONDS.toMillis(ttlNanos);
+	}
+
+	/**
+	 * Loads the result on a cache miss
+	 */
+	public interface Loader {
+
+		Object load() throws Throwable;
+	}
+
+	private static class Entry {
+
+		private final Object key;
+
+		private final Object value;
+
+		private final long expireAt;
+
+		private volatile boolean referenced;
+
+		/**
+		 * The slot in the ring, guarded by the cache
+		 */
+		private int slot;
+
+		Entry(Object key, Object value, long expireAt) {
+			this.key = key;
+			this.value = value;
+			this.expireAt = expireAt;
+		}
+
+		boolean isExpired(long now) {
+			return now - expireAt >= 0;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.taobao.hsf.spring.consumer;
+
+/**
+ * JMX management interface of the {@link HSFResultCache}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface HSFResultCacheMBean {
+
+	/**
+	 * @return the number of the calls answered from the cache
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of the calls that were not cached or expired
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the number of the entries evicted to stay under the max entries
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return the number of the entries removed once expired
+	 */
+	long getExpirationCount();
+
+	/**
+	 * @return the number of the cached entries
+	 */
+	int getSize();
+
+	/**
+	 * @return the max number of the cached entries
+	 */
+	int getMaxEntries();
+
+	/**
+	 * @return the time to live of the entries in ms
+	 */
+	long getTtlMs();
+
+	/**
+	 * Remove all the entries
+	 */
+	void clear();
+}
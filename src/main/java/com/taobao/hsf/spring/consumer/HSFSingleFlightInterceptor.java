@@ -0,0 +1,114 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Collapses the concurrent calls of a consumer with equal method and arguments into a single remote call: the first
+ * caller makes the call, the callers arriving while it is in flight wait for it and receive its result, or the same
+ * exception instance.
+ * <p>
+ * The in-flight calls are registered in a {@link ConcurrentHashMap} per method, so an uncontended call only adds a
+ * <code>putIfAbsent</code> and a <code>remove</code>. The <code>void</code> methods are never collapsed, since they are
+ * called for their side effects.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFSingleFlightInterceptor implements MethodInterceptor {
+
+	/**
+	 * method -> arguments -> in-flight call
+	 */
+	private final Map<Method, ConcurrentMap<ArgumentsKey, Call>> inFlightCalls;
+
+	/**
+	 * @param serviceInterface the service interface
+	 */
+	public HSFSingleFlightInterceptor(Class<?> serviceInterface) {
+		Map<Method, ConcurrentMap<ArgumentsKey, Call>> calls = new HashMap<Method, ConcurrentMap<ArgumentsKey, Call>>();
+		for (Method method : serviceInterface.getMethods()) {
+			if (method.getReturnType() != void.class) {
+				calls.put(method, new ConcurrentHashMap<ArgumentsKey, Call>());
+			}
+		}
+		this.inFlightCalls = calls;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		ConcurrentMap<ArgumentsKey, Call> calls = inFlightCalls.get(invocation.getMethod());
+		if (calls == null) {
+			return invocation.proceed();
+		}
+		ArgumentsKey key = new ArgumentsKey(invocation.getArguments());
+		Call call = new Call();
+		Call inFlight = calls.putIfAbsent(key, call);
+		if (inFlight != null) {
+			return inFlight.await();
+		}
+		Object result;
+		try {
+			result = invocation.proceed();
+		} catch (Throwable ex) {
+			// 先移除再通知，之后到达的调用会重新发起远程调用
+			calls.remove(key, call);
+			call.complete(null, ex);
+			throw ex;
+		}
+		calls.remove(key, call);
+		call.complete(result, null);
+		return result;
+	}
+
+	/**
+	 * An in-flight call
+	 */
+	private static class Call {
+
+		private Object result;
+
+		private Throwable failure;
+
+		private boolean done;
+
+		synchronized void complete(Object result, Throwable failure) {
+			this.result = result;
+			this.failure = failure;
+			this.done = true;
+			notifyAll();
+		}
+
+		/**
+		 * Wait for the result. The wait is not interruptible since the call completes once the remote call returned or
+		 * failed.
+		 */
+		synchronized Object await() throws Throwable {
+			boolean interrupted = false;
+			try {
+				while (!done) {
+					try {
+						wait();
+					} catch (InterruptedException ex) {
+						interrupted = true;
+					}
+				}
+			} finally {
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.taobao.hsf.spring.consumer;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.taobao.hsf.spring.timeout.HSFServiceTimeouts;
+import com.taobao.hsf.spring.timeout.HSFTimeoutRegistry;
+import com.taobao.hsf.spring.util.ClassNameContants;
+
+/**
+ * Applies the timeouts of the {@link HSFTimeoutRegistry} to the calls of a consumer. The timeout is handed to HSF as
+ * the timeout of the next call of the calling thread, so it replaces the timeout of the consumer and its methodSpecials
+ * for that call, shorter or longer: HSF itself waits for the response and fails the call when it times out. The calls
+ * of the methods without a timeout in the registry only cost a lookup.
+ * <p>
+ * Without <code>com.taobao.hsf.util.RequestCtxUtil</code> on the classpath the timeouts of the registry are ignored,
+ * which is logged once.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFTimeoutInterceptor implements MethodInterceptor {
+
+	private static final Log logger = LogFactory.getLog(HSFTimeoutInterceptor.class);
+
+	/**
+	 * RequestCtxUtil.setRequestTimeout(int), <code>null</code> if HSF does not provide it
+	 */
+	private static final Method SET_REQUEST_TIMEOUT = findSetRequestTimeout();
+
+	private final HSFServiceTimeouts timeouts;
+
+	/**
+	 * @param timeouts the timeouts of the service
+	 */
+	public HSFTimeoutInterceptor(HSFServiceTimeouts timeouts) {
+		this.timeouts = timeouts;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		if (SET_REQUEST_TIMEOUT == null || ReflectionUtils.isObjectMethod(invocation.getMethod())) {
+			return invocation.proceed();
+		}
+		int timeout = timeouts.getTimeout(invocation.getMethod());
+		if (timeout > 0) {
+			// 只作用于当前线程的下一次HSF调用，所以紧挨着远程调用设置
+			ReflectionUtils.invokeMethod(SET_REQUEST_TIMEOUT, null, timeout);
+		}
+		return invocation.proceed();
+	}
+
+	private static Method findSetRequestTimeout() {
+		ClassLoader classLoader = HSFTimeoutInterceptor.class.getClassLoader();
+		if (!ClassUtils.isPresent(ClassNameContants.REQUEST_CTX_UTIL_CLASS_NAME, classLoader)) {
+			logger.warn(ClassNameContants.REQUEST_CTX_UTIL_CLASS_NAME
+					+ " is not found, the timeouts of the HSFTimeoutRegistry are ignored");
+			return null;
+		}
+		try {
+			Class<?> requestCtxUtil = ClassUtils.forName(ClassNameContants.REQUEST_CTX_UTIL_CLASS_NAME, classLoader);
+			Method method = ReflectionUtils.findMethod(requestCtxUtil,
+					ClassNameContants.SET_REQUEST_TIMEOUT_METHOD_NAME, int.class);
+			if (method == null) {
+				logger.warn(ClassNameContants.REQUEST_CTX_UTIL_CLASS_NAME + " has no "
+						+ ClassNameContants.SET_REQUEST_TIMEOUT_METHOD_NAME
+						+ "(int), the timeouts of the HSFTimeoutRegistry are ignored");
+			}
+			return method;
+		} catch (ClassNotFoundException ex) {
+			logger.warn("Unable to load " + ClassNameContants.REQUEST_CTX_UTIL_CLASS_NAME
+					+ ", the timeouts of the HSFTimeoutRegistry are ignored", ex);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,222 @@
+package com.taobao.hsf.spring.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import com.taobao.hsf.spring.annotation.HSF;
+import com.taobao.hsf.spring.annotation.HSFExport;
+
+/**
+ * The build time index of {@link HSFExport} classes and {@link HSF} fields, written by
+ * {@link HSFAnnotationIndexProcessor} into <code>META-INF/hsf-annotations.idx</code>.
+ * <p>
+ * Each line of the index is one entry:
+ *
+ * <pre>
+ * export=com.foo.OrderServiceImpl,com.foo.OrderService
+ * consumer=com.foo.OrderController#orderService,com.foo.OrderService
+ * factory=com.foo.OrderServiceFactoryBean
+ * </pre>
+ *
+ * An index only covers the classes of its own jar or directory: the classes of the jars compiled without the
+ * annotation processor are not listed by any index and have to be inspected.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFAnnotationIndex {
+
+	/**
+	 * The location of the index files in the classpath
+	 */
+	public static final String INDEX_LOCATION = "META-INF/hsf-annotations.idx";
+
+	/**
+	 * The entry prefix of the classes annotated with {@link HSFExport}
+	 */
+	static final String EXPORT_ENTRY = "export=";
+
+	/**
+	 * The entry prefix of the fields annotated with {@link HSF}
+	 */
+	static final String CONSUMER_ENTRY = "consumer=";
+
+	/**
+	 * The entry prefix of the FactoryBean classes, their object type is only known at runtime
+	 */
+	static final String FACTORY_ENTRY = "factory=";
+
+	static final String INDEX_ENCODING = "UTF-8";
+
+	/**
+	 * exported class name -> service interface name, empty if it is unknown at build time
+	 */
+	private final Map<String, String> exportedClasses = new HashMap<String, String>();
+
+	/**
+	 * The names of the classes declaring {@link HSF} fields
+	 */
+	private final Set<String> consumerClasses = new HashSet<String>();
+
+	/**
+	 * The names of the FactoryBean classes
+	 */
+	private final Set<String> factoryBeanClasses = new HashSet<String>();
+
+	/**
+	 * The URLs of the jars and directories containing an index
+	 */
+	private final List<String> indexedRoots = new ArrayList<String>();
+
+	private final ClassLoader classLoader;
+
+	private HSFAnnotationIndex(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Load and merge all the indexes visible to the class loader
+	 *
+	 * @param classLoader the class loader to load the indexes with, may be <code>null</code>
+	 * @return the merged index, or <code>null</code> if there is no index at all
+	 */
+	public static HSFAnnotationIndex load(ClassLoader classLoader) {
+		ClassLoader loader = classLoader != null ? classLoader : HSFAnnotationIndex.class.getClassLoader();
+		try {
+			Enumeration<URL> urls = loader.getResources(INDEX_LOCATION);
+			if (!urls.hasMoreElements()) {
+				return null;
+			}
+			HSFAnnotationIndex index = new HSFAnnotationIndex(loader);
+			while (urls.hasMoreElements()) {
+				index.read(urls.nextElement());
+			}
+			return index;
+		} catch (IOException ex) {
+			throw new IllegalStateException("Unable to load HSF annotation index from location [" + INDEX_LOCATION
+					+ "]", ex);
+		}
+	}
+
+	private void read(URL url) throws IOException {
+		String location = url.toString();
+		indexedRoots.add(location.substring(0, location.length() - INDEX_LOCATION.length()));
+		InputStream in = url.openStream();
+		try {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, INDEX_ENCODING));
+			String line;
+			while ((line = reader.readLine()) != null) {
+				addEntry(line.trim());
+			}
+		} finally {
+			in.close();
+		}
+	}
+
+	private void addEntry(String line) {
+		if (line.startsWith(EXPORT_ENTRY)) {
+			String[] entry = splitEntry(line.substring(EXPORT_ENTRY.length()));
+			exportedClasses.put(entry[0], entry[1]);
+		} else if (line.startsWith(CONSUMER_ENTRY)) {
+			String[] entry = splitEntry(line.substring(CONSUMER_ENTRY.length()));
+			int index = entry[0].indexOf('#');
+			consumerClasses.add(index == -1 ? entry[0] : entry[0].substring(0, index));
+		} else if (line.startsWith(FACTORY_ENTRY)) {
+			factoryBeanClasses.add(line.substring(FACTORY_ENTRY.length()).trim());
+		}
+	}
+
+	private String[] splitEntry(String entry) {
+		String[] split = StringUtils.split(entry, ",");
+		return split != null ? new String[] { split[0].trim(), split[1].trim() } : new String[] { entry.trim(), "" };
+	}
+
+	/**
+	 * @param className the class name
+	 * @return <code>true</code> if the class is (or inherits) {@link HSFExport}
+	 */
+	public boolean isExported(String className) {
+		return exportedClasses.containsKey(className);
+	}
+
+	/**
+	 * @param className the class name
+	 * @return <code>true</code> if the class is a FactoryBean, which might create a {@link HSFExport} object
+	 */
+	public boolean isFactoryBean(String className) {
+		return factoryBeanClasses.contains(className);
+	}
+
+	/**
+	 * @param className the class name
+	 * @return <code>true</code> if the class comes from a jar or directory with an index, <code>false</code> if it has
+	 *         to be inspected
+	 */
+	public boolean isIndexed(String className) {
+		return isIndexed(className, classLoader);
+	}
+
+	private boolean isIndexed(String className, ClassLoader loader) {
+		String resourcePath = ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX;
+		URL url = loader.getResource(resourcePath);
+		if (url == null) {
+			// 生成的类
+			return false;
+		}
+		String location = url.toString();
+		for (String root : indexedRoots) {
+			if (location.startsWith(root)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param className the exported class name
+	 * @return the service interface resolved at build time, or <code>null</code> if it is unknown
+	 */
+	public String getServiceInterface(String className) {
+		String serviceInterface = exportedClasses.get(className);
+		return StringUtils.hasText(serviceInterface) ? serviceInterface : null;
+	}
+
+	/**
+	 * @param className the class name
+	 * @return <code>true</code> if the class itself declares {@link HSF} fields
+	 */
+	public boolean hasConsumerFields(String className) {
+		return consumerClasses.contains(className);
+	}
+
+	/**
+	 * @param beanType the bean class
+	 * @return <code>true</code> if the class or one of its super classes declares {@link HSF} fields, or comes from a
+	 *         jar or directory without an index
+	 */
+	public boolean hasConsumerFields(Class<?> beanType) {
+		for (Class<?> clazz = beanType; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+			if (consumerClasses.contains(clazz.getName())) {
+				return true;
+			}
+			if (clazz.getClassLoader() != null && !isIndexed(clazz.getName(), clazz.getClassLoader())) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,308 @@
+package com.taobao.hsf.spring.index;
+
+import static com.taobao.hsf.spring.index.HSFAnnotationIndex.CONSUMER_ENTRY;
+import static com.taobao.hsf.spring.index.HSFAnnotationIndex.EXPORT_ENTRY;
+import static com.taobao.hsf.spring.index.HSFAnnotationIndex.FACTORY_ENTRY;
+import static com.taobao.hsf.spring.index.HSFAnnotationIndex.INDEX_ENCODING;
+import static com.taobao.hsf.spring.index.HSFAnnotationIndex.INDEX_LOCATION;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Serializable;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.taobao.hsf.spring.annotation.HSF;
+import com.taobao.hsf.spring.annotation.HSFExport;
+
+/**
+ * Annotation processor writing the {@link HSFAnnotationIndex} of the compiled classes, so that the post processors do
+ * not have to inspect every bean of the context at startup.
+ * <p>
+ * The processor is opt-in: it is registered in <code>META-INF/services</code> but only indexes the builds passing
+ * <code>-Ahsf.index=true</code> to javac, the other builds never call it. Once enabled it inspects every compiled
+ * class, not only the annotated ones: the FactoryBeans and the classes inheriting {@link HSFExport} carry no HSF
+ * annotation, and an index must list all the candidates of its jar or directory.
+ * <p>
+ * The entries of a previous index in the output directory are kept for the classes not compiled again, which keeps
+ * incremental builds complete.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SupportedOptions(HSFAnnotationIndexProcessor.INDEX_OPTION)
+public class HSFAnnotationIndexProcessor extends AbstractProcessor {
+
+	/**
+	 * The javac option enabling the index, <code>-Ahsf.index=true</code>
+	 */
+	public static final String INDEX_OPTION = "hsf.index";
+
+	private static final String HSF_EXPORT_ANNOTATION_NAME = HSFExport.class.getName();
+
+	private static final String HSF_ANNOTATION_NAME = HSF.class.getName();
+
+	private static final String SERVICE_INTERFACE_ATTRIBUTE = "serviceInterface";
+
+	private static final String FACTORY_BEAN_CLASS_NAME = "org.springframework.beans.factory.FactoryBean";
+
+	/**
+	 * The default value of {@link HSFExport#serviceInterface()}
+	 */
+	private static final String DEFAULT_SERVICE_INTERFACE_NAME = Serializable.class.getName();
+
+	/**
+	 * entry key -> entry line, sorted to keep the index stable between builds
+	 */
+	private final Map<String, String> entries = new TreeMap<String, String>();
+
+	/**
+	 * The binary names of the classes compiled by this build
+	 */
+	private final Set<String> processedClasses = new HashSet<String>();
+
+	private boolean enabled;
+
+	@Override
+	public synchronized void init(ProcessingEnvironment processingEnv) {
+		super.init(processingEnv);
+		this.enabled = Boolean.parseBoolean(processingEnv.getOptions().get(INDEX_OPTION));
+	}
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		// 未开启时不声明任何注解，javac不会调用该处理器
+		return enabled ? Collections.singleton("*") : Collections.<String> emptySet();
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (!enabled) {
+			return false;
+		}
+		for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+			collect(type);
+		}
+		if (roundEnv.processingOver()) {
+			writeIndex();
+		}
+		return false;
+	}
+
+	private void collect(TypeElement type) {
+		String className = getBinaryName(type);
+		processedClasses.add(className);
+
+		if (type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+			AnnotationMirror export = findExportAnnotation(type, new HashSet<TypeElement>());
+			if (export != null) {
+				entries.put(className, EXPORT_ENTRY + className + "," + guessServiceInterface(export, type));
+			}
+			if (isFactoryBean(type)) {
+				// FactoryBean创建的对象可能是HSFExport类，运行时仍需检查
+				entries.put(FACTORY_ENTRY + className, FACTORY_ENTRY + className);
+			}
+		}
+
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (getAnnotationMirror(field, HSF_ANNOTATION_NAME) != null) {
+				String fieldType = processingEnv.getTypeUtils().erasure(field.asType()).toString();
+				entries.put(className + "#" + field.getSimpleName(), CONSUMER_ENTRY + className + "#"
+						+ field.getSimpleName() + "," + fieldType);
+			}
+		}
+
+		for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+			collect(nested);
+		}
+	}
+
+	/**
+	 * Find the {@link HSFExport} annotation the same way as
+	 * {@link org.springframework.core.annotation.AnnotationUtils#findAnnotation(Class, Class)} does at runtime
+	 */
+	private AnnotationMirror findExportAnnotation(TypeElement type, Set<TypeElement> visited) {
+		if (type == null || !visited.add(type)) {
+			return null;
+		}
+		AnnotationMirror annotation = getAnnotationMirror(type, HSF_EXPORT_ANNOTATION_NAME);
+		if (annotation != null) {
+			return annotation;
+		}
+		for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+			annotation = getAnnotationMirror(mirror.getAnnotationType().asElement(), HSF_EXPORT_ANNOTATION_NAME);
+			if (annotation != null) {
+				return annotation;
+			}
+		}
+		for (TypeMirror serviceInterface : type.getInterfaces()) {
+			annotation = findExportAnnotation(asTypeElement(serviceInterface), visited);
+			if (annotation != null) {
+				return annotation;
+			}
+		}
+		return findExportAnnotation(asTypeElement(type.getSuperclass()), visited);
+	}
+
+	private boolean isFactoryBean(TypeElement type) {
+		TypeElement factoryBean = processingEnv.getElementUtils().getTypeElement(FACTORY_BEAN_CLASS_NAME);
+		if (factoryBean == null) {
+			return false;
+		}
+		Types types = processingEnv.getTypeUtils();
+		return types.isAssignable(types.erasure(type.asType()), types.erasure(factoryBean.asType()));
+	}
+
+	/**
+	 * Resolve the service interface like the runtime does, empty if it can not be resolved at build time
+	 */
+	private String guessServiceInterface(AnnotationMirror export, TypeElement type) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : export.getElementValues()
+				.entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(SERVICE_INTERFACE_ATTRIBUTE)) {
+				Object value = entry.getValue().getValue();
+				if (value instanceof TypeMirror) {
+					TypeElement serviceInterface = asTypeElement((TypeMirror) value);
+					String serviceInterfaceName = serviceInterface != null ? getBinaryName(serviceInterface) : null;
+					if (serviceInterfaceName != null && !DEFAULT_SERVICE_INTERFACE_NAME.equals(serviceInterfaceName)) {
+						return serviceInterfaceName;
+					}
+				}
+			}
+		}
+		List<? extends TypeMirror> interfaces = type.getInterfaces();
+		if (interfaces.size() == 1) {
+			TypeElement serviceInterface = asTypeElement(interfaces.get(0));
+			return serviceInterface != null ? getBinaryName(serviceInterface) : "";
+		}
+		return "";
+	}
+
+	private AnnotationMirror getAnnotationMirror(Element element, String annotationName) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+			if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+				return mirror;
+			}
+		}
+		return null;
+	}
+
+	private TypeElement asTypeElement(TypeMirror type) {
+		if (type == null || type.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		return (TypeElement) ((DeclaredType) type).asElement();
+	}
+
+	private String getBinaryName(TypeElement type) {
+		return processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private void writeIndex() {
+		Map<String, String> index = readPreviousIndex();
+		index.putAll(entries);
+		if (index.isEmpty()) {
+			return;
+		}
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					INDEX_LOCATION);
+			Writer writer = new OutputStreamWriter(file.openOutputStream(), INDEX_ENCODING);
+			try {
+				writer.write("# Generated by " + getClass().getName() + ", do not edit\n");
+				for (String entry : index.values()) {
+					writer.write(entry);
+					writer.write('\n');
+				}
+			} finally {
+				writer.close();
+			}
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Unable to write HSF annotation index [" + INDEX_LOCATION + "]: " + ex);
+		}
+	}
+
+	/**
+	 * Read the entries of the previous build, dropping the ones of the classes compiled again
+	 */
+	private Map<String, String> readPreviousIndex() {
+		Map<String, String> index = new TreeMap<String, String>();
+		try {
+			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+			BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(), INDEX_ENCODING));
+			try {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					String key = getEntryKey(line.trim());
+					if (key != null && !processedClasses.contains(getEntryClassName(key))) {
+						index.put(key, line.trim());
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (IOException ex) {
+			// no previous index
+		} catch (IllegalArgumentException ex) {
+			// no previous index
+		}
+		return index;
+	}
+
+	private String getEntryKey(String line) {
+		int end = line.indexOf(',');
+		if (line.startsWith(EXPORT_ENTRY) && end != -1) {
+			return line.substring(EXPORT_ENTRY.length(), end);
+		} else if (line.startsWith(CONSUMER_ENTRY) && end != -1) {
+			return line.substring(CONSUMER_ENTRY.length(), end);
+		} else if (line.startsWith(FACTORY_ENTRY)) {
+			return line;
+		}
+		return null;
+	}
+
+	private String getEntryClassName(String key) {
+		if (key.startsWith(FACTORY_ENTRY)) {
+			return key.substring(FACTORY_ENTRY.length());
+		}
+		int index = key.indexOf('#');
+		return index == -1 ? key : key.substring(0, index);
+	}
+}
@@ -0,0 +1,213 @@
+package com.taobao.hsf.spring.monitor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The latency histogram of a method, recording the calls without allocation nor lock.
+ * <p>
+ * The latencies are recorded in µs in log-linear buckets: each power of 2 is split into 16 linear buckets, so a
+ * percentile is off by at most 1/16 of its value, up to 2^32µs. The buckets are striped by thread to spread the
+ * contention of the counters, the stripes are only summed up when the histogram is read.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFLatencyHistogram implements HSFLatencyHistogramMBean {
+
+	private static final int SUB_BUCKET_BITS = 4;
+
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	private static final long MAX_MICROS = (1L << 32) - 1;
+
+	private static final int BUCKET_COUNT = index(MAX_MICROS) + 1;
+
+	/**
+	 * The counters following the buckets in a stripe
+	 */
+	private static final int ERRORS = BUCKET_COUNT;
+
+	private static final int TIMEOUTS = BUCKET_COUNT + 1;
+
+	private static final int SUM = BUCKET_COUNT + 2;
+
+	private static final int STRIPE_LENGTH = BUCKET_COUNT + 3;
+
+	private static final int STRIPE_COUNT = stripeCount();
+
+	private final AtomicLongArray[] stripes = new AtomicLongArray[STRIPE_COUNT];
+
+	public HSFLatencyHistogram() {
+		for (int i = 0; i < stripes.length; i++) {
+			stripes[i] = new AtomicLongArray(STRIPE_LENGTH);
+		}
+	}
+
+	private static int stripeCount() {
+		int processors = Math.min(8, Runtime.getRuntime().availableProcessors());
+		return Integer.highestOneBit(processors) << (Integer.bitCount(processors) > 1 ? 1 : 0);
+	}
+
+	/**
+	 * @param micros the latency in µs
+	 * @return the index of its bucket
+	 */
+	private static int index(long micros) {
+		if (micros < SUB_BUCKET_COUNT) {
+			return (int) micros;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+		return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((micros >>> shift) - SUB_BUCKET_COUNT);
+	}
+
+	/**
+	 * @param index the index of a bucket
+	 * @return the highest latency in µs of the bucket
+	 */
+	private static long highestMicros(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = (index >>> SUB_BUCKET_BITS) - 1;
+		long lowest = (long) ((index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+
+	/**
+	 * Record a call
+	 * 
+	 * @param nanos the latency in ns
+	 * @param failure the exception thrown by the call, <code>null</code> if it returned
+	 * @param timeout whether the call timed out
+	 */
+	public void record(long nanos, Throwable failure, boolean timeout) {
+		long micros = Math.min(MAX_MICROS, Math.max(0, nanos / 1000));
+		AtomicLongArray stripe = stripes[(int) Thread.currentThread().getId() & (STRIPE_COUNT - 1)];
+		stripe.getAndIncrement(index(micros));
+		stripe.getAndAdd(SUM, micros);
+		if (failure != null) {
+			stripe.getAndIncrement(ERRORS);
+			if (timeout) {
+				stripe.getAndIncrement(TIMEOUTS);
+			}
+		}
+	}
+
+	/**
+	 * @return the sum of the stripes, read while the calls are still recorded
+	 */
+	public Snapshot snapshot() {
+		long[] counts = new long[STRIPE_LENGTH];
+		for (AtomicLongArray stripe : stripes) {
+			for (int i = 0; i < STRIPE_LENGTH; i++) {
+				counts[i] += stripe.get(i);
+			}
+		}
+		return new Snapshot(counts);
+	}
+
+	@Override
+	public long getCount() {
+		return snapshot().getCount();
+	}
+
+	@Override
+	public long getErrorCount() {
+		return snapshot().getErrorCount();
+	}
+
+	@Override
+	public long getTimeoutCount() {
+		return snapshot().getTimeoutCount();
+	}
+
+	@Override
+	public long getMeanMicros() {
+		return snapshot().getMeanMicros();
+	}
+
+	@Override
+	public long getP50Micros() {
+		return snapshot().getPercentileMicros(0.5);
+	}
+
+	@Override
+	public long getP99Micros() {
+		return snapshot().getPercentileMicros(0.99);
+	}
+
+	@Override
+	public long getP999Micros() {
+		return snapshot().getPercentileMicros(0.999);
+	}
+
+	@Override
+	public long getMaxMicros() {
+		return snapshot().getMaxMicros();
+	}
+
+	/**
+	 * The counters of a histogram at a point in time
+	 */
+	public static class Snapshot {
+
+		private final long[] counts;
+
+		private final long count;
+
+		Snapshot(long[] counts) {
+			this.counts = counts;
+			long total = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				total += counts[i];
+			}
+			this.count = total;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getErrorCount() {
+			return counts[ERRORS];
+		}
+
+		public long getTimeoutCount() {
+			return counts[TIMEOUTS];
+		}
+
+		public long getSumMicros() {
+			return counts[SUM];
+		}
+
+		public long getMeanMicros() {
+			return count > 0 ? counts[SUM] / count : 0;
+		}
+
+		/**
+		 * @param quantile the quantile, between 0 and 1
+		 * @return the highest latency in µs of the bucket holding the quantile, 0 if there is no call
+		 */
+		public long getPercentileMicros(double quantile) {
+			long rank = (long) Math.ceil(quantile * count);
+			long seen = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				seen += counts[i];
+				if (seen >= rank && seen > 0) {
+					return highestMicros(i);
+				}
+			}
+			return 0;
+		}
+
+		public long getMaxMicros() {
+			for (int i = BUCKET_COUNT - 1; i >= 0; i--) {
+				if (counts[i] > 0) {
+					return highestMicros(i);
+				}
+			}
+			return 0;
+		}
+	}
+}
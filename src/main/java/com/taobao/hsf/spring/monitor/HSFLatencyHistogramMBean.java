@@ -0,0 +1,51 @@
+package com.taobao.hsf.spring.monitor;
+
+/**
+ * JMX management interface of the {@link HSFLatencyHistogram}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface HSFLatencyHistogramMBean {
+
+	/**
+	 * @return the number of recorded calls
+	 */
+	long getCount();
+
+	/**
+	 * @return the number of calls which threw an exception, including the timeouts
+	 */
+	long getErrorCount();
+
+	/**
+	 * @return the number of calls which timed out
+	 */
+	long getTimeoutCount();
+
+	/**
+	 * @return the mean latency in µs
+	 */
+	long getMeanMicros();
+
+	/**
+	 * @return the median latency in µs
+	 */
+	long getP50Micros();
+
+	/**
+	 * @return the 99th percentile of the latency in µs
+	 */
+	long getP99Micros();
+
+	/**
+	 * @return the 99.9th percentile of the latency in µs
+	 */
+	long getP999Micros();
+
+	/**
+	 * @return the maximum latency in µs
+	 */
+	long getMaxMicros();
+}
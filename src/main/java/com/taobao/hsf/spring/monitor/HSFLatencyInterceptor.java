@@ -0,0 +1,55 @@
+package com.taobao.hsf.spring.monitor;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Records the latency of the calls of a consumer or of a provider in the {@link HSFLatencyHistogram} of their method.
+ * An exception whose class name, or the class name of one of its causes, contains <code>timeout</code> is counted as a
+ * timeout, such as the HSF timeout exception.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFLatencyInterceptor implements MethodInterceptor {
+
+	private final Map<Method, HSFLatencyHistogram> histograms;
+
+	/**
+	 * @param histograms the methods of the service interface -> their histogram
+	 */
+	public HSFLatencyInterceptor(Map<Method, HSFLatencyHistogram> histograms) {
+		this.histograms = histograms;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		HSFLatencyHistogram histogram = histograms.get(invocation.getMethod());
+		if (histogram == null) {
+			return invocation.proceed();
+		}
+		long start = System.nanoTime();
+		try {
+			Object result = invocation.proceed();
+			histogram.record(System.nanoTime() - start, null, false);
+			return result;
+		} catch (Throwable ex) {
+			histogram.record(System.nanoTime() - start, ex, isTimeout(ex));
+			throw ex;
+		}
+	}
+
+	private static boolean isTimeout(Throwable ex) {
+		for (Throwable cause = ex; cause != null; cause = cause.getCause() != cause ? cause.getCause() : null) {
+			if (cause.getClass().getName().toLowerCase(Locale.ENGLISH).contains("timeout")) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
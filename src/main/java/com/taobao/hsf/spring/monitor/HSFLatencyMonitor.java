@@ -0,0 +1,221 @@
+package com.taobao.hsf.spring.monitor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.taobao.hsf.spring.util.JmxUtils;
+
+/**
+ * Holds the {@link HSFLatencyHistogram} of each method of the HSF consumers and providers. Each histogram is exposed as
+ * the MBean <code>com.taobao.hsf.spring:type=HSFLatency,side=&lt;consumer|provider&gt;,service=&lt;bean name&gt;,
+ * method=&lt;method&gt;</code>, and all of them as text by the MBean
+ * <code>com.taobao.hsf.spring:type=HSFLatencyMonitor</code> and, if <code>httpPort</code> is set, at
+ * <code>http://&lt;host&gt;:&lt;httpPort&gt;/hsf/latency</code>, for instance:
+ * 
+ * <pre>
+ * hsf_latency_micros{side="consumer",service="itemService",method="getItem(long)",quantile="0.99"} 1855
+ * hsf_latency_micros_count{side="consumer",service="itemService",method="getItem(long)"} 120443
+ * </pre>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFLatencyMonitor implements HSFLatencyMonitorMBean, InitializingBean, DisposableBean {
+
+	/**
+	 * The side of the consumer histograms
+	 */
+	public static final String CONSUMER = "consumer";
+
+	/**
+	 * The side of the provider histograms
+	 */
+	public static final String PROVIDER = "provider";
+
+	private static final String PATH = "/hsf/latency";
+
+	private static final String TEXT_ENCODING = "UTF-8";
+
+	private static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+
+	private static final Log logger = LogFactory.getLog(HSFLatencyMonitor.class);
+
+	/**
+	 * The histograms in registration order, guarded by <code>this</code>
+	 */
+	private final List<Entry> entries = new ArrayList<Entry>();
+
+	/**
+	 * The port of the text endpoint, disabled if not positive
+	 */
+	private int httpPort;
+
+	private HttpServer httpServer;
+
+	private ObjectName objectName;
+
+	public void setHttpPort(int httpPort) {
+		this.httpPort = httpPort;
+	}
+
+	/**
+	 * Create the interceptor recording the latency of the methods of a consumer or of a provider
+	 * 
+	 * @param side {@link #CONSUMER} or {@link #PROVIDER}
+	 * @param service the bean name of the consumer or of the provider target
+	 * @param serviceInterface the service interface
+	 * @return the interceptor
+	 */
+	public synchronized HSFLatencyInterceptor createInterceptor(String side, String service,
+			Class<?> serviceInterface) {
+		Map<Method, HSFLatencyHistogram> histograms = new LinkedHashMap<Method, HSFLatencyHistogram>();
+		for (Method method : serviceInterface.getMethods()) {
+			String methodName = getMethodName(method);
+			HSFLatencyHistogram histogram = new HSFLatencyHistogram();
+			ObjectName name = JmxUtils.register(histogram, "HSFLatency", "side", side, "service", service, "method",
+					methodName);
+			entries.add(new Entry(side, service, methodName, histogram, name));
+			histograms.put(method, histogram);
+		}
+		return new HSFLatencyInterceptor(histograms);
+	}
+
+	private static String getMethodName(Method method) {
+		StringBuilder methodName = new StringBuilder(method.getName()).append('(');
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		for (int i = 0; i < parameterTypes.length; i++) {
+			methodName.append(i > 0 ? "," : "").append(parameterTypes[i].getSimpleName());
+		}
+		return methodName.append(')').toString();
+	}
+
+	@Override
+	public synchronized int getMethodCount() {
+		return entries.size();
+	}
+
+	@Override
+	public String getText() {
+		List<Entry> snapshot;
+		synchronized (this) {
+			snapshot = new ArrayList<Entry>(entries);
+		}
+		StringBuilder text = new StringBuilder(128 + snapshot.size() * 640);
+		text.append("# TYPE hsf_latency_micros summary\n");
+		for (Entry entry : snapshot) {
+			HSFLatencyHistogram.Snapshot histogram = entry.histogram.snapshot();
+			if (histogram.getCount() == 0) {
+				continue;
+			}
+			String labels = "side=\"" + entry.side + "\",service=\"" + entry.service + "\",method=\"" + entry.method
+					+ "\"";
+			for (double quantile : QUANTILES) {
+				text.append("hsf_latency_micros{").append(labels).append(",quantile=\"").append(quantile)
+						.append("\"} ").append(histogram.getPercentileMicros(quantile)).append('\n');
+			}
+			text.append("hsf_latency_micros_sum{").append(labels).append("} ").append(histogram.getSumMicros())
+					.append('\n');
+			text.append("hsf_latency_micros_count{").append(labels).append("} ").append(histogram.getCount())
+					.append('\n');
+			text.append("hsf_latency_micros_max{").append(labels).append("} ").append(histogram.getMaxMicros())
+					.append('\n');
+			text.append("hsf_errors_total{").append(labels).append("} ").append(histogram.getErrorCount())
+					.append('\n');
+			text.append("hsf_timeouts_total{").append(labels).append("} ").append(histogram.getTimeoutCount())
+					.append('\n');
+		}
+		return text.toString();
+	}
+
+	@Override
+	public void afterPropertiesSet() throws IOException {
+		objectName = JmxUtils.register(this, "HSFLatencyMonitor");
+		if (httpPort > 0) {
+			httpServer = HttpServer.create(new InetSocketAddress(httpPort), 0);
+			httpServer.createContext(PATH, new TextHandler());
+			httpServer.start();
+			logger.info("HSF latency endpoint started at http://localhost:" + httpPort + PATH);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (httpServer != null) {
+			httpServer.stop(0);
+			httpServer = null;
+		}
+		JmxUtils.unregister(objectName);
+		objectName = null;
+		synchronized (this) {
+			for (Entry entry : entries) {
+				JmxUtils.unregister(entry.objectName);
+			}
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Serves {@link #getText()}
+	 */
+	private class TextHandler implements HttpHandler {
+
+		@Override
+		public void handle(HttpExchange exchange) throws IOException {
+			try {
+				byte[] body = getText().getBytes(TEXT_ENCODING);
+				exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+				exchange.sendResponseHeaders(200, body.length);
+				OutputStream out = exchange.getResponseBody();
+				try {
+					out.write(body);
+				} finally {
+					out.close();
+				}
+			} finally {
+				exchange.close();
+			}
+		}
+	}
+
+	/**
+	 * The histogram of a method
+	 */
+	private static class Entry {
+
+		private final String side;
+
+		private final String service;
+
+		private final String method;
+
+		private final HSFLatencyHistogram histogram;
+
+		private final ObjectName objectName;
+
+		Entry(String side, String service, String method, HSFLatencyHistogram histogram, ObjectName objectName) {
+			this.side = side;
+			this.service = service;
+			this.method = method;
+			this.histogram = histogram;
+			this.objectName = objectName;
+		}
+	}
+}
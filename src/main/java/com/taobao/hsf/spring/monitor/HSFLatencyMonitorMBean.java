@@ -0,0 +1,21 @@
+package com.taobao.hsf.spring.monitor;
+
+/**
+ * JMX management interface of the {@link HSFLatencyMonitor}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface HSFLatencyMonitorMBean {
+
+	/**
+	 * @return the number of monitored methods
+	 */
+	int getMethodCount();
+
+	/**
+	 * @return the latencies of all the methods, in the text format of the HTTP endpoint
+	 */
+	String getText();
+}
@@ -0,0 +1,408 @@
+package com.taobao.hsf.spring.monitor;
+
+import static com.taobao.hsf.spring.util.ClassNameContants.HSF_SPRING_CONSUMER_BEAN_CLASS_NAME;
+import static com.taobao.hsf.spring.util.ClassNameContants.HSF_SPRING_PROVIDER_BEAN_CLASS_NAME;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.util.StringUtils;
+
+import com.taobao.hsf.spring.util.JmxUtils;
+
+/**
+ * Records how long the HSF annotation processing takes at startup: the time spent looking for the annotations, the
+ * time spent building each HSF bean definition, and the <code>init</code> duration and failure of each
+ * HSFSpringConsumerBean and HSFSpringProviderBean.
+ * <p>
+ * The records are exposed as the MBean <code>com.taobao.hsf.spring:type=HSFStartupRecorder,context=&lt;id&gt;</code>,
+ * and the JSON report is written to the log, or to the <code>reportLocation</code> file, once the context is refreshed.
+ * If the context never completes its refresh, the report is logged when it is closed.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFStartupRecorder implements HSFStartupRecorderMBean, ApplicationContextAware,
+		ApplicationListener<ContextRefreshedEvent>, InitializingBean, DisposableBean {
+
+	/**
+	 * The type of the HSFSpringConsumerBean records
+	 */
+	public static final String CONSUMER = "consumer";
+
+	/**
+	 * The type of the HSFSpringProviderBean records
+	 */
+	public static final String PROVIDER = "provider";
+
+	private static final String REPORT_ENCODING = "UTF-8";
+
+	private static final int SLOWEST_BEANS = 10;
+
+	private static final Log logger = LogFactory.getLog(HSFStartupRecorder.class);
+
+	/**
+	 * bean name -> record
+	 */
+	private final ConcurrentMap<String, BeanRecord> records = new ConcurrentHashMap<String, BeanRecord>();
+
+	private final AtomicLong scanNanos = new AtomicLong();
+
+	private ApplicationContext applicationContext;
+
+	/**
+	 * The file to write the JSON report to, the report is logged if it is not set
+	 */
+	private String reportLocation;
+
+	private ObjectName objectName;
+
+	private volatile boolean reported;
+
+	public void setReportLocation(String reportLocation) {
+		this.reportLocation = reportLocation;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * @param bean the bean
+	 * @return {@link #CONSUMER} or {@link #PROVIDER}, <code>null</code> if it is not a HSF bean
+	 */
+	public static String getType(Object bean) {
+		String className = bean.getClass().getName();
+		if (HSF_SPRING_CONSUMER_BEAN_CLASS_NAME.equals(className)) {
+			return CONSUMER;
+		} else if (HSF_SPRING_PROVIDER_BEAN_CLASS_NAME.equals(className)) {
+			return PROVIDER;
+		}
+		return null;
+	}
+
+	/**
+	 * Record time spent looking for the HSF annotations
+	 *
+	 * @param nanos the elapsed time in ns
+	 */
+	public void recordScan(long nanos) {
+		scanNanos.addAndGet(nanos);
+	}
+
+	/**
+	 * Record the creation of a HSF bean definition
+	 *
+	 * @param beanName the name of the HSF bean
+	 * @param type {@link #CONSUMER} or {@link #PROVIDER}
+	 * @param serviceInterface the service interface
+	 * @param nanos the elapsed time in ns
+	 */
+	public void recordDefinition(String beanName, String type, String serviceInterface, long nanos) {
+		BeanRecord record = getRecord(beanName, type);
+		record.serviceInterface = serviceInterface;
+		record.definitionNanos = nanos;
+	}
+
+	/**
+	 * Record the start of the <code>init</code> of a HSF bean
+	 *
+	 * @param beanName the name of the HSF bean
+	 * @param type {@link #CONSUMER} or {@link #PROVIDER}
+	 */
+	public void recordInitStart(String beanName, String type) {
+		BeanRecord record = getRecord(beanName, type);
+		record.initNanos = -1;
+		record.failure = null;
+		record.initStart = System.nanoTime();
+	}
+
+	/**
+	 * Record the end of the <code>init</code> of a HSF bean
+	 *
+	 * @param beanName the name of the HSF bean
+	 * @param failure the failure, <code>null</code> if the <code>init</code> succeeded
+	 */
+	public void recordInitEnd(String beanName, Throwable failure) {
+		BeanRecord record = records.get(beanName);
+		if (record != null && record.initStart != 0) {
+			record.failure = failure != null ? String.valueOf(failure) : null;
+			record.initNanos = System.nanoTime() - record.initStart;
+		}
+	}
+
+	private BeanRecord getRecord(String beanName, String type) {
+		BeanRecord record = records.get(beanName);
+		if (record == null) {
+			record = new BeanRecord(beanName);
+			BeanRecord existing = records.putIfAbsent(beanName, record);
+			record = existing != null ? existing : record;
+		}
+		if (type != null) {
+			record.type = type;
+		}
+		return record;
+	}
+
+	@Override
+	public long getScanMillis() {
+		return toMillis(scanNanos.get());
+	}
+
+	@Override
+	public long getDefinitionMillis() {
+		return toMillis(getDefinitionNanos());
+	}
+
+	@Override
+	public long getInitMillis() {
+		return toMillis(getInitNanos());
+	}
+
+	private long getDefinitionNanos() {
+		long nanos = 0;
+		for (BeanRecord record : records.values()) {
+			nanos += record.definitionNanos;
+		}
+		return nanos;
+	}
+
+	private long getInitNanos() {
+		long nanos = 0;
+		for (BeanRecord record : records.values()) {
+			nanos += Math.max(0, record.initNanos);
+		}
+		return nanos;
+	}
+
+	@Override
+	public int getBeanCount() {
+		return records.size();
+	}
+
+	@Override
+	public int getFailureCount() {
+		int failures = 0;
+		for (BeanRecord record : records.values()) {
+			if (record.isFailed()) {
+				failures++;
+			}
+		}
+		return failures;
+	}
+
+	@Override
+	public String[] getSlowestBeans() {
+		List<BeanRecord> sorted = getSortedRecords();
+		String[] slowest = new String[Math.min(SLOWEST_BEANS, sorted.size())];
+		for (int i = 0; i < slowest.length; i++) {
+			BeanRecord record = sorted.get(i);
+			slowest[i] = record.beanName + ": "
+					+ (record.initNanos >= 0 ? formatMillis(record.initNanos) + "ms" : record.getStatus());
+		}
+		return slowest;
+	}
+
+	@Override
+	public String getReport() {
+		StringBuilder json = new StringBuilder(256 + records.size() * 192);
+		json.append("{\"context\":");
+		appendString(json, applicationContext != null ? applicationContext.getId() : null);
+		json.append(",\"refreshed\":").append(reported);
+		json.append(",\"scanMillis\":").append(formatMillis(scanNanos.get()));
+		json.append(",\"definitionMillis\":").append(formatMillis(getDefinitionNanos()));
+		json.append(",\"initMillis\":").append(formatMillis(getInitNanos()));
+		json.append(",\"failures\":").append(getFailureCount());
+		json.append(",\"beans\":[");
+		List<BeanRecord> sorted = getSortedRecords();
+		for (int i = 0; i < sorted.size(); i++) {
+			BeanRecord record = sorted.get(i);
+			json.append(i == 0 ? "\n" : ",\n").append("{\"name\":");
+			appendString(json, record.beanName);
+			json.append(",\"type\":");
+			appendString(json, record.type);
+			json.append(",\"serviceInterface\":");
+			appendString(json, record.serviceInterface);
+			json.append(",\"definitionMillis\":").append(formatMillis(record.definitionNanos));
+			json.append(",\"initMillis\":").append(record.initNanos >= 0 ? formatMillis(record.initNanos) : "null");
+			json.append(",\"status\":");
+			appendString(json, record.getStatus());
+			json.append(",\"failure\":");
+			appendString(json, record.failure);
+			json.append('}');
+		}
+		return json.append("]}").toString();
+	}
+
+	/**
+	 * @return the records, the slowest <code>init</code> first
+	 */
+	private List<BeanRecord> getSortedRecords() {
+		List<BeanRecord> sorted = new ArrayList<BeanRecord>(records.values());
+		Collections.sort(sorted, new Comparator<BeanRecord>() {
+
+			@Override
+			public int compare(BeanRecord o1, BeanRecord o2) {
+				return o1.initNanos < o2.initNanos ? 1 : o1.initNanos == o2.initNanos ? 0 : -1;
+			}
+		});
+		return sorted;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		String id = applicationContext != null ? applicationContext.getId() : String.valueOf(hashCode());
+		objectName = JmxUtils.register(this, "HSFStartupRecorder", "context", id);
+	}
+
+	/**
+	 * Dump the report once the context is refreshed. This listener is registered after the
+	 * {@link com.taobao.hsf.spring.config.HSFBeanInitializer}, so the deferred initializations are already recorded.
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		if (event.getApplicationContext() != applicationContext) {
+			return;
+		}
+		reported = true;
+		if (logger.isInfoEnabled()) {
+			logger.info("HSF startup: " + getBeanCount() + " beans, scan " + getScanMillis() + "ms, definitions "
+					+ getDefinitionMillis() + "ms, init " + getInitMillis() + "ms, " + getFailureCount()
+					+ " failures");
+		}
+		dumpReport();
+	}
+
+	private void dumpReport() {
+		String report = getReport();
+		if (!StringUtils.hasText(reportLocation)) {
+			logger.info("HSF startup report: " + report);
+			return;
+		}
+		try {
+			Writer writer = new OutputStreamWriter(new FileOutputStream(new File(reportLocation)), REPORT_ENCODING);
+			try {
+				writer.write(report);
+			} finally {
+				writer.close();
+			}
+		} catch (IOException ex) {
+			logger.warn("Unable to write the HSF startup report to [" + reportLocation + "]", ex);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (!reported) {
+			logger.warn("HSF startup did not complete, report: " + getReport());
+		}
+		JmxUtils.unregister(objectName);
+		objectName = null;
+	}
+
+	private static long toMillis(long nanos) {
+		return nanos / 1000000L;
+	}
+
+	private static String formatMillis(long nanos) {
+		return String.format(Locale.ENGLISH, "%.3f", nanos / 1000000.0);
+	}
+
+	private static void appendString(StringBuilder json, String value) {
+		if (value == null) {
+			json.append("null");
+			return;
+		}
+		json.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				json.append("\\\"");
+				break;
+			case '\\':
+				json.append("\\\\");
+				break;
+			case '\n':
+				json.append("\\n");
+				break;
+			case '\r':
+				json.append("\\r");
+				break;
+			case '\t':
+				json.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					json.append(String.format("\\u%04x", (int) c));
+				} else {
+					json.append(c);
+				}
+			}
+		}
+		json.append('"');
+	}
+
+	/**
+	 * The timings of a HSF bean
+	 */
+	private static class BeanRecord {
+
+		private final String beanName;
+
+		private volatile String type;
+
+		private volatile String serviceInterface;
+
+		private volatile long definitionNanos;
+
+		private volatile long initStart;
+
+		/**
+		 * -1 while the <code>init</code> is not started or not completed
+		 */
+		private volatile long initNanos = -1;
+
+		private volatile String failure;
+
+		BeanRecord(String beanName) {
+			this.beanName = beanName;
+		}
+
+		boolean isFailed() {
+			return failure != null || (initStart != 0 && initNanos < 0);
+		}
+
+		String getStatus() {
+			if (failure != null) {
+				return "failed";
+			} else if (initStart == 0) {
+				return "defined";
+			}
+			return initNanos < 0 ? "pending" : "initialized";
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.taobao.hsf.spring.monitor;
+
+/**
+ * JMX management interface of the {@link HSFStartupRecorder}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface HSFStartupRecorderMBean {
+
+	/**
+	 * @return the time in ms spent by the post processors looking for the {@link com.taobao.hsf.spring.annotation.HSF}
+	 *         and {@link com.taobao.hsf.spring.annotation.HSFExport} annotations
+	 */
+	long getScanMillis();
+
+	/**
+	 * @return the time in ms spent building the HSF bean definitions
+	 */
+	long getDefinitionMillis();
+
+	/**
+	 * @return the sum of the <code>init</code> durations in ms of all the HSF beans
+	 */
+	long getInitMillis();
+
+	/**
+	 * @return the number of the recorded HSF beans
+	 */
+	int getBeanCount();
+
+	/**
+	 * @return the number of the HSF beans whose <code>init</code> failed or never completed
+	 */
+	int getFailureCount();
+
+	/**
+	 * @return the HSF beans with the longest <code>init</code>, as <code>beanName: ms</code>
+	 */
+	String[] getSlowestBeans();
+
+	/**
+	 * @return the full report in JSON
+	 */
+	String getReport();
+}
@@ -0,0 +1,177 @@
+package com.taobao.hsf.spring.provider;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Bounds the calls in flight of an exported service with a limit adapted to its latency, and rejects the calls above
+ * the limit at once instead of queueing them.
+ * <p>
+ * The limit follows the gradient between the latency without queueing, the minimum latency of the probe window, and
+ * the latency of each call: it shrinks as the latency grows beyond the tolerance and grows by a small queue allowance
+ * while the latency stays close to the minimum. The limit does not grow while less than half of it is used. The
+ * minimum latency is measured again every probe window, so that it follows the changes of the service.
+ * <p>
+ * A call only adds a compare-and-set to acquire its permit. The samples update the limit under a lock, a sample is
+ * dropped if another thread holds it.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFConcurrencyLimiter implements MethodInterceptor, HSFConcurrencyLimiterMBean {
+
+	/**
+	 * The latency is considered unchanged below <code>TOLERANCE</code> times the minimum latency
+	 */
+	private static final double TOLERANCE = 1.5;
+
+	/**
+	 * The weight of a sample in the limit
+	 */
+	private static final double SMOOTHING = 0.2;
+
+	/**
+	 * The number of samples of a probe window
+	 */
+	private static final int PROBE_SAMPLES = 1000;
+
+	private final String serviceName;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	private final ReentrantLock sampleLock = new ReentrantLock();
+
+	/**
+	 * The limit read by the calls
+	 */
+	private volatile int limit;
+
+	/**
+	 * The limit before rounding, guarded by {@link #sampleLock}
+	 */
+	private double estimatedLimit;
+
+	/**
+	 * The minimum latency in ns, written under {@link #sampleLock}
+	 */
+	private volatile long minRtt = Long.MAX_VALUE;
+
+	/**
+	 * The minimum latency in ns of the current probe window, guarded by {@link #sampleLock}
+	 */
+	private long windowMinRtt = Long.MAX_VALUE;
+
+	/**
+	 * The number of samples of the current probe window, guarded by {@link #sampleLock}
+	 */
+	private int windowSamples;
+
+	/**
+	 * @param serviceName the name of the service
+	 * @param initialLimit the limit before the first samples
+	 * @param minLimit the minimum limit
+	 * @param maxLimit the maximum limit
+	 */
+	public HSFConcurrencyLimiter(String serviceName, int initialLimit, int minLimit, int maxLimit) {
+		if (minLimit <= 0 || maxLimit < minLimit) {
+			throw new IllegalArgumentException("Invalid concurrency limits [" + minLimit + ", " + maxLimit + "]");
+		}
+		this.serviceName = serviceName;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+		this.limit = (int) estimatedLimit;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		if (ReflectionUtils.isObjectMethod(invocation.getMethod())) {
+			return invocation.proceed();
+		}
+		int current;
+		do {
+			current = inFlight.get();
+			if (current >= limit) {
+				rejectedCount.incrementAndGet();
+				throw new RejectedExecutionException("The HSF service " + serviceName + " is overloaded: " + current
+						+ " calls in flight, limit " + limit);
+			}
+		} while (!inFlight.compareAndSet(current, current + 1));
+		long start = System.nanoTime();
+		try {
+			return invocation.proceed();
+		} finally {
+			long rtt = System.nanoTime() - start;
+			inFlight.decrementAndGet();
+			sample(rtt, current + 1);
+		}
+	}
+
+	/**
+	 * Adapt the limit to the latency of a call
+	 * 
+	 * @param rtt the latency in ns
+	 * @param sampleInFlight the calls in flight when the call started, including it
+	 */
+	private void sample(long rtt, int sampleInFlight) {
+		if (!sampleLock.tryLock()) {
+			return;
+		}
+		try {
+			windowMinRtt = Math.min(windowMinRtt, rtt);
+			if (++windowSamples >= PROBE_SAMPLES) {
+				minRtt = windowMinRtt;
+				windowMinRtt = Long.MAX_VALUE;
+				windowSamples = 0;
+			} else if (rtt < minRtt) {
+				minRtt = rtt;
+			}
+			double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * minRtt / Math.max(rtt, 1)));
+			double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+			if (newLimit > estimatedLimit && sampleInFlight < estimatedLimit / 2) {
+				// 负载没有用到一半，延迟不能说明更高的限制是否安全
+				return;
+			}
+			newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+			estimatedLimit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+			limit = (int) estimatedLimit;
+		} finally {
+			sampleLock.unlock();
+		}
+	}
+
+	@Override
+	public int getLimit() {
+		return limit;
+	}
+
+	@Override
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	@Override
+	public long getMinRttMicros() {
+		long rtt = minRtt;
+		return rtt == Long.MAX_VALUE ? -1 : TimeUnit.NANOSECONDS.toMicros(rtt);
+	}
+
+	@Override
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+}
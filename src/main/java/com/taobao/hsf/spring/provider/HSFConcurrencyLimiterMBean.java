@@ -0,0 +1,31 @@
+package com.taobao.hsf.spring.provider;
+
+/**
+ * JMX management interface of the {@link HSFConcurrencyLimiter}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface HSFConcurrencyLimiterMBean {
+
+	/**
+	 * @return the current limit of the calls in flight
+	 */
+	int getLimit();
+
+	/**
+	 * @return the number of calls in flight
+	 */
+	int getInFlight();
+
+	/**
+	 * @return the minimum latency in µs observed in the current probe window, the latency without queueing
+	 */
+	long getMinRttMicros();
+
+	/**
+	 * @return the number of calls rejected because the limit was reached
+	 */
+	long getRejectedCount();
+}
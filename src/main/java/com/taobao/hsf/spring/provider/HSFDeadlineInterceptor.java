@@ -0,0 +1,97 @@
+package com.taobao.hsf.spring.provider;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ReflectionUtils;
+
+import com.taobao.hsf.spring.timeout.HSFDeadline;
+import com.taobao.hsf.spring.timeout.HSFDeadlineExceededException;
+import com.taobao.hsf.spring.timeout.HSFDeadlinePropagator;
+import com.taobao.hsf.spring.timeout.HSFServiceTimeouts;
+
+/**
+ * Sets the {@link HSFDeadline} of the calls of an exported service in the HSF thread: the remaining time sent by the
+ * consumer with the {@link HSFDeadlinePropagator}, bounded by the timeout of the method in the
+ * {@link com.taobao.hsf.spring.timeout.HSFTimeoutRegistry} or else by the client timeout of the service. The calls
+ * whose consumer has already given up are rejected at once, and the {@link HSFIsolationInterceptor} drops the calls
+ * whose deadline passes while they wait in the queue.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFDeadlineInterceptor implements MethodInterceptor {
+
+	private final String serviceName;
+
+	/**
+	 * The client timeout in ms of the service, no deadline of its own if not positive
+	 */
+	private final long timeout;
+
+	/**
+	 * The timeouts which can be changed at runtime, might be <code>null</code>
+	 */
+	private final HSFServiceTimeouts timeouts;
+
+	/**
+	 * Might be <code>null</code>, only the timeout of the provider applies then
+	 */
+	private final HSFDeadlinePropagator propagator;
+
+	/**
+	 * The method HSF calls with the consumer IP before each call, might be <code>null</code>
+	 */
+	private final Method injectMethod;
+
+	/**
+	 * @param serviceName the name of the service
+	 * @param timeout the client timeout in ms of the service, no deadline of its own if not positive
+	 * @param timeouts the timeouts which can be changed at runtime, might be <code>null</code>
+	 * @param propagator the propagator, might be <code>null</code>
+	 * @param injectMethod the methodToInjectConsumerIp of the service interface, might be <code>null</code>
+	 */
+	public HSFDeadlineInterceptor(String serviceName, long timeout, HSFServiceTimeouts timeouts,
+			HSFDeadlinePropagator propagator, Method injectMethod) {
+		this.serviceName = serviceName;
+		this.timeout = timeout;
+		this.timeouts = timeouts;
+		this.propagator = propagator;
+		this.injectMethod = injectMethod;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Method method = invocation.getMethod();
+		if (ReflectionUtils.isObjectMethod(method) || (injectMethod != null && injectMethod.equals(method))) {
+			return invocation.proceed();
+		}
+		long remaining = propagator != null ? propagator.extract() : -1;
+		if (remaining == 0) {
+			throw new HSFDeadlineExceededException("The consumer of the call " + method.getName() + " of "
+					+ serviceName + " has already given up");
+		}
+		int dynamicTimeout = timeouts != null ? timeouts.getTimeout(method) : -1;
+		long timeout = dynamicTimeout > 0 ? dynamicTimeout : this.timeout;
+		if (timeout > 0) {
+			remaining = remaining > 0 ? Math.min(remaining, timeout) : timeout;
+		}
+		if (remaining < 0) {
+			return invocation.proceed();
+		}
+		long deadline = System.nanoTime() + remaining * 1000000L;
+		Long previous = HSFDeadline.getDeadlineNanos();
+		if (previous != null && previous - deadline < 0) {
+			// 本地调用时保留调用方更早的截止时间
+			deadline = previous;
+		}
+		HSFDeadline.setDeadlineNanos(deadline);
+		try {
+			return invocation.proceed();
+		} finally {
+			HSFDeadline.setDeadlineNanos(previous);
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package com.taobao.hsf.spring.provider;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ReflectionUtils;
+
+import com.taobao.hsf.spring.timeout.HSFDeadline;
+import com.taobao.hsf.spring.timeout.HSFDeadlineExceededException;
+import com.taobao.hsf.spring.timeout.HSFServiceTimeouts;
+
+/**
+ * Runs the calls of an exported service in its dedicated {@link HSFProviderExecutor}. The HSF thread is still held for
+ * the duration of each call, blocked waiting for its result, so the pool does not free the HSF threads: it bounds how
+ * many of them a slow service holds to its threads plus its queue, the calls exceeding them fail at once with a
+ * {@link java.util.concurrent.RejectedExecutionException} and release their HSF thread.
+ * <p>
+ * The HSF thread waits for the call at most the client timeout, the client has given up after it. The timeout of the
+ * method in the {@link com.taobao.hsf.spring.timeout.HSFTimeoutRegistry} applies instead if it is set, and the
+ * {@link HSFDeadline} of the HSF thread if it is earlier. The calls still waiting in the queue at that time are removed
+ * from it, and the calls whose time has passed when a thread takes them are dropped without calling the service.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFIsolationInterceptor implements MethodInterceptor {
+
+	private final HSFProviderExecutor executor;
+
+	private final String serviceName;
+
+	/**
+	 * The maximum time in ms the HSF thread waits for a call, without limit if not positive
+	 */
+	private final long timeout;
+
+	/**
+	 * The timeouts which can be changed at runtime, might be <code>null</code>
+	 */
+	private final HSFServiceTimeouts timeouts;
+
+	/**
+	 * The method HSF calls with the consumer IP before each call, invoked again in the executor thread, might be
+	 * <code>null</code>
+	 */
+	private final Method injectMethod;
+
+	/**
+	 * The consumer IP injected by HSF in its thread, <code>null</code> if there is no inject method
+	 */
+	private final ThreadLocal<Object> consumerIp;
+
+	/**
+	 * @param executor the dedicated executor of the service
+	 * @param serviceName the name of the service
+	 * @param timeout the maximum time in ms the HSF thread waits for a call, without limit if not positive
+	 * @param timeouts the timeouts which can be changed at runtime, might be <code>null</code>
+	 * @param injectMethod the methodToInjectConsumerIp of the service interface, might be <code>null</code>
+	 */
+	public HSFIsolationInterceptor(HSFProviderExecutor executor, String serviceName, long timeout,
+			HSFServiceTimeouts timeouts, Method injectMethod) {
+		this.executor = executor;
+		this.serviceName = serviceName;
+		this.timeout = timeout;
+		this.timeouts = timeouts;
+		this.injectMethod = injectMethod;
+		this.consumerIp = injectMethod != null ? new ThreadLocal<Object>() : null;
+	}
+
+	@Override
+	public Object invoke(final MethodInvocation invocation) throws Throwable {
+		if (ReflectionUtils.isObjectMethod(invocation.getMethod())) {
+			return invocation.proceed();
+		}
+		if (injectMethod != null && injectMethod.equals(invocation.getMethod())) {
+			consumerIp.set(invocation.getArguments()[0]);
+			return invocation.proceed();
+		}
+		Object ip = consumerIp != null ? consumerIp.get() : null;
+		try {
+			return invokeInExecutor(invocation, ip);
+		} finally {
+			if (consumerIp != null) {
+				// HSF在每次调用前重新注入，不把上一次调用的IP留在HSF线程中
+				consumerIp.remove();
+			}
+		}
+	}
+
+	private Object invokeInExecutor(final MethodInvocation invocation, final Object ip) throws Throwable {
+		int dynamicTimeout = timeouts != null ? timeouts.getTimeout(invocation.getMethod()) : -1;
+		long timeout = dynamicTimeout > 0 ? dynamicTimeout : this.timeout;
+		long now = System.nanoTime();
+		final Long inboundDeadline = HSFDeadline.getDeadlineNanos();
+		Long deadline = timeout > 0 ? Long.valueOf(now + timeout * 1000000L) : null;
+		if (inboundDeadline != null && (deadline == null || inboundDeadline - deadline < 0)) {
+			deadline = inboundDeadline;
+			timeout = Math.max(0, (inboundDeadline - now + 999999) / 1000000);
+		}
+		if (deadline != null && deadline - now <= 0) {
+			throw new HSFDeadlineExceededException("The deadline of the call " + invocation.getMethod().getName()
+					+ " of " + serviceName + " has passed");
+		}
+		final Long expiration = deadline;
+		Future<Object> future = executor.submit(new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+				if (expiration != null && expiration - System.nanoTime() <= 0) {
+					// 在队列中等待时调用方已经放弃了这次调用
+					executor.recordExpired();
+					throw new HSFDeadlineExceededException("The call " + invocation.getMethod().getName() + " of "
+							+ serviceName + " expired in the queue");
+				}
+				if (injectMethod != null) {
+					ReflectionUtils.invokeMethod(injectMethod, invocation.getThis(), ip);
+				}
+				Long previous = HSFDeadline.setDeadlineNanos(inboundDeadline);
+				try {
+					return invocation.proceed();
+				} catch (Exception ex) {
+					throw ex;
+				} catch (Error err) {
+					throw err;
+				} catch (Throwable ex) {
+					throw new UndeclaredThrowableException(ex);
+				} finally {
+					HSFDeadline.setDeadlineNanos(previous);
+				}
+			}
+		});
+		try {
+			return deadline != null ? future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS) : future.get();
+		} catch (ExecutionException ex) {
+			throw ex.getCause();
+		} catch (TimeoutException ex) {
+			future.cancel(true);
+			// 取消的调用不会再执行，从队列中移除以便接收新的调用
+			executor.remove((Runnable) future);
+			executor.recordTimeout();
+			throw new HSFDeadlineExceededException("The call " + invocation.getMethod().getName() + " of "
+					+ serviceName + " did not complete within " + timeout + "ms");
+		} catch (InterruptedException ex) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new HSFDeadlineExceededException("Interrupted while waiting for the call "
+					+ invocation.getMethod().getName() + " of " + serviceName);
+		}
+	}
+}
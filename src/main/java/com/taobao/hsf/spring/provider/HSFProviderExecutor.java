@@ -0,0 +1,106 @@
+package com.taobao.hsf.spring.provider;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * The dedicated thread pool of an exported service, counting its rejected, timed out and expired calls. The calls
+ * exceeding the threads and the queue are rejected at once, they never run in the HSF thread.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFProviderExecutor extends ThreadPoolExecutor implements HSFProviderExecutorMBean {
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private final String serviceName;
+
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	private final AtomicLong timeoutCount = new AtomicLong();
+
+	private final AtomicLong expiredCount = new AtomicLong();
+
+	/**
+	 * @param serviceName the name of the service, used to name the threads
+	 * @param corePoolSize the core number of threads
+	 * @param maxPoolSize the maximum number of threads
+	 * @param queueCapacity the capacity of the queue, no queue if <code>0</code>
+	 */
+	public HSFProviderExecutor(String serviceName, int corePoolSize, int maxPoolSize, int queueCapacity) {
+		super(corePoolSize, maxPoolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, createQueue(queueCapacity),
+				new CustomizableThreadFactory("HSF-" + serviceName + "-"));
+		this.serviceName = serviceName;
+		setRejectedExecutionHandler(new RejectingPolicy());
+	}
+
+	private static BlockingQueue<Runnable> createQueue(int queueCapacity) {
+		return queueCapacity > 0 ? new ArrayBlockingQueue<Runnable>(queueCapacity) : new SynchronousQueue<Runnable>();
+	}
+
+	/**
+	 * Count a call abandoned after the client timeout
+	 */
+	void recordTimeout() {
+		timeoutCount.incrementAndGet();
+	}
+
+	/**
+	 * Count a call dropped because its deadline passed while it waited in the queue
+	 */
+	void recordExpired() {
+		expiredCount.incrementAndGet();
+	}
+
+	@Override
+	public int getQueueSize() {
+		return getQueue().size();
+	}
+
+	@Override
+	public int getQueueRemainingCapacity() {
+		return getQueue().remainingCapacity();
+	}
+
+	@Override
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	@Override
+	public long getTimeoutCount() {
+		return timeoutCount.get();
+	}
+
+	@Override
+	public long getExpiredCount() {
+		return expiredCount.get();
+	}
+
+	/**
+	 * Count the rejections and fail them at once, the HSF thread returns the failure to the consumer
+	 */
+	private class RejectingPolicy implements RejectedExecutionHandler {
+
+		@Override
+		public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+			rejectedCount.incrementAndGet();
+			if (executor.isShutdown()) {
+				throw new RejectedExecutionException("The executor of the HSF service " + serviceName
+						+ " is shut down");
+			}
+			throw new RejectedExecutionException("The threads and the queue of the HSF service " + serviceName
+					+ " are full");
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.taobao.hsf.spring.provider;
+
+/**
+ * JMX management interface of the {@link HSFProviderExecutor}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface HSFProviderExecutorMBean {
+
+	/**
+	 * @return the core number of threads
+	 */
+	int getCorePoolSize();
+
+	/**
+	 * @return the maximum number of threads
+	 */
+	int getMaximumPoolSize();
+
+	/**
+	 * @return the current number of threads
+	 */
+	int getPoolSize();
+
+	/**
+	 * @return the number of threads executing a call
+	 */
+	int getActiveCount();
+
+	/**
+	 * @return the number of calls waiting in the queue
+	 */
+	int getQueueSize();
+
+	/**
+	 * @return the number of calls the queue can still accept
+	 */
+	int getQueueRemainingCapacity();
+
+	/**
+	 * @return the number of completed calls
+	 */
+	long getCompletedTaskCount();
+
+	/**
+	 * @return the number of calls rejected because the threads and the queue were full
+	 */
+	long getRejectedCount();
+
+	/**
+	 * @return the number of calls abandoned because they did not complete within the client timeout
+	 */
+	long getTimeoutCount();
+
+	/**
+	 * @return the number of calls dropped without calling the service because their deadline passed in the queue
+	 */
+	long getExpiredCount();
+}
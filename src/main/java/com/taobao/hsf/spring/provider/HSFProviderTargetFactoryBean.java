@@ -0,0 +1,250 @@
+package com.taobao.hsf.spring.provider;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import com.taobao.hsf.spring.monitor.HSFLatencyMonitor;
+import com.taobao.hsf.spring.timeout.HSFDeadline;
+import com.taobao.hsf.spring.timeout.HSFDeadlinePropagators;
+import com.taobao.hsf.spring.timeout.HSFServiceTimeouts;
+import com.taobao.hsf.spring.timeout.HSFTimeoutRegistry;
+import com.taobao.hsf.spring.util.JmxUtils;
+
+/**
+ * Wraps the target of a HSFSpringProviderBean in a proxy of its service interface applying, in this order:
+ * <ul>
+ * <li>the latency histograms of the {@link HSFLatencyMonitor} if it is set, including the rejected calls</li>
+ * <li>the {@link HSFDeadlineInterceptor} if <code>deadlinePropagation</code> is set, rejecting the calls whose
+ * consumer has already given up and exposing the deadline of the others as the {@link HSFDeadline}</li>
+ * <li>the {@link HSFConcurrencyLimiter} of the service if <code>adaptiveConcurrency</code> is set, exposed as the MBean
+ * <code>com.taobao.hsf.spring:type=HSFConcurrencyLimiter,service=&lt;name&gt;</code></li>
+ * <li>the {@link HSFIsolationInterceptor} running the calls in the dedicated {@link HSFProviderExecutor} of the service
+ * if <code>corePoolSize</code> is positive, exposed as the MBean
+ * <code>com.taobao.hsf.spring:type=HSFProviderExecutor,service=&lt;name&gt;</code></li>
+ * </ul>
+ * The target is published as is, with a warning, if its <code>methodToInjectConsumerIp</code> is not declared by the
+ * service interface: the proxy only implements the service interface, so HSF could not call the method on it.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HSFProviderTargetFactoryBean implements FactoryBean<Object>, BeanClassLoaderAware, InitializingBean,
+		DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(HSFProviderTargetFactoryBean.class);
+
+	private Object target;
+
+	private Class<?> serviceInterface;
+
+	private String serviceName;
+
+	private String serviceVersion;
+
+	private int corePoolSize;
+
+	private int maxPoolSize;
+
+	private int queueCapacity;
+
+	/**
+	 * The maximum time in ms the HSF thread waits for a call in the dedicated executor, and the deadline of the calls
+	 * if <code>deadlinePropagation</code> is set, without limit if not positive
+	 */
+	private long timeout;
+
+	/**
+	 * The method HSF calls with the consumer IP before each call
+	 */
+	private String methodToInjectConsumerIp;
+
+	private boolean adaptiveConcurrency;
+
+	private int initialConcurrency = 20;
+
+	private int minConcurrency = 1;
+
+	private int maxConcurrency = 1000;
+
+	private HSFLatencyMonitor latencyMonitor;
+
+	/**
+	 * The timeouts which can be changed at runtime, might be <code>null</code>
+	 */
+	private HSFTimeoutRegistry timeoutRegistry;
+
+	/**
+	 * Set the {@link HSFDeadline} of the calls from the remaining time sent by the consumers and the client timeout
+	 */
+	private boolean deadlinePropagation;
+
+	private ClassLoader beanClassLoader = ClassUtils.getDefaultClassLoader();
+
+	private HSFProviderExecutor executor;
+
+	private Object proxy;
+
+	private final List<ObjectName> objectNames = new ArrayList<ObjectName>();
+
+	public void setTarget(Object target) {
+		this.target = target;
+	}
+
+	public void setServiceInterface(Class<?> serviceInterface) {
+		this.serviceInterface = serviceInterface;
+	}
+
+	public void setServiceName(String serviceName) {
+		this.serviceName = serviceName;
+	}
+
+	public void setServiceVersion(String serviceVersion) {
+		this.serviceVersion = serviceVersion;
+	}
+
+	public void setCorePoolSize(int corePoolSize) {
+		this.corePoolSize = corePoolSize;
+	}
+
+	public void setMaxPoolSize(int maxPoolSize) {
+		this.maxPoolSize = maxPoolSize;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+	}
+
+	public void setMethodToInjectConsumerIp(String methodToInjectConsumerIp) {
+		this.methodToInjectConsumerIp = methodToInjectConsumerIp;
+	}
+
+	public void setAdaptiveConcurrency(boolean adaptiveConcurrency) {
+		this.adaptiveConcurrency = adaptiveConcurrency;
+	}
+
+	public void setInitialConcurrency(int initialConcurrency) {
+		this.initialConcurrency = initialConcurrency;
+	}
+
+	public void setMinConcurrency(int minConcurrency) {
+		this.minConcurrency = minConcurrency;
+	}
+
+	public void setMaxConcurrency(int maxConcurrency) {
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	public void setLatencyMonitor(HSFLatencyMonitor latencyMonitor) {
+		this.latencyMonitor = latencyMonitor;
+	}
+
+	public void setTimeoutRegistry(HSFTimeoutRegistry timeoutRegistry) {
+		this.timeoutRegistry = timeoutRegistry;
+	}
+
+	public void setDeadlinePropagation(boolean deadlinePropagation) {
+		this.deadlinePropagation = deadlinePropagation;
+	}
+
+	@Override
+	public void setBeanClassLoader(ClassLoader classLoader) {
+		this.beanClassLoader = classLoader;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		Assert.notNull(target, "target is required");
+		Assert.notNull(serviceInterface, "serviceInterface is required");
+		Method injectMethod = null;
+		if (StringUtils.hasText(methodToInjectConsumerIp)) {
+			// HSF在调用线程中注入调用端IP，代理只实现服务接口，所以该方法必须在服务接口中声明
+			injectMethod = ReflectionUtils.findMethod(serviceInterface, methodToInjectConsumerIp, String.class);
+			if (injectMethod == null) {
+				logger.warn("The methodToInjectConsumerIp " + methodToInjectConsumerIp + "(String) of " + serviceName
+						+ " is not declared by " + serviceInterface.getName() + ", its calls are not monitored, "
+						+ "limited, isolated nor given a deadline");
+				proxy = target;
+				return;
+			}
+		}
+		HSFServiceTimeouts timeouts = timeoutRegistry != null ? new HSFServiceTimeouts(timeoutRegistry,
+				serviceInterface.getName(), serviceVersion) : null;
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.setInterfaces(new Class<?>[] { serviceInterface });
+		if (latencyMonitor != null) {
+			proxyFactory.addAdvice(latencyMonitor.createInterceptor(HSFLatencyMonitor.PROVIDER, serviceName,
+					serviceInterface));
+		}
+		if (deadlinePropagation) {
+			// 调用方已经放弃的调用在占用并发和线程之前拒绝
+			proxyFactory.addAdvice(new HSFDeadlineInterceptor(serviceName, timeout, timeouts, HSFDeadlinePropagators
+					.getPropagator(), injectMethod));
+		}
+		if (adaptiveConcurrency) {
+			HSFConcurrencyLimiter limiter = new HSFConcurrencyLimiter(serviceName, initialConcurrency, minConcurrency,
+					maxConcurrency);
+			proxyFactory.addAdvice(limiter);
+			registerMBean(limiter, "HSFConcurrencyLimiter");
+		}
+		if (corePoolSize > 0) {
+			executor = new HSFProviderExecutor(serviceName, corePoolSize, Math.max(corePoolSize, maxPoolSize),
+					queueCapacity);
+			proxyFactory.addAdvice(new HSFIsolationInterceptor(executor, serviceName, timeout, timeouts, injectMethod));
+			registerMBean(executor, "HSFProviderExecutor");
+		}
+		proxy = proxyFactory.getProxy(beanClassLoader);
+	}
+
+	private void registerMBean(Object mbean, String type) {
+		ObjectName objectName = JmxUtils.register(mbean, type, "service", serviceName);
+		if (objectName != null) {
+			objectNames.add(objectName);
+		}
+	}
+
+	@Override
+	public Object getObject() {
+		return proxy;
+	}
+
+	@Override
+	public Class<?> getObjectType() {
+		return serviceInterface;
+	}
+
+	@Override
+	public boolean isSingleton() {
+		return true;
+	}
+
+	@Override
+	public void destroy() {
+		for (ObjectName objectName : objectNames) {
+			JmxUtils.unregister(objectName);
+		}
+		objectNames.clear();
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+}
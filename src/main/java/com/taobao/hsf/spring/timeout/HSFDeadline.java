@@ -0,0 +1,80 @@
+package com.taobao.hsf.spring.timeout;
+
+/**
+ * The deadline of the HSF call handled by the current thread. The providers set it from the remaining time sent by the
+ * consumer and from their own timeout, so that the business code can give up the work the consumer no longer waits
+ * for, and the calls the business code makes to other services inherit it: they fail at once when it has passed and
+ * send the remaining time otherwise.
+ * <p>
+ * The deadline is a {@link System#nanoTime()} value, so it is not affected by the changes of the system clock.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFDeadline {
+
+	private static final ThreadLocal<Long> deadline = new ThreadLocal<Long>();
+
+	/**
+	 * @return <code>true</code> if the current thread has a deadline
+	 */
+	public static boolean hasDeadline() {
+		return deadline.get() != null;
+	}
+
+	/**
+	 * @return the remaining time in ms before the deadline, 0 if it has passed, {@link Long#MAX_VALUE} if the current
+	 *         thread has no deadline
+	 */
+	public static long getRemainingMillis() {
+		Long deadlineNanos = deadline.get();
+		if (deadlineNanos == null) {
+			return Long.MAX_VALUE;
+		}
+		long remainingNanos = deadlineNanos - System.nanoTime();
+		return remainingNanos > 0 ? (remainingNanos + 999999) / 1000000 : 0;
+	}
+
+	/**
+	 * @return <code>true</code> if the deadline of the current thread has passed
+	 */
+	public static boolean isExpired() {
+		Long deadlineNanos = deadline.get();
+		return deadlineNanos != null && deadlineNanos - System.nanoTime() <= 0;
+	}
+
+	/**
+	 * @return the deadline of the current thread as a {@link System#nanoTime()} value, <code>null</code> if none
+	 */
+	public static Long getDeadlineNanos() {
+		return deadline.get();
+	}
+
+	/**
+	 * Set the deadline of the current thread, the previous one has to be restored once the call is handled
+	 *
+	 * @param deadlineNanos the deadline as a {@link System#nanoTime()} value, <code>null</code> to remove it
+	 * @return the previous deadline, <code>null</code> if none
+	 */
+	public static Long setDeadlineNanos(Long deadlineNanos) {
+		Long previous = deadline.get();
+		if (deadlineNanos != null) {
+			deadline.set(deadlineNanos);
+		} else {
+			deadline.remove();
+		}
+		return previous;
+	}
+
+	/**
+	 * Set the deadline of the current thread in the given time, for instance to bound the calls made by a task, the
+	 * previous one has to be restored once they are done
+	 *
+	 * @param remainingMillis the time in ms before the deadline
+	 * @return the previous deadline, <code>null</code> if none
+	 */
+	public static Long setRemainingMillis(long remainingMillis) {
+		return setDeadlineNanos(System.nanoTime() + remainingMillis * 1000000L);
+	}
+}
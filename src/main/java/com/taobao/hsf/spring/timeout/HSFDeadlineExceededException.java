@@ -0,0 +1,18 @@
+package com.taobao.hsf.spring.timeout;
+
+/**
+ * Thrown by the calls rejected or abandoned because their {@link HSFDeadline} or their timeout has passed, the caller
+ * has already given up on them
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFDeadlineExceededException extends RuntimeException {
+
+	private static final long serialVersionUID = -4427180139207648913L;
+
+	public HSFDeadlineExceededException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,30 @@
+package com.taobao.hsf.spring.timeout;
+
+/**
+ * Carries the remaining time of the calls from the consumers to the providers, for instance in the request context of
+ * the RPC framework. The implementation is registered in
+ * <code>META-INF/services/com.taobao.hsf.spring.timeout.HSFDeadlinePropagator</code>. The time is sent relative to
+ * the call, so that the clocks of the consumer and of the provider do not need to be synchronized.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface HSFDeadlinePropagator {
+
+	/**
+	 * Attach the remaining time to the next HSF call of the current thread, called by the consumers just before the
+	 * call
+	 *
+	 * @param remainingMillis the remaining time in ms, positive
+	 */
+	void attach(long remainingMillis);
+
+	/**
+	 * Get the remaining time received with the HSF call handled by the current thread, called by the providers in the
+	 * HSF thread
+	 *
+	 * @return the remaining time in ms, negative if the consumer did not send it
+	 */
+	long extract();
+}
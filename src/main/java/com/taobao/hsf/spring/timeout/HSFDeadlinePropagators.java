@@ -0,0 +1,57 @@
+package com.taobao.hsf.spring.timeout;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Loads the {@link HSFDeadlinePropagator} listed in
+ * <code>META-INF/services/com.taobao.hsf.spring.timeout.HSFDeadlinePropagator</code>, the first one is used
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFDeadlinePropagators {
+
+	private static final Log logger = LogFactory.getLog(HSFDeadlinePropagators.class);
+
+	private static boolean loaded;
+
+	private static HSFDeadlinePropagator propagator;
+
+	/**
+	 * @return the registered propagator, <code>null</code> if none is registered: the deadlines then only apply in
+	 *         the JVM which set them
+	 */
+	public static synchronized HSFDeadlinePropagator getPropagator() {
+		if (!loaded) {
+			propagator = load();
+			loaded = true;
+		}
+		return propagator;
+	}
+
+	private static HSFDeadlinePropagator load() {
+		ClassLoader classLoader = HSFDeadlinePropagators.class.getClassLoader();
+		Iterator<HSFDeadlinePropagator> iterator = ServiceLoader.load(HSFDeadlinePropagator.class, classLoader)
+				.iterator();
+		while (true) {
+			try {
+				if (!iterator.hasNext()) {
+					break;
+				}
+				HSFDeadlinePropagator loadedPropagator = iterator.next();
+				logger.info("Propagating the HSF deadlines with " + loadedPropagator.getClass().getName());
+				return loadedPropagator;
+			} catch (ServiceConfigurationError ex) {
+				logger.warn("Unable to load a HSFDeadlinePropagator", ex);
+			}
+		}
+		logger.info("No HSFDeadlinePropagator registered, the HSF deadlines are not sent with the calls");
+		return null;
+	}
+}
@@ -0,0 +1,88 @@
+package com.taobao.hsf.spring.timeout;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * The timeouts of the methods of a service in the {@link HSFTimeoutRegistry}. The timeout of each method is looked up
+ * once per change of the registry, the other calls only compare the current timeouts of the registry with the ones
+ * the cached timeout was looked up in.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFServiceTimeouts {
+
+	private final HSFTimeoutRegistry registry;
+
+	private final String interfaceName;
+
+	private final String version;
+
+	private final ConcurrentMap<Method, ResolvedTimeout> resolved = new ConcurrentHashMap<Method, ResolvedTimeout>();
+
+	/**
+	 * @param registry the registry
+	 * @param interfaceName the service interface name
+	 * @param version the service version, 1.0.0 if empty
+	 */
+	public HSFServiceTimeouts(HSFTimeoutRegistry registry, String interfaceName, String version) {
+		this.registry = registry;
+		this.interfaceName = interfaceName;
+		this.version = StringUtils.hasText(version) ? version.trim() : "1.0.0";
+	}
+
+	/**
+	 * @param method the called method
+	 * @return the timeout in ms of the method, -1 if it is not set
+	 */
+	public int getTimeout(Method method) {
+		Map<String, Integer> timeouts = registry.getTimeoutMap();
+		ResolvedTimeout resolvedTimeout = resolved.get(method);
+		if (resolvedTimeout == null || resolvedTimeout.timeouts != timeouts) {
+			resolvedTimeout = new ResolvedTimeout(timeouts, lookup(timeouts, method.getName()));
+			resolved.put(method, resolvedTimeout);
+		}
+		return resolvedTimeout.timeout;
+	}
+
+	/**
+	 * @return the timeout of the most specific key, -1 if none is set
+	 */
+	private int lookup(Map<String, Integer> timeouts, String methodName) {
+		if (timeouts.isEmpty()) {
+			return -1;
+		}
+		Integer timeout = timeouts.get(HSFTimeoutRegistry.getKey(interfaceName, version, methodName));
+		if (timeout == null) {
+			timeout = timeouts.get(HSFTimeoutRegistry.getKey(interfaceName, null, methodName));
+		}
+		if (timeout == null) {
+			timeout = timeouts.get(HSFTimeoutRegistry.getKey(interfaceName, version, null));
+		}
+		if (timeout == null) {
+			timeout = timeouts.get(interfaceName);
+		}
+		return timeout != null ? timeout : -1;
+	}
+
+	/**
+	 * The timeout of a method, with the registry timeouts it was looked up in
+	 */
+	private static class ResolvedTimeout {
+
+		private final Map<String, Integer> timeouts;
+
+		private final int timeout;
+
+		ResolvedTimeout(Map<String, Integer> timeouts, int timeout) {
+			this.timeouts = timeouts;
+			this.timeout = timeout;
+		}
+	}
+}
@@ -0,0 +1,290 @@
+package com.taobao.hsf.spring.timeout;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+import com.taobao.hsf.spring.util.JmxUtils;
+
+/**
+ * Holds the timeouts of the HSF services and methods which can be changed without a restart, read from a watched
+ * properties file and set through the MBean
+ * <code>com.taobao.hsf.spring:type=HSFTimeoutRegistry,context=&lt;id&gt;</code>. Each line of the file is a
+ * <code>key=ms</code>, the key is <code>interface[:version][#method]</code>, for instance:
+ *
+ * <pre>
+ * com.foo.ItemService=800
+ * com.foo.ItemService:1.0.0#getItem=200
+ * </pre>
+ *
+ * The most specific key applies. The timeouts set through JMX override the ones of the file until they are removed, an
+ * invalid file is ignored as a whole. The timeouts are replaced all together on each change, the calls read them
+ * through a single volatile read, see {@link HSFServiceTimeouts}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFTimeoutRegistry implements HSFTimeoutRegistryMBean, ApplicationContextAware, InitializingBean,
+		DisposableBean {
+
+	private static final String CONFIG_ENCODING = "UTF-8";
+
+	private static final Log logger = LogFactory.getLog(HSFTimeoutRegistry.class);
+
+	/**
+	 * The properties file, the timeouts are only set through JMX if it is not set
+	 */
+	private String location;
+
+	/**
+	 * The interval in ms between two checks of the properties file, the file is not watched if not positive
+	 */
+	private long refreshInterval = 5000;
+
+	private ApplicationContext applicationContext;
+
+	private File file;
+
+	/**
+	 * The last modification time and length of the file, guarded by <code>this</code>
+	 */
+	private long lastModified;
+
+	private long lastLength;
+
+	/**
+	 * key -> timeout read from the file, guarded by <code>this</code>
+	 */
+	private Map<String, Integer> fileTimeouts = Collections.emptyMap();
+
+	/**
+	 * key -> timeout set through JMX, guarded by <code>this</code>
+	 */
+	private final Map<String, Integer> overrides = new HashMap<String, Integer>();
+
+	/**
+	 * The effective timeouts, replaced as a whole on each change
+	 */
+	private volatile Map<String, Integer> timeouts = Collections.emptyMap();
+
+	private ScheduledExecutorService watcher;
+
+	private ObjectName objectName;
+
+	public void setLocation(String location) {
+		this.location = location;
+	}
+
+	public void setRefreshInterval(long refreshInterval) {
+		this.refreshInterval = refreshInterval;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * @param interfaceName the service interface name
+	 * @param version the service version, might be <code>null</code>
+	 * @param methodName the method name, might be <code>null</code>
+	 * @return the key of the timeout of the service or of the method
+	 */
+	public static String getKey(String interfaceName, String version, String methodName) {
+		StringBuilder key = new StringBuilder(interfaceName);
+		if (StringUtils.hasText(version)) {
+			key.append(':').append(version);
+		}
+		if (StringUtils.hasText(methodName)) {
+			key.append('#').append(methodName);
+		}
+		return key.toString();
+	}
+
+	/**
+	 * @return the effective timeouts, key -> ms
+	 */
+	Map<String, Integer> getTimeoutMap() {
+		return timeouts;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws IOException {
+		if (StringUtils.hasText(location)) {
+			file = ResourceUtils.getFile(location);
+			reload();
+			if (refreshInterval > 0) {
+				CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("HSF-timeout-watcher-");
+				threadFactory.setDaemon(true);
+				watcher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+				watcher.scheduleWithFixedDelay(new Runnable() {
+
+					@Override
+					public void run() {
+						if (isModified()) {
+							reload();
+						}
+					}
+				}, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+			}
+		}
+		String id = applicationContext != null ? applicationContext.getId() : String.valueOf(hashCode());
+		objectName = JmxUtils.register(this, "HSFTimeoutRegistry", "context", id);
+	}
+
+	private synchronized boolean isModified() {
+		return file.lastModified() != lastModified || file.length() != lastLength;
+	}
+
+	@Override
+	public String getLocation() {
+		return file != null ? file.getAbsolutePath() : null;
+	}
+
+	@Override
+	public String[] getTimeouts() {
+		Map<String, Integer> sorted = new TreeMap<String, Integer>(timeouts);
+		String[] result = new String[sorted.size()];
+		int i = 0;
+		for (Map.Entry<String, Integer> entry : sorted.entrySet()) {
+			result[i++] = entry.getKey() + '=' + entry.getValue();
+		}
+		return result;
+	}
+
+	@Override
+	public synchronized void setTimeout(String key, int timeout) {
+		String checkedKey = checkKey(key);
+		if (timeout <= 0) {
+			throw new IllegalArgumentException("The timeout of " + checkedKey + " must be positive: " + timeout);
+		}
+		overrides.put(checkedKey, timeout);
+		publish();
+		logger.info("Set the HSF timeout " + checkedKey + "=" + timeout + "ms");
+	}
+
+	@Override
+	public synchronized boolean removeTimeout(String key) {
+		if (overrides.remove(key != null ? key.trim() : null) == null) {
+			return false;
+		}
+		publish();
+		logger.info("Removed the HSF timeout " + key.trim());
+		return true;
+	}
+
+	@Override
+	public synchronized boolean reload() {
+		if (file == null) {
+			return false;
+		}
+		long modified = file.lastModified();
+		long length = file.length();
+		try {
+			fileTimeouts = file.exists() ? read(file) : Collections.<String, Integer> emptyMap();
+		} catch (IOException ex) {
+			logger.warn("Unable to read the HSF timeouts from " + file + ", keeping the previous ones", ex);
+			return false;
+		} catch (IllegalArgumentException ex) {
+			logger.warn("Invalid HSF timeouts in " + file + ", keeping the previous ones: " + ex.getMessage());
+			return false;
+		} finally {
+			// 无效的文件修改之后再重新读取
+			lastModified = modified;
+			lastLength = length;
+		}
+		publish();
+		logger.info("Read " + fileTimeouts.size() + " HSF timeouts from " + file);
+		return true;
+	}
+
+	private void publish() {
+		Map<String, Integer> merged = new HashMap<String, Integer>(fileTimeouts);
+		merged.putAll(overrides);
+		timeouts = Collections.unmodifiableMap(merged);
+	}
+
+	private static Map<String, Integer> read(File file) throws IOException {
+		Map<String, Integer> result = new HashMap<String, Integer>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), CONFIG_ENCODING));
+		try {
+			int lineNumber = 0;
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				lineNumber++;
+				line = line.trim();
+				if (line.length() == 0 || line.startsWith("#")) {
+					continue;
+				}
+				int separator = line.lastIndexOf('=');
+				if (separator < 0) {
+					throw new IllegalArgumentException("line " + lineNumber + " is not a key=ms: " + line);
+				}
+				String key = checkKey(line.substring(0, separator));
+				try {
+					int timeout = Integer.parseInt(line.substring(separator + 1).trim());
+					if (timeout <= 0) {
+						throw new IllegalArgumentException("line " + lineNumber + " has a non positive timeout: "
+								+ line);
+					}
+					result.put(key, timeout);
+				} catch (NumberFormatException ex) {
+					throw new IllegalArgumentException("line " + lineNumber + " has an invalid timeout: " + line);
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+	/**
+	 * @param key <code>interface[:version][#method]</code>
+	 * @return the trimmed key
+	 * @throws IllegalArgumentException if the key is invalid
+	 */
+	private static String checkKey(String key) {
+		String trimmed = key != null ? key.trim() : "";
+		int methodStart = trimmed.indexOf('#');
+		String service = methodStart >= 0 ? trimmed.substring(0, methodStart) : trimmed;
+		String method = methodStart >= 0 ? trimmed.substring(methodStart + 1) : null;
+		int versionStart = service.indexOf(':');
+		if (service.length() == 0 || versionStart == 0 || versionStart == service.length() - 1
+				|| (method != null && (method.length() == 0 || method.indexOf(':') >= 0 || method.indexOf('#') >= 0))
+				|| StringUtils.containsWhitespace(trimmed)) {
+			throw new IllegalArgumentException("Invalid timeout key " + key
+					+ ", expected interface[:version][#method]");
+		}
+		return trimmed;
+	}
+
+	@Override
+	public void destroy() {
+		if (watcher != null) {
+			watcher.shutdownNow();
+		}
+		JmxUtils.unregister(objectName);
+		objectName = null;
+	}
+}
@@ -0,0 +1,44 @@
+package com.taobao.hsf.spring.timeout;
+
+/**
+ * JMX management interface of the {@link HSFTimeoutRegistry}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface HSFTimeoutRegistryMBean {
+
+	/**
+	 * @return the watched properties file, <code>null</code> if the timeouts are only set through JMX
+	 */
+	String getLocation();
+
+	/**
+	 * @return the effective timeouts, as <code>key=ms</code>
+	 */
+	String[] getTimeouts();
+
+	/**
+	 * Set a timeout, overriding the one of the properties file until it is removed
+	 *
+	 * @param key <code>interface[:version][#method]</code>
+	 * @param timeout the timeout in ms
+	 */
+	void setTimeout(String key, int timeout);
+
+	/**
+	 * Remove a timeout set through JMX, the one of the properties file applies again
+	 *
+	 * @param key <code>interface[:version][#method]</code>
+	 * @return <code>true</code> if the timeout was set through JMX
+	 */
+	boolean removeTimeout(String key);
+
+	/**
+	 * Read the properties file again
+	 *
+	 * @return <code>true</code> if the file is read, the previous timeouts are kept if it is invalid
+	 */
+	boolean reload();
+}
@@ -0,0 +1,85 @@
+package com.taobao.hsf.spring.util;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.type.AnnotationMetadata;
+
+/**
+ * Typed access to annotation attributes read either by reflection or from the class file through
+ * {@link AnnotationMetadata}, falling back to the attribute default value when it is absent
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class AnnotationAttributesUtils {
+
+	/**
+	 * Get a string attribute, class values are returned as class names and enum values as their names
+	 *
+	 * @param attributes the annotation attributes
+	 * @param annotationType the annotation type, to lookup the default value
+	 * @param name the attribute name
+	 * @return the attribute value
+	 */
+	public static String getString(Map<String, Object> attributes, Class<? extends Annotation> annotationType,
+			String name) {
+		Object value = getValue(attributes, annotationType, name);
+		if (value instanceof Class<?>) {
+			return ((Class<?>) value).getName();
+		} else if (value instanceof Enum<?>) {
+			return ((Enum<?>) value).name();
+		}
+		return value != null ? value.toString() : null;
+	}
+
+	/**
+	 * Get an int attribute
+	 *
+	 * @param attributes the annotation attributes
+	 * @param annotationType the annotation type, to lookup the default value
+	 * @param name the attribute name
+	 * @return the attribute value
+	 */
+	public static int getInt(Map<String, Object> attributes, Class<? extends Annotation> annotationType, String name) {
+		return ((Number) getValue(attributes, annotationType, name)).intValue();
+	}
+
+	/**
+	 * Get a boolean attribute
+	 *
+	 * @param attributes the annotation attributes
+	 * @param annotationType the annotation type, to lookup the default value
+	 * @param name the attribute name
+	 * @return the attribute value
+	 */
+	public static boolean getBoolean(Map<String, Object> attributes, Class<? extends Annotation> annotationType,
+			String name) {
+		return (Boolean) getValue(attributes, annotationType, name);
+	}
+
+	/**
+	 * Get a string array attribute
+	 *
+	 * @param attributes the annotation attributes
+	 * @param annotationType the annotation type, to lookup the default value
+	 * @param name the attribute name
+	 * @return the attribute value
+	 */
+	public static String[] getStringArray(Map<String, Object> attributes, Class<? extends Annotation> annotationType,
+			String name) {
+		Object value = getValue(attributes, annotationType, name);
+		if (value instanceof String) {
+			return new String[] { (String) value };
+		}
+		return (String[]) value;
+	}
+
+	private static Object getValue(Map<String, Object> attributes, Class<? extends Annotation> annotationType,
+			String name) {
+		Object value = attributes.get(name);
+		return value != null ? value : AnnotationUtils.getDefaultValue(annotationType, name);
+	}
+}
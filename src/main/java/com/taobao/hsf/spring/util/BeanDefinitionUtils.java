@@ -1,5 +1,7 @@
 package com.taobao.hsf.spring.util;
 
+import java.util.List;
+
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.TypedStringValue;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
@@ -92,6 +94,21 @@ public class BeanDefinitionUtils {
 		}
 	}
 
+	/**
+	 * Add a string list property value
+	 * 
+	 * @param builder the builder to add property to
+	 * @param name the name of the property to add the property to
+	 * @param value the value of the property to add the property to
+	 */
+	public static void addPropertyValue(BeanDefinitionBuilder builder, String name, List<String> value) {
+		if (!CollectionUtils.isEmpty(value)) {
+			ManagedList<String> list = new ManagedList<String>(value.size());
+			list.addAll(value);
+			builder.addPropertyValue(name, list);
+		}
+	}
+
 	/**
 	 * Add a reference to the specified bean name under the property specified.
 	 * 
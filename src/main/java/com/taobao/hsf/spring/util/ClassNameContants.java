@@ -25,4 +25,12 @@ public class ClassNameContants {
 	 * The MethodSpecial class name contants
 	 */
 	public static final String METHOD_SPECIAL_CLASS_NAME = "com.taobao.hsf.model.metadata.MethodSpecial";
+	/**
+	 * The RequestCtxUtil class name contants, it sets the timeout of the next HSF call of the current thread
+	 */
+	public static final String REQUEST_CTX_UTIL_CLASS_NAME = "com.taobao.hsf.util.RequestCtxUtil";
+	/**
+	 * The RequestCtxUtil method name contants setting the timeout in ms of the next HSF call
+	 */
+	public static final String SET_REQUEST_TIMEOUT_METHOD_NAME = "setRequestTimeout";
 }
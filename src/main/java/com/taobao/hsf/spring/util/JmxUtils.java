@@ -0,0 +1,70 @@
+package com.taobao.hsf.spring.util;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Registers the HSF MBeans with the platform MBean server
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class JmxUtils {
+
+	/**
+	 * The domain of the HSF MBeans
+	 */
+	public static final String DOMAIN = "com.taobao.hsf.spring";
+
+	private static final Log logger = LogFactory.getLog(JmxUtils.class);
+
+	/**
+	 * Register the MBean, unless the name is already registered, e.g. by another context of the same JVM
+	 *
+	 * @param mbean the MBean
+	 * @param type the type key of the object name
+	 * @param keys the other key and value pairs of the object name, the values are quoted
+	 * @return the registered name, <code>null</code> if the MBean is not registered
+	 */
+	public static ObjectName register(Object mbean, String type, String... keys) {
+		StringBuilder name = new StringBuilder(DOMAIN).append(":type=").append(type);
+		for (int i = 0; i + 1 < keys.length; i += 2) {
+			name.append(',').append(keys[i]).append('=').append(ObjectName.quote(keys[i + 1]));
+		}
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName(name.toString());
+			if (server.isRegistered(objectName)) {
+				return null;
+			}
+			server.registerMBean(mbean, objectName);
+			return objectName;
+		} catch (JMException ex) {
+			logger.warn("Unable to register the MBean " + name, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Unregister the MBean
+	 *
+	 * @param objectName the name returned by {@link #register}, might be <code>null</code>
+	 */
+	public static void unregister(ObjectName objectName) {
+		if (objectName == null) {
+			return;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (JMException ex) {
+			logger.warn("Unable to unregister the MBean " + objectName, ex);
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.taobao.hsf.spring.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses the methodSpecials of the HSF annotations, each entry is <tt>methodName:clientTimeout</tt>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MethodSpecialsUtils {
+
+	/**
+	 * @param methodSpecials the methodSpecials, might be <code>null</code>
+	 * @return method name -> timeout in ms, in the order of the entries, the last entry of a method wins
+	 * @throws IllegalArgumentException if an entry is not <tt>methodName:clientTimeout</tt> with a positive timeout
+	 */
+	public static Map<String, Integer> parseTimeouts(String[] methodSpecials) {
+		Map<String, Integer> timeouts = new LinkedHashMap<String, Integer>();
+		if (methodSpecials == null) {
+			return timeouts;
+		}
+		for (String methodSpecial : methodSpecials) {
+			int index = methodSpecial.indexOf(':');
+			String methodName = index != -1 ? methodSpecial.substring(0, index).trim() : "";
+			int timeout;
+			try {
+				timeout = index != -1 ? Integer.parseInt(methodSpecial.substring(index + 1).trim()) : 0;
+			} catch (NumberFormatException ex) {
+				timeout = 0;
+			}
+			if (methodName.length() == 0 || timeout <= 0) {
+				throw new IllegalArgumentException("Invalid methodSpecial '" + methodSpecial
+						+ "', expected methodName:clientTimeout with a positive timeout");
+			}
+			timeouts.put(methodName, timeout);
+		}
+		return timeouts;
+	}
+}
@@ -0,0 +1,51 @@
+package com.taobao.hsf.spring.util;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Restricts the HSF annotation processing to some base packages
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class PackageUtils {
+
+	/**
+	 * Normalize the base packages, splitting the comma separated values and removing the trailing dots
+	 * 
+	 * @param basePackages the base packages, may be <code>null</code>
+	 * @return the normalized packages, <code>null</code> if there is none
+	 */
+	public static String[] normalize(String[] basePackages) {
+		if (basePackages == null) {
+			return null;
+		}
+		String[] packages = StringUtils.tokenizeToStringArray(
+				StringUtils.arrayToCommaDelimitedString(basePackages), ",; \t\n");
+		for (int i = 0; i < packages.length; i++) {
+			while (packages[i].endsWith(".")) {
+				packages[i] = packages[i].substring(0, packages[i].length() - 1);
+			}
+		}
+		return packages.length > 0 ? packages : null;
+	}
+
+	/**
+	 * @param className the fully qualified class name
+	 * @param basePackages the normalized base packages, <code>null</code> to accept every class
+	 * @return <code>true</code> if the class belongs to one of the packages or their sub-packages
+	 */
+	public static boolean isInPackages(String className, String[] basePackages) {
+		if (basePackages == null) {
+			return true;
+		}
+		for (String basePackage : basePackages) {
+			if (className.startsWith(basePackage)
+					&& (className.length() == basePackage.length() || className.charAt(basePackage.length()) == '.')) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
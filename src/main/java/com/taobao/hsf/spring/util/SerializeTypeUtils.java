@@ -0,0 +1,72 @@
+package com.taobao.hsf.spring.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.util.StringUtils;
+
+import com.taobao.hsf.spring.annotation.HSFExport.SerializeType;
+
+/**
+ * Checks the serializeTypes passed to HSF. This library does not implement any serialization: besides the names of
+ * {@link SerializeType}, which HSF implements itself, a name can only be used once the serialization is registered in
+ * the HSF remoting and the name is listed in the <code>registered-serialize-types</code> of annotation-driven.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SerializeTypeUtils {
+
+	/**
+	 * @param name the name of a serializeType
+	 * @return <code>true</code> if it is the name of a {@link SerializeType}, implemented by HSF itself
+	 */
+	public static boolean isSerializeType(String name) {
+		for (SerializeType serializeType : SerializeType.values()) {
+			if (serializeType.name().equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param serializeTypes the serializeTypes registered in the HSF remoting, might be <code>null</code>
+	 * @return the trimmed names, without the empty ones
+	 */
+	public static Set<String> normalize(String[] serializeTypes) {
+		Set<String> names = new LinkedHashSet<String>();
+		if (serializeTypes != null) {
+			for (String serializeType : StringUtils.tokenizeToStringArray(
+					StringUtils.arrayToCommaDelimitedString(serializeTypes), ",; \t\n")) {
+				names.add(serializeType);
+			}
+		}
+		return Collections.unmodifiableSet(names);
+	}
+
+	/**
+	 * Check that HSF can resolve the serializeType of the remote calls: a {@link SerializeType}, or a serialization
+	 * registered in the HSF remoting beforehand
+	 *
+	 * @param name the serializeType passed to HSF
+	 * @param registeredSerializeTypes the serializeTypes registered in the HSF remoting, besides the
+	 *            {@link SerializeType}s
+	 * @throws IllegalArgumentException if HSF can not resolve the name
+	 */
+	public static void check(String name, Collection<String> registeredSerializeTypes) {
+		if (!StringUtils.hasText(name)) {
+			throw new IllegalArgumentException("Empty serializeType");
+		}
+		if (!isSerializeType(name) && !registeredSerializeTypes.contains(name)) {
+			throw new IllegalArgumentException("HSF can not resolve the serializeType " + name + ", it is not one of "
+					+ Arrays.toString(SerializeType.values()) + " nor of the registered-serialize-types "
+					+ registeredSerializeTypes + ". Register the serialization in HSF beforehand and list its name "
+					+ "in registered-serialize-types");
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package com.taobao.hsf.spring.consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import com.taobao.hsf.spring.annotation.HSFBatch;
+
+/**
+ * Tests of {@link HSFBatchInterceptor} on a consumer proxy
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFBatchInterceptorTest {
+
+	@HSFBatch(method = "getItem", bulkMethod = "getItems", maxBatch = 3, maxDelayMicros = 10000000)
+	private Object keyed;
+
+	@HSFBatch(method = "getItem", bulkMethod = "listItems", maxBatch = 3, maxDelayMicros = 0)
+	private Object listed;
+
+	@HSFBatch(method = "getItem", bulkMethod = "countItems")
+	private Object invalidBulkMethod;
+
+	@HSFBatch(method = "findItem", bulkMethod = "getItems")
+	private Object missingMethod;
+
+	private final ItemServiceStub remote = new ItemServiceStub();
+
+	private final ExecutorService callers = Executors.newCachedThreadPool();
+
+	@After
+	public void tearDown() {
+		callers.shutdownNow();
+	}
+
+	@Test
+	public void mergesTheConcurrentCallsIntoOneBulkCall() throws Exception {
+		ItemService items = createConsumer("keyed");
+
+		List<Future<String>> results = new ArrayList<Future<String>>();
+		for (long id = 1; id <= 3; id++) {
+			results.add(getItemAsync(items, id));
+		}
+
+		for (int i = 0; i < results.size(); i++) {
+			assertEquals("item-" + (i + 1), results.get(i).get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, remote.bulkCalls.size());
+		assertEquals(new HashSet<Long>(Arrays.asList(1L, 2L, 3L)), new HashSet<Long>(remote.bulkCalls.get(0)));
+	}
+
+	@Test
+	public void sendsAloneACallWithoutConcurrentCalls() throws Exception {
+		ItemService items = createConsumer("listed");
+
+		assertEquals("item-7", items.getItem(7L));
+		assertEquals(Collections.singletonList(Collections.singletonList(7L)), remote.bulkCalls);
+	}
+
+	@Test
+	public void failsEveryCallerOfAFailedBulkCall() throws Exception {
+		ItemService items = createConsumer("keyed");
+		remote.failure = new IllegalStateException("remote failure");
+
+		List<Future<String>> results = new ArrayList<Future<String>>();
+		for (long id = 1; id <= 3; id++) {
+			results.add(getItemAsync(items, id));
+		}
+
+		for (Future<String> result : results) {
+			try {
+				result.get(5, TimeUnit.SECONDS);
+				fail();
+			} catch (ExecutionException ex) {
+				assertSame(remote.failure, ex.getCause());
+			}
+		}
+	}
+
+	@Test
+	public void failsTheCallsWhenTheBulkResultsDoNotMatchTheKeys() throws Exception {
+		ItemService items = createConsumer("listed");
+		remote.missingResults = true;
+
+		try {
+			items.getItem(7L);
+			fail();
+		} catch (IllegalStateException expected) {
+			assertTrue(expected.getMessage().contains("returned 0 results for 1 keys"));
+		}
+	}
+
+	@Test
+	public void leavesTheOtherMethodsAlone() throws Exception {
+		ItemService items = createConsumer("keyed");
+
+		assertEquals(Collections.singletonList("item-1"), items.listItems(Collections.singletonList(1L)));
+		assertEquals(1, remote.bulkCalls.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsABulkMethodNotReturningAListOrAMap() throws Exception {
+		createConsumer("invalidBulkMethod");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsAMissingMethod() throws Exception {
+		createConsumer("missingMethod");
+	}
+
+	private Future<String> getItemAsync(final ItemService items, final long id) {
+		return callers.submit(new Callable<String>() {
+
+			@Override
+			public String call() throws Exception {
+				return items.getItem(id);
+			}
+		});
+	}
+
+	private ItemService createConsumer(String config) throws Exception {
+		HSFBatch batch = getClass().getDeclaredField(config).getAnnotation(HSFBatch.class);
+		ProxyFactory factory = new ProxyFactory(remote);
+		factory.addAdvice(new HSFBatchInterceptor(ItemService.class, batch));
+		return (ItemService) factory.getProxy();
+	}
+
+	public interface ItemService {
+
+		String getItem(Long id);
+
+		Map<Long, String> getItems(List<Long> ids);
+
+		List<String> listItems(List<Long> ids);
+
+		int countItems(List<Long> ids);
+	}
+
+	private static class ItemServiceStub implements ItemService {
+
+		private final List<List<Long>> bulkCalls = new CopyOnWriteArrayList<List<Long>>();
+
+		private volatile RuntimeException failure;
+
+		private volatile boolean missingResults;
+
+		@Override
+		public String getItem(Long id) {
+			throw new UnsupportedOperationException("Batched");
+		}
+
+		@Override
+		public Map<Long, String> getItems(List<Long> ids) {
+			bulkCalls.add(new ArrayList<Long>(ids));
+			if (failure != null) {
+				throw failure;
+			}
+			Map<Long, String> items = new LinkedHashMap<Long, String>();
+			for (Long id : ids) {
+				items.put(id, "item-" + id);
+			}
+			return items;
+		}
+
+		@Override
+		public List<String> listItems(List<Long> ids) {
+			bulkCalls.add(new ArrayList<Long>(ids));
+			List<String> items = new ArrayList<String>();
+			if (!missingResults) {
+				for (Long id : ids) {
+					items.add("item-" + id);
+				}
+			}
+			return items;
+		}
+
+		@Override
+		public int countItems(List<Long> ids) {
+			return ids.size();
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.taobao.hsf.spring.consumer;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import com.taobao.hsf.spring.annotation.HSFCacheable;
+
+/**
+ * Tests of {@link HSFCacheInterceptor} on a consumer proxy
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFCacheInterceptorTest {
+
+	private final ConfigServiceStub remote = new ConfigServiceStub();
+
+	@Test
+	public void createsACachePerCacheableMethod() throws Exception {
+		Map<Method, HSFResultCache> caches = HSFCacheInterceptor.createCaches(ConfigService.class);
+
+		assertEquals(1, caches.size());
+		HSFResultCache cache = caches.get(ConfigService.class.getMethod("getConfig", String.class, String[].class));
+		assertEquals(100, cache.getMaxEntries());
+		assertEquals(60000, cache.getTtlMs());
+	}
+
+	@Test
+	public void answersTheCallsWithEqualArgumentsFromTheCache() {
+		ConfigService configs = createConsumer();
+
+		assertEquals("app:[a, b]", configs.getConfig("app", new String[] { "a", "b" }));
+		assertEquals("app:[a, b]", configs.getConfig("app", new String[] { "a", "b" }));
+		assertEquals("app:[a]", configs.getConfig("app", new String[] { "a" }));
+
+		assertEquals(2, remote.calls.get());
+	}
+
+	@Test
+	public void leavesTheOtherMethodsAlone() {
+		ConfigService configs = createConsumer();
+
+		configs.setConfig("app", "value");
+		configs.setConfig("app", "value");
+
+		assertEquals(2, remote.calls.get());
+	}
+
+	private ConfigService createConsumer() {
+		ProxyFactory factory = new ProxyFactory(remote);
+		factory.addAdvice(new HSFCacheInterceptor(HSFCacheInterceptor.createCaches(ConfigService.class)));
+		return (ConfigService) factory.getProxy();
+	}
+
+	public interface ConfigService {
+
+		@HSFCacheable(ttlMs = 60000, maxEntries = 100)
+		String getConfig(String group, String[] keys);
+
+		void setConfig(String key, String value);
+	}
+
+	private static class ConfigServiceStub implements ConfigService {
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		@Override
+		public String getConfig(String group, String[] keys) {
+			calls.incrementAndGet();
+			return group + ":" + Arrays.toString(keys);
+		}
+
+		@Override
+		public void setConfig(String key, String value) {
+			calls.incrementAndGet();
+		}
+	}
+}
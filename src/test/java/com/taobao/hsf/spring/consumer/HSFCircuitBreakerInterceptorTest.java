@@ -0,0 +1,131 @@
+package com.taobao.hsf.spring.consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectFactory;
+
+import com.taobao.hsf.spring.annotation.HSFCircuitBreaker;
+
+/**
+ * Tests of {@link HSFCircuitBreakerInterceptor} on a consumer proxy
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFCircuitBreakerInterceptorTest {
+
+	@HSFCircuitBreaker(windowSize = 2, minimumCalls = 2, failureRateThreshold = 50, waitDurationMs = 60000)
+	private Object config;
+
+	private OrderServiceStub remote;
+
+	@Before
+	public void setUp() {
+		remote = new OrderServiceStub();
+	}
+
+	@Test
+	public void rejectsTheCallsWithoutReachingTheServiceOnceOpen() throws Exception {
+		OrderService orders = createConsumer(null);
+		remote.failure = new IllegalStateException("remote failure");
+		failTwice(orders);
+
+		try {
+			orders.getOrder(1);
+			fail();
+		} catch (HSFCircuitBreakerOpenException expected) {
+		}
+		assertEquals(2, remote.calls.get());
+	}
+
+	@Test
+	public void answersTheFailedAndTheRejectedCallsWithTheFallback() throws Exception {
+		OrderService orders = createConsumer(new ObjectFactory<Object>() {
+
+			@Override
+			public Object getObject() {
+				return new OrderService() {
+
+					@Override
+					public String getOrder(long id) {
+						return "fallback-" + id;
+					}
+				};
+			}
+		});
+		remote.failure = new IllegalStateException("remote failure");
+
+		assertEquals("fallback-1", orders.getOrder(1));
+		assertEquals("fallback-2", orders.getOrder(2));
+		assertEquals("fallback-3", orders.getOrder(3));
+		assertEquals(2, remote.calls.get());
+	}
+
+	@Test
+	public void countsTheDeclaredExceptionsAsSuccesses() throws Exception {
+		OrderService orders = createConsumer(null);
+		remote.failure = new OrderNotFoundException();
+
+		for (int i = 0; i < 4; i++) {
+			try {
+				orders.getOrder(i);
+				fail();
+			} catch (OrderNotFoundException expected) {
+			}
+		}
+		assertEquals(4, remote.calls.get());
+	}
+
+	private void failTwice(OrderService orders) throws OrderNotFoundException {
+		for (int i = 0; i < 2; i++) {
+			try {
+				orders.getOrder(i);
+				fail();
+			} catch (IllegalStateException expected) {
+			}
+		}
+	}
+
+	private OrderService createConsumer(ObjectFactory<?> fallback) throws Exception {
+		ProxyFactory factory = new ProxyFactory(remote);
+		factory.addAdvice(new HSFCircuitBreakerInterceptor(OrderService.class, getClass().getDeclaredField("config")
+				.getAnnotation(HSFCircuitBreaker.class), fallback));
+		return (OrderService) factory.getProxy();
+	}
+
+	public interface OrderService {
+
+		String getOrder(long id) throws OrderNotFoundException;
+	}
+
+	public static class OrderNotFoundException extends Exception {
+
+		private static final long serialVersionUID = 1L;
+	}
+
+	private static class OrderServiceStub implements OrderService {
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private volatile Exception failure;
+
+		@Override
+		public String getOrder(long id) throws OrderNotFoundException {
+			calls.incrementAndGet();
+			if (failure instanceof OrderNotFoundException) {
+				throw (OrderNotFoundException) failure;
+			}
+			if (failure != null) {
+				throw (RuntimeException) failure;
+			}
+			return "order-" + id;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package com.taobao.hsf.spring.consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.taobao.hsf.spring.annotation.HSFCircuitBreaker;
+
+/**
+ * Tests of the state machine of {@link HSFMethodCircuitBreaker}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFMethodCircuitBreakerTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+	@HSFCircuitBreaker(windowSize = 10, minimumCalls = 10, failureRateThreshold = 50, slowCallDurationMs = 50,
+			waitDurationMs = 60000)
+	private Object longWait;
+
+	@HSFCircuitBreaker(windowSize = 4, minimumCalls = 4, failureRateThreshold = 50, waitDurationMs = 60000)
+	private Object smallWindow;
+
+	@HSFCircuitBreaker(windowSize = 4, minimumCalls = 4, failureRateThreshold = 50, waitDurationMs = 1,
+			halfOpenCalls = 2)
+	private Object shortWait;
+
+	@HSFCircuitBreaker(windowSize = 0)
+	private Object emptyWindow;
+
+	@HSFCircuitBreaker(failureRateThreshold = 101)
+	private Object invalidThreshold;
+
+	@Test
+	public void opensWhenTheFailureRateReachesTheThreshold() {
+		HSFMethodCircuitBreaker circuitBreaker = create("longWait");
+		call(circuitBreaker, 5, false, FAST);
+		call(circuitBreaker, 4, true, FAST);
+		assertEquals("CLOSED", circuitBreaker.getState());
+		assertEquals(44, circuitBreaker.getFailureRate());
+
+		call(circuitBreaker, 1, true, FAST);
+
+		assertEquals("OPEN", circuitBreaker.getState());
+		assertEquals(HSFMethodCircuitBreaker.REJECTED, circuitBreaker.acquire());
+		assertEquals(1, circuitBreaker.getRejectedCount());
+	}
+
+	@Test
+	public void staysClosedBelowTheMinimumCalls() {
+		HSFMethodCircuitBreaker circuitBreaker = create("longWait");
+		call(circuitBreaker, 9, true, FAST);
+
+		assertEquals("CLOSED", circuitBreaker.getState());
+		assertEquals(100, circuitBreaker.getFailureRate());
+		assertEquals(9, circuitBreaker.getWindowCalls());
+	}
+
+	@Test
+	public void opensWhenTheSlowCallRateReachesTheThreshold() {
+		HSFMethodCircuitBreaker circuitBreaker = create("longWait");
+		call(circuitBreaker, 9, false, SLOW);
+		assertEquals("CLOSED", circuitBreaker.getState());
+
+		call(circuitBreaker, 1, false, SLOW);
+
+		assertEquals("OPEN", circuitBreaker.getState());
+	}
+
+	@Test
+	public void forgetsTheCallsOverwrittenInTheWindow() {
+		HSFMethodCircuitBreaker circuitBreaker = create("smallWindow");
+		call(circuitBreaker, 1, true, FAST);
+		call(circuitBreaker, 3, false, FAST);
+		assertEquals(25, circuitBreaker.getFailureRate());
+
+		// 覆盖了第一个失败的调用
+		call(circuitBreaker, 1, false, FAST);
+		call(circuitBreaker, 1, true, FAST);
+
+		assertEquals("CLOSED", circuitBreaker.getState());
+		assertEquals(25, circuitBreaker.getFailureRate());
+		assertEquals(4, circuitBreaker.getWindowCalls());
+	}
+
+	@Test
+	public void closesWithAnEmptyWindowWhenTheProbesSucceed() throws Exception {
+		HSFMethodCircuitBreaker circuitBreaker = open("shortWait");
+
+		int first = circuitBreaker.acquire();
+		int second = circuitBreaker.acquire();
+		assertEquals("HALF_OPEN", circuitBreaker.getState());
+		assertEquals(HSFMethodCircuitBreaker.REJECTED, circuitBreaker.acquire());
+		circuitBreaker.onResult(first, false, FAST);
+		circuitBreaker.onResult(second, false, FAST);
+
+		assertEquals("CLOSED", circuitBreaker.getState());
+		assertEquals(0, circuitBreaker.getWindowCalls());
+		assertEquals(0, circuitBreaker.getFailureRate());
+	}
+
+	@Test
+	public void opensAgainWhenAProbeFails() throws Exception {
+		HSFMethodCircuitBreaker circuitBreaker = open("shortWait");
+
+		int permit = circuitBreaker.acquire();
+		assertTrue(permit != HSFMethodCircuitBreaker.REJECTED);
+		circuitBreaker.onResult(permit, true, FAST);
+
+		assertEquals("OPEN", circuitBreaker.getState());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsAnEmptyWindow() throws Exception {
+		create("emptyWindow");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsAThresholdAbove100() throws Exception {
+		create("invalidThreshold");
+	}
+
+	private HSFMethodCircuitBreaker open(String config) throws InterruptedException {
+		HSFMethodCircuitBreaker circuitBreaker = create(config);
+		call(circuitBreaker, 4, true, FAST);
+		assertEquals("OPEN", circuitBreaker.getState());
+		// 等待waitDurationMs过去
+		Thread.sleep(10);
+		return circuitBreaker;
+	}
+
+	private void call(HSFMethodCircuitBreaker circuitBreaker, int calls, boolean failed, long nanos) {
+		for (int i = 0; i < calls; i++) {
+			int permit = circuitBreaker.acquire();
+			assertTrue(permit != HSFMethodCircuitBreaker.REJECTED);
+			circuitBreaker.onResult(permit, failed, nanos);
+		}
+	}
+
+	private HSFMethodCircuitBreaker create(String config) {
+		try {
+			return new HSFMethodCircuitBreaker(getClass().getDeclaredField(config).getAnnotation(
+					HSFCircuitBreaker.class));
+		} catch (NoSuchFieldException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
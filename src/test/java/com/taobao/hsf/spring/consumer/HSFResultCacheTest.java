@@ -0,0 +1,143 @@
+package com.taobao.hsf.spring.consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link HSFResultCache}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFResultCacheTest {
+
+	@Test
+	public void answersTheHitsWithoutLoading() throws Throwable {
+		HSFResultCache cache = new HSFResultCache(60000, 10);
+		CountingLoader loader = new CountingLoader("value");
+
+		assertEquals("value", cache.get("key", loader));
+		assertEquals("value", cache.get("key", loader));
+
+		assertEquals(1, loader.loads.get());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getSize());
+	}
+
+	@Test
+	public void cachesTheNullResults() throws Throwable {
+		HSFResultCache cache = new HSFResultCache(60000, 10);
+		CountingLoader loader = new CountingLoader(null);
+
+		assertNull(cache.get("key", loader));
+		assertNull(cache.get("key", loader));
+
+		assertEquals(1, loader.loads.get());
+	}
+
+	@Test
+	public void doesNotCacheTheFailures() throws Throwable {
+		HSFResultCache cache = new HSFResultCache(60000, 10);
+		final IllegalStateException failure = new IllegalStateException("remote failure");
+		try {
+			cache.get("key", new HSFResultCache.Loader() {
+
+				@Override
+				public Object load() {
+					throw failure;
+				}
+			});
+			fail();
+		} catch (IllegalStateException ex) {
+			assertSame(failure, ex);
+		}
+
+		assertEquals("value", cache.get("key", new CountingLoader("value")));
+		assertEquals(0, cache.getHitCount());
+	}
+
+	@Test
+	public void loadsTheExpiredEntriesAgain() throws Throwable {
+		HSFResultCache cache = new HSFResultCache(1, 10);
+		CountingLoader loader = new CountingLoader("value");
+		cache.get("key", loader);
+
+		Thread.sleep(10);
+		cache.get("key", loader);
+
+		assertEquals(2, loader.loads.get());
+		assertEquals(1, cache.getExpirationCount());
+		assertEquals(1, cache.getSize());
+	}
+
+	@Test
+	public void evictsTheEntriesNotReferencedSinceTheLastSweep() throws Throwable {
+		HSFResultCache cache = new HSFResultCache(60000, 2);
+		cache.get("a", new CountingLoader("a"));
+		cache.get("b", new CountingLoader("b"));
+		// a被访问过，得到第二次机会
+		cache.get("a", new CountingLoader("a"));
+
+		cache.get("c", new CountingLoader("c"));
+
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(2, cache.getSize());
+		CountingLoader loader = new CountingLoader("x");
+		cache.get("a", loader);
+		cache.get("c", loader);
+		assertEquals(0, loader.loads.get());
+		cache.get("b", loader);
+		assertEquals(1, loader.loads.get());
+	}
+
+	@Test
+	public void neverHoldsMoreThanMaxEntries() throws Throwable {
+		HSFResultCache cache = new HSFResultCache(60000, 16);
+		for (int i = 0; i < 1000; i++) {
+			cache.get(i % 40, new CountingLoader(i));
+		}
+
+		assertEquals(16, cache.getSize());
+	}
+
+	@Test
+	public void dropsEverythingOnClear() throws Throwable {
+		HSFResultCache cache = new HSFResultCache(60000, 10);
+		cache.get("key", new CountingLoader("value"));
+
+		cache.clear();
+
+		assertEquals(0, cache.getSize());
+		assertEquals("other", cache.get("key", new CountingLoader("other")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsANonPositiveMaxEntries() {
+		new HSFResultCache(1000, 0);
+	}
+
+	private static class CountingLoader implements HSFResultCache.Loader {
+
+		private final AtomicInteger loads = new AtomicInteger();
+
+		private final Object value;
+
+		CountingLoader(Object value) {
+			this.value = value;
+		}
+
+		@Override
+		public Object load() {
+			loads.incrementAndGet();
+			return value;
+		}
+	}
+}
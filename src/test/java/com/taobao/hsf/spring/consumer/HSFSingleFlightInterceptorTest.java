@@ -0,0 +1,223 @@
+package com.taobao.hsf.spring.consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+/**
+ * Tests of {@link HSFSingleFlightInterceptor} on a consumer proxy
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFSingleFlightInterceptorTest {
+
+	private final UserServiceStub remote = new UserServiceStub();
+
+	private final UserService users = createConsumer();
+
+	private final ExecutorService callers = Executors.newCachedThreadPool();
+
+	@After
+	public void tearDown() {
+		remote.release.countDown();
+		callers.shutdownNow();
+	}
+
+	@Test
+	public void collapsesTheConcurrentCallsWithEqualArguments() throws Exception {
+		Future<String> first = getUserAsync(1);
+		assertTrue(remote.entered.await(5, TimeUnit.SECONDS));
+		Future<String> second = getUserAsync(1);
+		awaitWaitingCaller();
+
+		remote.release.countDown();
+
+		assertEquals("user-1", first.get(5, TimeUnit.SECONDS));
+		assertSame(first.get(), second.get(5, TimeUnit.SECONDS));
+		assertEquals(1, remote.calls.get());
+	}
+
+	@Test
+	public void throwsTheSameFailureToTheCollapsedCalls() throws Exception {
+		remote.failure = new IllegalStateException("remote failure");
+		Future<String> first = getUserAsync(1);
+		assertTrue(remote.entered.await(5, TimeUnit.SECONDS));
+		Future<String> second = getUserAsync(1);
+		awaitWaitingCaller();
+
+		remote.release.countDown();
+
+		assertSame(remote.failure, getFailure(first));
+		assertSame(remote.failure, getFailure(second));
+		assertEquals(1, remote.calls.get());
+	}
+
+	@Test
+	public void callsAgainOnceTheCallCompleted() {
+		remote.release.countDown();
+
+		users.getUser(1);
+		users.getUser(1);
+		users.getUser(2);
+
+		assertEquals(3, remote.calls.get());
+	}
+
+	@Test
+	public void neverCollapsesTheVoidMethods() throws Exception {
+		Future<?> first = callers.submit(new Runnable() {
+
+			@Override
+			public void run() {
+				users.touch(1);
+			}
+		});
+		Future<?> second = callers.submit(new Runnable() {
+
+			@Override
+			public void run() {
+				users.touch(1);
+			}
+		});
+
+		first.get(5, TimeUnit.SECONDS);
+		second.get(5, TimeUnit.SECONDS);
+		assertEquals(0, remote.touches.getCount());
+	}
+
+	/**
+	 * Wait until a caller waits for the call in flight, as the first caller holds the remote call
+	 */
+	private void awaitWaitingCaller() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!hasWaitingCaller()) {
+			assertTrue("no caller waits for the call in flight", System.nanoTime() < deadline);
+			Thread.sleep(1);
+		}
+	}
+
+	private boolean hasWaitingCaller() {
+		for (Thread thread : getThreads()) {
+			if (thread != remote.remoteThread && thread.getState() == Thread.State.WAITING
+					&& isWaitingInSingleFlight(thread)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Thread[] getThreads() {
+		Thread[] threads = new Thread[Thread.activeCount() * 2];
+		int count = Thread.enumerate(threads);
+		Thread[] result = new Thread[count];
+		System.arraycopy(threads, 0, result, 0, count);
+		return result;
+	}
+
+	private boolean isWaitingInSingleFlight(Thread thread) {
+		for (StackTraceElement element : thread.getStackTrace()) {
+			if (element.getClassName().startsWith(HSFSingleFlightInterceptor.class.getName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Throwable getFailure(Future<String> result) throws Exception {
+		try {
+			result.get(5, TimeUnit.SECONDS);
+			fail();
+			return null;
+		} catch (ExecutionException ex) {
+			return ex.getCause();
+		}
+	}
+
+	private Future<String> getUserAsync(final long id) {
+		return callers.submit(new Callable<String>() {
+
+			@Override
+			public String call() {
+				return users.getUser(id);
+			}
+		});
+	}
+
+	private UserService createConsumer() {
+		ProxyFactory factory = new ProxyFactory(remote);
+		factory.addAdvice(new HSFSingleFlightInterceptor(UserService.class));
+		return (UserService) factory.getProxy();
+	}
+
+	public interface UserService {
+
+		String getUser(long id);
+
+		void touch(long id);
+	}
+
+	private static class UserServiceStub implements UserService {
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private final CountDownLatch touches = new CountDownLatch(2);
+
+		private final CountDownLatch entered = new CountDownLatch(1);
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		/**
+		 * The thread making the remote call
+		 */
+		private volatile Thread remoteThread;
+
+		private volatile RuntimeException failure;
+
+		@Override
+		public String getUser(long id) {
+			calls.incrementAndGet();
+			remoteThread = Thread.currentThread();
+			entered.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			return new String("user-" + id);
+		}
+
+		/**
+		 * Returns once both touches are in flight, which fails if the second one waits for the first one
+		 */
+		@Override
+		public void touch(long id) {
+			touches.countDown();
+			try {
+				if (!touches.await(5, TimeUnit.SECONDS)) {
+					throw new IllegalStateException("The touches are not in flight together");
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
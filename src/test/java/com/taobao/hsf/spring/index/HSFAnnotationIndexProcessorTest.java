@@ -0,0 +1,165 @@
+package com.taobao.hsf.spring.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.FactoryBean;
+
+import com.taobao.hsf.spring.annotation.HSFExport;
+
+/**
+ * Tests of the index written by {@link HSFAnnotationIndexProcessor}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFAnnotationIndexProcessorTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void indexesTheExportsTheConsumersAndTheFactoryBeans() throws Exception {
+		File sources = folder.newFolder("src");
+		File classes = folder.newFolder("classes");
+		List<File> files = Arrays.asList(
+				write(sources, "demo.OrderService", "package demo; public interface OrderService { "
+						+ "String get(long id); }"),
+				write(sources, "demo.OrderServiceImpl", "package demo; "
+						+ "@com.taobao.hsf.spring.annotation.HSFExport public class OrderServiceImpl "
+						+ "implements OrderService { public String get(long id) { return null; } }"),
+				write(sources, "demo.ExplicitServiceImpl", "package demo; "
+						+ "@com.taobao.hsf.spring.annotation.HSFExport(serviceInterface = OrderService.class) "
+						+ "public class ExplicitServiceImpl extends OrderServiceImpl implements java.io.Closeable { "
+						+ "public void close() {} }"),
+				write(sources, "demo.InheritedServiceImpl", "package demo; "
+						+ "public class InheritedServiceImpl extends OrderServiceImpl {}"),
+				write(sources, "demo.AbstractServiceImpl", "package demo; "
+						+ "@com.taobao.hsf.spring.annotation.HSFExport public abstract class AbstractServiceImpl "
+						+ "implements OrderService {}"),
+				write(sources, "demo.OrderController", "package demo; public class OrderController { "
+						+ "@com.taobao.hsf.spring.annotation.HSF(version = \"1.0.0\") OrderService orders; "
+						+ "public static class Nested { "
+						+ "@com.taobao.hsf.spring.annotation.HSF(version = \"1.0.0\") OrderService nested; } }"),
+				write(sources, "demo.OrderFactoryBean", "package demo; public class OrderFactoryBean implements "
+						+ "org.springframework.beans.factory.FactoryBean<Object> { "
+						+ "public Object getObject() { return null; } public Class<?> getObjectType() { return null; } "
+						+ "public boolean isSingleton() { return true; } }"),
+				write(sources, "demo.PlainBean", "package demo; public class PlainBean {}"));
+
+		compile(files, classes, true);
+
+		assertEquals(Arrays.asList("consumer=demo.OrderController#orders,demo.OrderService",
+				"consumer=demo.OrderController$Nested#nested,demo.OrderService",
+				"export=demo.ExplicitServiceImpl,demo.OrderService",
+				// 与运行时一样只看类自己声明的接口，无法确定时留空
+				"export=demo.InheritedServiceImpl,",
+				"export=demo.OrderServiceImpl,demo.OrderService", "factory=demo.OrderFactoryBean"),
+				readIndex(classes));
+	}
+
+	@Test
+	public void writesNothingUnlessEnabled() throws Exception {
+		File sources = folder.newFolder("src");
+		File classes = folder.newFolder("classes");
+		List<File> files = Arrays.asList(write(sources, "demo.OrderServiceImpl", "package demo; "
+				+ "@com.taobao.hsf.spring.annotation.HSFExport public class OrderServiceImpl implements Runnable { "
+				+ "public void run() {} }"));
+
+		compile(files, classes, false);
+
+		assertTrue(new File(classes, "demo/OrderServiceImpl.class").isFile());
+		assertFalse(new File(classes, HSFAnnotationIndex.INDEX_LOCATION).exists());
+	}
+
+	@Test
+	public void keepsTheEntriesOfTheClassesNotCompiledAgain() throws Exception {
+		File sources = folder.newFolder("src");
+		File classes = folder.newFolder("classes");
+		File first = write(sources, "demo.FirstServiceImpl", "package demo; "
+				+ "@com.taobao.hsf.spring.annotation.HSFExport public class FirstServiceImpl implements Runnable { "
+				+ "public void run() {} }");
+		File second = write(sources, "demo.SecondServiceImpl", "package demo; "
+				+ "@com.taobao.hsf.spring.annotation.HSFExport public class SecondServiceImpl implements Runnable { "
+				+ "public void run() {} }");
+		compile(Arrays.asList(first, second), classes, true);
+
+		// 只重新编译不再发布服务的SecondServiceImpl
+		second = write(sources, "demo.SecondServiceImpl", "package demo; public class SecondServiceImpl {}");
+		compile(Collections.singletonList(second), classes, true);
+
+		assertEquals(Collections.singletonList("export=demo.FirstServiceImpl,java.lang.Runnable"),
+				readIndex(classes));
+	}
+
+	private File write(File sources, String className, String source) throws IOException {
+		File file = new File(sources, className.replace('.', '/') + ".java");
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), source.getBytes(UTF_8));
+		return file;
+	}
+
+	/**
+	 * Compile the sources into the classes directory, which is on the class path like in an incremental build
+	 */
+	static void compile(List<File> files, File classes, boolean index, File... classpath) throws Exception {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, UTF_8);
+		try {
+			StringBuilder path = new StringBuilder(classes.getPath());
+			for (File entry : classpath) {
+				path.append(File.pathSeparator).append(entry.getPath());
+			}
+			path.append(File.pathSeparator).append(getLocation(HSFExport.class));
+			path.append(File.pathSeparator).append(getLocation(FactoryBean.class));
+			List<String> options = new ArrayList<String>(Arrays.asList("-d", classes.getPath(), "-classpath",
+					path.toString()));
+			if (index) {
+				options.add("-A" + HSFAnnotationIndexProcessor.INDEX_OPTION + "=true");
+			}
+			Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(files);
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+			task.setProcessors(Collections.singletonList(new HSFAnnotationIndexProcessor()));
+			assertTrue("compilation failed", task.call());
+		} finally {
+			fileManager.close();
+		}
+	}
+
+	static List<String> readIndex(File classes) throws IOException {
+		List<String> entries = new ArrayList<String>();
+		for (String line : Files.readAllLines(new File(classes, HSFAnnotationIndex.INDEX_LOCATION).toPath(), UTF_8)) {
+			if (!line.startsWith("#")) {
+				entries.add(line);
+			}
+		}
+		Collections.sort(entries);
+		return entries;
+	}
+
+	private static String getLocation(Class<?> clazz) throws URISyntaxException {
+		return new File(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+	}
+}
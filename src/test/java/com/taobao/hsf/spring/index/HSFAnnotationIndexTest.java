@@ -0,0 +1,107 @@
+package com.taobao.hsf.spring.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests of {@link HSFAnnotationIndex} on a class path mixing indexed and unindexed directories
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFAnnotationIndexTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private URLClassLoader classLoader;
+
+	private HSFAnnotationIndex index;
+
+	@Before
+	public void setUp() throws Exception {
+		File indexed = folder.newFolder("indexed");
+		File unindexed = folder.newFolder("unindexed");
+		File sources = folder.newFolder("src");
+
+		HSFAnnotationIndexProcessorTest.compile(Arrays.asList(
+				write(sources, "indexed.OrderService", "package indexed; public interface OrderService {}"),
+				write(sources, "indexed.OrderServiceImpl", "package indexed; "
+						+ "@com.taobao.hsf.spring.annotation.HSFExport public class OrderServiceImpl "
+						+ "implements OrderService {}"),
+				write(sources, "indexed.OrderController", "package indexed; public class OrderController { "
+						+ "@com.taobao.hsf.spring.annotation.HSF(version = \"1.0.0\") OrderService orders; }"),
+				write(sources, "indexed.PlainBean", "package indexed; public class PlainBean {}")), indexed, true);
+		// 没有索引的jar，其中的类继承了有索引的类
+		HSFAnnotationIndexProcessorTest.compile(Collections.singletonList(write(sources, "unindexed.LegacyBean",
+				"package unindexed; public class LegacyBean extends indexed.PlainBean {}")), unindexed, false, indexed);
+
+		classLoader = new URLClassLoader(new URL[] { indexed.toURI().toURL(), unindexed.toURI().toURL() }, getClass()
+				.getClassLoader());
+		index = HSFAnnotationIndex.load(classLoader);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		classLoader.close();
+	}
+
+	@Test
+	public void readsTheEntriesOfTheIndexedDirectory() {
+		assertTrue(index.isExported("indexed.OrderServiceImpl"));
+		assertEquals("indexed.OrderService", index.getServiceInterface("indexed.OrderServiceImpl"));
+		assertTrue(index.hasConsumerFields("indexed.OrderController"));
+		assertFalse(index.isExported("indexed.PlainBean"));
+		assertFalse(index.hasConsumerFields("indexed.PlainBean"));
+	}
+
+	@Test
+	public void tellsTheIndexedClassesFromTheUnindexedOnes() {
+		assertTrue(index.isIndexed("indexed.PlainBean"));
+		assertFalse(index.isIndexed("unindexed.LegacyBean"));
+		assertFalse(index.isIndexed("generated.Proxy"));
+	}
+
+	@Test
+	public void inspectsTheClassesWithoutIndex() throws Exception {
+		assertTrue(index.hasConsumerFields(classLoader.loadClass("indexed.OrderController")));
+		assertFalse(index.hasConsumerFields(classLoader.loadClass("indexed.PlainBean")));
+		// 没有索引的类可能有HSF属性，必须检查
+		assertTrue(index.hasConsumerFields(classLoader.loadClass("unindexed.LegacyBean")));
+	}
+
+	@Test
+	public void loadsNothingWithoutIndex() throws Exception {
+		URLClassLoader loader = new URLClassLoader(new URL[] { folder.getRoot().toURI().resolve("unindexed/")
+				.toURL() }, null);
+		try {
+			assertNull(HSFAnnotationIndex.load(loader));
+		} finally {
+			loader.close();
+		}
+	}
+
+	private File write(File sources, String className, String source) throws Exception {
+		File file = new File(sources, className.replace('.', '/') + ".java");
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), source.getBytes(Charset.forName("UTF-8")));
+		return file;
+	}
+}
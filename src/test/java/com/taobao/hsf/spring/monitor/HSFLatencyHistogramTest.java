@@ -0,0 +1,113 @@
+package com.taobao.hsf.spring.monitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link HSFLatencyHistogram}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFLatencyHistogramTest {
+
+	@Test
+	public void readsZeroWithoutCalls() {
+		HSFLatencyHistogram histogram = new HSFLatencyHistogram();
+
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMeanMicros());
+		assertEquals(0, histogram.getP99Micros());
+		assertEquals(0, histogram.getMaxMicros());
+	}
+
+	@Test
+	public void recordsTheSmallLatenciesExactly() {
+		HSFLatencyHistogram histogram = new HSFLatencyHistogram();
+		for (int i = 0; i < 10; i++) {
+			histogram.record(TimeUnit.MICROSECONDS.toNanos(5), null, false);
+		}
+
+		assertEquals(10, histogram.getCount());
+		assertEquals(5, histogram.getMeanMicros());
+		assertEquals(5, histogram.getP50Micros());
+		assertEquals(5, histogram.getMaxMicros());
+	}
+
+	@Test
+	public void boundsThePercentilesWithinASixteenth() {
+		HSFLatencyHistogram histogram = new HSFLatencyHistogram();
+		for (long micros = 1; micros <= 10000; micros++) {
+			histogram.record(TimeUnit.MICROSECONDS.toNanos(micros), null, false);
+		}
+
+		assertEquals(10000, histogram.getCount());
+		assertEquals(5000, histogram.getMeanMicros());
+		assertWithinASixteenth(5000, histogram.getP50Micros());
+		assertWithinASixteenth(9900, histogram.getP99Micros());
+		assertWithinASixteenth(9990, histogram.getP999Micros());
+		assertWithinASixteenth(10000, histogram.getMaxMicros());
+	}
+
+	@Test
+	public void countsTheErrorsAndTheTimeouts() {
+		HSFLatencyHistogram histogram = new HSFLatencyHistogram();
+		histogram.record(1000, null, false);
+		histogram.record(1000, new IllegalStateException("remote failure"), false);
+		histogram.record(1000, new IllegalStateException("timeout"), true);
+
+		assertEquals(3, histogram.getCount());
+		assertEquals(2, histogram.getErrorCount());
+		assertEquals(1, histogram.getTimeoutCount());
+	}
+
+	@Test
+	public void clampsTheLatenciesOutOfRange() {
+		HSFLatencyHistogram histogram = new HSFLatencyHistogram();
+		histogram.record(-1, null, false);
+		histogram.record(Long.MAX_VALUE, null, false);
+
+		assertEquals(2, histogram.getCount());
+		assertEquals(0, histogram.snapshot().getPercentileMicros(0.5));
+		assertEquals((1L << 32) - 1, histogram.getMaxMicros());
+	}
+
+	@Test
+	public void sumsTheCallsRecordedByConcurrentThreads() throws Exception {
+		final HSFLatencyHistogram histogram = new HSFLatencyHistogram();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < 8; i++) {
+			threads.add(new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < 10000; j++) {
+						histogram.record(TimeUnit.MICROSECONDS.toNanos(100), null, false);
+					}
+				}
+			}));
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		HSFLatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(80000, snapshot.getCount());
+		assertEquals(8000000, snapshot.getSumMicros());
+	}
+
+	private void assertWithinASixteenth(long expected, long actual) {
+		assertTrue(actual + " is not within a sixteenth of " + expected,
+				actual >= expected && actual <= expected + expected / 16);
+	}
+}
@@ -0,0 +1,143 @@
+package com.taobao.hsf.spring.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+/**
+ * Tests of {@link HSFConcurrencyLimiter} on an exported service
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HSFConcurrencyLimiterTest {
+
+	private final SlowService target = new SlowService();
+
+	private final ExecutorService callers = Executors.newCachedThreadPool();
+
+	@After
+	public void tearDown() {
+		target.release.countDown();
+		callers.shutdownNow();
+	}
+
+	@Test
+	public void rejectsTheCallsAboveTheLimitAtOnce() throws Exception {
+		HSFConcurrencyLimiter limiter = new HSFConcurrencyLimiter("demo.EchoService:1.0.0", 1, 1, 1);
+		final EchoService service = createService(limiter);
+		Future<String> blocked = callers.submit(new Callable<String>() {
+
+			@Override
+			public String call() {
+				return service.echo("blocked");
+			}
+		});
+		assertTrue(target.entered.await(5, TimeUnit.SECONDS));
+
+		try {
+			service.echo("rejected");
+			fail();
+		} catch (RejectedExecutionException expected) {
+		}
+		assertEquals(1, limiter.getRejectedCount());
+		assertEquals(1, limiter.getInFlight());
+
+		target.release.countDown();
+		assertEquals("blocked", blocked.get(5, TimeUnit.SECONDS));
+		assertEquals(0, limiter.getInFlight());
+		assertEquals("accepted", service.echo("accepted"));
+	}
+
+	@Test
+	public void doesNotGrowTheLimitWhileLessThanHalfOfItIsUsed() {
+		target.release.countDown();
+		HSFConcurrencyLimiter limiter = new HSFConcurrencyLimiter("demo.EchoService:1.0.0", 10, 1, 100);
+		EchoService service = createService(limiter);
+
+		for (int i = 0; i < 100; i++) {
+			service.echo("fast");
+		}
+
+		// 延迟的抖动可能降低限制，但一个并发不足以提高限制
+		assertTrue(limiter.getLimit() <= 10);
+		assertTrue(limiter.getMinRttMicros() >= 0);
+	}
+
+	@Test
+	public void shrinksTheLimitAsTheLatencyGrows() throws Exception {
+		target.release.countDown();
+		HSFConcurrencyLimiter limiter = new HSFConcurrencyLimiter("demo.EchoService:1.0.0", 10, 1, 100);
+		EchoService service = createService(limiter);
+		for (int i = 0; i < 10; i++) {
+			service.echo("fast");
+		}
+
+		target.delayMillis = 20;
+		for (int i = 0; i < 5; i++) {
+			service.echo("slow");
+		}
+
+		assertTrue(limiter.getLimit() < 10);
+	}
+
+	@Test
+	public void keepsTheLimitWithinItsBounds() {
+		HSFConcurrencyLimiter limiter = new HSFConcurrencyLimiter("demo.EchoService:1.0.0", 1000, 2, 8);
+
+		assertEquals(8, limiter.getLimit());
+		assertEquals(-1, limiter.getMinRttMicros());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsAMaxLimitBelowTheMinLimit() {
+		new HSFConcurrencyLimiter("demo.EchoService:1.0.0", 1, 2, 1);
+	}
+
+	private EchoService createService(HSFConcurrencyLimiter limiter) {
+		ProxyFactory factory = new ProxyFactory(target);
+		factory.addAdvice(limiter);
+		return (EchoService) factory.getProxy();
+	}
+
+	public interface EchoService {
+
+		String echo(String message);
+	}
+
+	private static class SlowService implements EchoService {
+
+		private final CountDownLatch entered = new CountDownLatch(1);
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		private volatile long delayMillis;
+
+		@Override
+		public String echo(String message) {
+			entered.countDown();
+			try {
+				release.await();
+				if (delayMillis > 0) {
+					Thread.sleep(delayMillis);
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return message;
+		}
+	}
+}